@@ -0,0 +1,62 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.jnosql.artemis.graph.GraphTraversalSourceSupplier;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Produces;
+
+/**
+ * Produces the in-memory stand-ins that the templates and repositories use in the benchmarks.
+ */
+@ApplicationScoped
+public class BenchmarkProducer {
+
+    @Produces
+    @ApplicationScoped
+    public DocumentCollectionManager getDocumentCollectionManager() {
+        return new StandInDocumentCollectionManager();
+    }
+
+    @Produces
+    @ApplicationScoped
+    public ColumnFamilyManager getColumnFamilyManager() {
+        return new StandInColumnFamilyManager();
+    }
+
+    @Produces
+    @ApplicationScoped
+    public Graph getGraph() {
+        return TinkerGraph.open();
+    }
+
+    @Produces
+    @ApplicationScoped
+    public GraphTraversalSourceSupplier getGraphTraversalSource(Graph graph) {
+        return graph::traversal;
+    }
+
+    public void close(@Disposes Graph graph) throws Exception {
+        graph.close();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.document.DocumentTemplate;
+import org.jnosql.artemis.graph.GraphTemplate;
+
+import javax.enterprise.inject.se.SeContainer;
+import javax.enterprise.inject.se.SeContainerInitializer;
+import javax.enterprise.inject.spi.Extension;
+import java.util.ServiceLoader;
+import java.util.stream.StreamSupport;
+
+/**
+ * Starts the CDI container to the benchmarks. The discovery is limited to the Artemis packages and to this one,
+ * so it does not scan the whole benchmark jar, thus the extensions are registered from the {@link ServiceLoader}.
+ * There is a class to each Artemis module because a package is scanned only in the archive of its class.
+ */
+final class Containers {
+
+    private Containers() {
+    }
+
+    static SeContainer start() {
+        Extension[] extensions = StreamSupport.stream(ServiceLoader.load(Extension.class).spliterator(), false)
+                .toArray(Extension[]::new);
+        return SeContainerInitializer.newInstance()
+                .disableDiscovery()
+                .addExtensions(extensions)
+                .addPackages(true, Entity.class, DocumentTemplate.class, ColumnTemplate.class, GraphTemplate.class,
+                        Containers.class)
+                .initialize();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.artemis.document.DocumentRepositoryProducer;
+import org.jnosql.artemis.document.DocumentTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.enterprise.inject.se.SeContainer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Measures the dispatch of the repository methods through the document repository proxy, down to the
+ * in-memory {@link StandInDocumentCollectionManager}.
+ */
+@State(Scope.Benchmark)
+public class DocumentRepositoryBenchmark {
+
+    private SeContainer container;
+
+    private PersonRepository repository;
+
+    @Setup
+    public void setUp() {
+        container = Containers.start();
+        DocumentTemplate template = container.select(DocumentTemplate.class).get();
+        repository = container.select(DocumentRepositoryProducer.class).get().get(PersonRepository.class, template);
+        People.all().forEach(template::insert);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Optional<Person> findById() {
+        return repository.findById(1L);
+    }
+
+    @Benchmark
+    public List<Person> findByName() {
+        return repository.findByName("Ada 1");
+    }
+
+    @Benchmark
+    public List<Person> findByNameAndAge() {
+        return repository.findByNameAndAgeGreaterThan("Ada 1", 10);
+    }
+
+    @Benchmark
+    public Person save() {
+        return repository.save(People.of(1L));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.artemis.column.ColumnEntityConverter;
+import org.jnosql.artemis.document.DocumentEntityConverter;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.enterprise.inject.se.SeContainer;
+
+/**
+ * Measures the conversions between an entity and the communication layer, on both directions,
+ * to documents and to columns.
+ */
+@State(Scope.Benchmark)
+public class EntityConverterBenchmark {
+
+    private SeContainer container;
+
+    private DocumentEntityConverter documentConverter;
+
+    private ColumnEntityConverter columnConverter;
+
+    private Person person;
+
+    private DocumentEntity document;
+
+    private ColumnEntity column;
+
+    @Setup
+    public void setUp() {
+        container = Containers.start();
+        documentConverter = container.select(DocumentEntityConverter.class).get();
+        columnConverter = container.select(ColumnEntityConverter.class).get();
+        person = People.of(1L);
+        document = documentConverter.toDocument(person);
+        column = columnConverter.toColumn(person);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public DocumentEntity toDocument() {
+        return documentConverter.toDocument(person);
+    }
+
+    @Benchmark
+    public Person fromDocument() {
+        return documentConverter.toEntity(document);
+    }
+
+    @Benchmark
+    public Person documentRoundTrip() {
+        return documentConverter.toEntity(documentConverter.toDocument(person));
+    }
+
+    @Benchmark
+    public ColumnEntity toColumn() {
+        return columnConverter.toColumn(person);
+    }
+
+    @Benchmark
+    public Person fromColumn() {
+        return columnConverter.toEntity(column);
+    }
+
+    @Benchmark
+    public Person columnRoundTrip() {
+        return columnConverter.toEntity(columnConverter.toColumn(person));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.artemis.graph.GraphTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.enterprise.inject.se.SeContainer;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the evaluation of Gremlin queries by the {@link GraphTemplate} on an in-memory TinkerGraph,
+ * both the script evaluation and the conversion of the vertices to entities.
+ */
+@State(Scope.Benchmark)
+public class GremlinBenchmark {
+
+    private static final String QUERY = "g.V().hasLabel('Project').has('stars', gt(50))";
+
+    private static final String PREPARED_QUERY = "g.V().hasLabel('Project').has('stars', gt(stars))";
+
+    private SeContainer container;
+
+    private GraphTemplate template;
+
+    @Setup
+    public void setUp() {
+        container = Containers.start();
+        template = container.select(GraphTemplate.class).get();
+        IntStream.range(0, 100).mapToObj(i -> new Project("project " + i, i)).forEach(template::insert);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public List<Project> query() {
+        return template.query(QUERY);
+    }
+
+    @Benchmark
+    public List<Project> prepare() {
+        return template.prepare(PREPARED_QUERY).bind("stars", 50).getResultList();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * The sample data shared by the benchmarks.
+ */
+final class People {
+
+    static final int SIZE = 10;
+
+    private People() {
+    }
+
+    static Person of(long id) {
+        return new Person(id, "Ada " + id, 20 + (int) id, Arrays.asList("+1 555 0100", "+1 555 0101"),
+                new Address("Main Street " + id, "Salvador"));
+    }
+
+    static List<Person> all() {
+        return LongStream.range(0, SIZE).mapToObj(People::of).collect(Collectors.toList());
+    }
+}
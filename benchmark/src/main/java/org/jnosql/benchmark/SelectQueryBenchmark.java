@@ -0,0 +1,59 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.aphrodite.antlr.AntlrSelectQuerySupplier;
+import org.jnosql.aphrodite.antlr.cache.CachedSelectQuerySupplier;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the parsing of a select query by ANTLR, with and without the cache.
+ */
+@State(Scope.Benchmark)
+public class SelectQueryBenchmark {
+
+    @Param({"select * from Person",
+            "select name, age from Person where name = \"Ada\" and age > 10 skip 10 limit 20 order by name asc",
+            "select * from Person where age between 10 and 30 or name in (\"Ada\", \"Grace\")"})
+    private String query;
+
+    private SelectQuerySupplier parser;
+
+    private SelectQuerySupplier cached;
+
+    @Setup
+    public void setUp() {
+        parser = new AntlrSelectQuerySupplier();
+        cached = new CachedSelectQuerySupplier();
+    }
+
+    @Benchmark
+    public SelectQuery parse() {
+        return parser.apply(query);
+    }
+
+    @Benchmark
+    public SelectQuery parseCached() {
+        return cached.apply(query);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import javax.enterprise.inject.Vetoed;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnFamilyManager} stand-in that keeps the entities in memory. A select scans the entities
+ * of the column family, it supports the comparison, AND, OR and NOT conditions and ignores the others and the sorts.
+ */
+@Vetoed
+final class StandInColumnFamilyManager implements ColumnFamilyManager {
+
+    private final Map<String, List<ColumnEntity>> families = new ConcurrentHashMap<>();
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        families.computeIfAbsent(entity.getName(), k -> new CopyOnWriteArrayList<>()).add(entity);
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        return insert(entity);
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        families.remove(query.getColumnFamily());
+    }
+
+    @Override
+    public List<ColumnEntity> select(ColumnQuery query) {
+        Stream<ColumnEntity> entities = families.getOrDefault(query.getColumnFamily(), Collections.emptyList())
+                .stream();
+        if (query.getCondition().isPresent()) {
+            ColumnCondition condition = query.getCondition().get();
+            entities = entities.filter(e -> test(condition, e));
+        }
+        entities = entities.skip(query.getSkip());
+        if (query.getLimit() > 0) {
+            entities = entities.limit(query.getLimit());
+        }
+        return entities.collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        return families.getOrDefault(columnFamily, Collections.emptyList()).size();
+    }
+
+    @Override
+    public void close() {
+        families.clear();
+    }
+
+    private static boolean test(ColumnCondition condition, ColumnEntity entity) {
+        Column column = condition.getColumn();
+        switch (condition.getCondition()) {
+            case AND:
+                return column.get(new TypeReference<List<ColumnCondition>>() {
+                }).stream().allMatch(c -> test(c, entity));
+            case OR:
+                return column.get(new TypeReference<List<ColumnCondition>>() {
+                }).stream().anyMatch(c -> test(c, entity));
+            case NOT:
+                return !test(column.get(ColumnCondition.class), entity);
+            case EQUALS:
+                return entity.find(column.getName())
+                        .map(found -> Objects.equals(found.getValue().get(column.get().getClass()), column.get()))
+                        .orElse(false);
+            case GREATER_THAN:
+                return compare(column, entity).map(c -> c > 0).orElse(false);
+            case GREATER_EQUALS_THAN:
+                return compare(column, entity).map(c -> c >= 0).orElse(false);
+            case LESSER_THAN:
+                return compare(column, entity).map(c -> c < 0).orElse(false);
+            case LESSER_EQUALS_THAN:
+                return compare(column, entity).map(c -> c <= 0).orElse(false);
+            default:
+                return true;
+        }
+    }
+
+    private static Optional<Integer> compare(Column column, ColumnEntity entity) {
+        Object expected = column.get();
+        if (!(expected instanceof Comparable)) {
+            return Optional.empty();
+        }
+        return entity.find(column.getName())
+                .map(found -> ((Comparable<Object>) found.getValue().get(expected.getClass())).compareTo(expected));
+    }
+}
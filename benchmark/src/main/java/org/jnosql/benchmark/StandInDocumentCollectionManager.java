@@ -0,0 +1,131 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import javax.enterprise.inject.Vetoed;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentCollectionManager} stand-in that keeps the entities in memory. A select scans the entities
+ * of the collection, it supports the comparison, AND, OR and NOT conditions and ignores the others and the sorts,
+ * so the benchmarks measure the mapping layer rather than a query engine.
+ */
+@Vetoed
+final class StandInDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final Map<String, List<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        collections.computeIfAbsent(entity.getName(), k -> new CopyOnWriteArrayList<>()).add(entity);
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return insert(entity);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        collections.remove(query.getDocumentCollection());
+    }
+
+    @Override
+    public List<DocumentEntity> select(DocumentQuery query) {
+        Stream<DocumentEntity> entities = collections.getOrDefault(query.getDocumentCollection(),
+                Collections.emptyList()).stream();
+        if (query.getCondition().isPresent()) {
+            DocumentCondition condition = query.getCondition().get();
+            entities = entities.filter(e -> test(condition, e));
+        }
+        entities = entities.skip(query.getSkip());
+        if (query.getLimit() > 0) {
+            entities = entities.limit(query.getLimit());
+        }
+        return entities.collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        return collections.getOrDefault(documentCollection, Collections.emptyList()).size();
+    }
+
+    @Override
+    public void close() {
+        collections.clear();
+    }
+
+    private static boolean test(DocumentCondition condition, DocumentEntity entity) {
+        Document document = condition.getDocument();
+        switch (condition.getCondition()) {
+            case AND:
+                return document.get(new TypeReference<List<DocumentCondition>>() {
+                }).stream().allMatch(c -> test(c, entity));
+            case OR:
+                return document.get(new TypeReference<List<DocumentCondition>>() {
+                }).stream().anyMatch(c -> test(c, entity));
+            case NOT:
+                return !test(document.get(DocumentCondition.class), entity);
+            case EQUALS:
+                return entity.find(document.getName())
+                        .map(found -> Objects.equals(found.getValue().get(document.get().getClass()), document.get()))
+                        .orElse(false);
+            case GREATER_THAN:
+                return compare(document, entity).map(c -> c > 0).orElse(false);
+            case GREATER_EQUALS_THAN:
+                return compare(document, entity).map(c -> c >= 0).orElse(false);
+            case LESSER_THAN:
+                return compare(document, entity).map(c -> c < 0).orElse(false);
+            case LESSER_EQUALS_THAN:
+                return compare(document, entity).map(c -> c <= 0).orElse(false);
+            default:
+                return true;
+        }
+    }
+
+    private static Optional<Integer> compare(Document document, DocumentEntity entity) {
+        Object expected = document.get();
+        if (!(expected instanceof Comparable)) {
+            return Optional.empty();
+        }
+        return entity.find(document.getName())
+                .map(found -> ((Comparable<Object>) found.getValue().get(expected.getClass())).compareTo(expected));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.benchmark;
+
+import org.jnosql.diana.api.ValueReader;
+import org.jnosql.diana.api.ValueReaderDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Measures the conversions of {@link ValueReaderDecorator}, that run on each field read from a database.
+ */
+@State(Scope.Benchmark)
+public class ValueReaderBenchmark {
+
+    private final ValueReader reader = ValueReaderDecorator.getInstance();
+
+    private final Object text = "42";
+
+    private final Object number = 42;
+
+    @Benchmark
+    public Integer sameType() {
+        return reader.read(Integer.class, number);
+    }
+
+    @Benchmark
+    public Integer textToInteger() {
+        return reader.read(Integer.class, text);
+    }
+
+    @Benchmark
+    public Long integerToLong() {
+        return reader.read(Long.class, number);
+    }
+
+    @Benchmark
+    public BigDecimal textToBigDecimal() {
+        return reader.read(BigDecimal.class, text);
+    }
+
+    @Benchmark
+    public String integerToText() {
+        return reader.read(String.class, number);
+    }
+}
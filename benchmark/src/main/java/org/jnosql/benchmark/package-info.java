@@ -0,0 +1,22 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+/**
+ * JMH benchmarks to the hot paths of the mapping and communication layers: the entity converters, the query
+ * parser, the repository proxies, the {@link org.jnosql.diana.api.ValueReader} conversions and the Gremlin
+ * queries. They run on in-memory stand-ins instead of a database, so they measure only the JNoSQL code.
+ */
+package org.jnosql.benchmark;
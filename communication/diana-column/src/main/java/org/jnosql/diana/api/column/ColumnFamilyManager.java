@@ -18,6 +18,9 @@
 package org.jnosql.diana.api.column;
 
 
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.QueryException;
 
@@ -26,6 +29,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -67,6 +71,38 @@ public interface ColumnFamilyManager extends AutoCloseable {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * Saves entities as a bulk operation following the {@link BulkOptions}, by default it's just run for each
+     * saving using {@link ColumnFamilyManager#insert(ColumnEntity)} reporting the failure of each entity,
+     * each NoSQL vendor might replace to a native bulk operation that sends the entities in chunks.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @return the {@link BulkResult} with the entities saved and the failures
+     * @throws NullPointerException when either entities or options are null
+     */
+    default BulkResult<ColumnEntity> insert(Iterable<ColumnEntity> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return Bulks.execute(entities, options, this::insert);
+    }
+
+    /**
+     * Updates entities as a bulk operation following the {@link BulkOptions}, by default it's just run for each
+     * updating using {@link ColumnFamilyManager#update(ColumnEntity)} reporting the failure of each entity,
+     * each NoSQL vendor might replace to a native bulk operation that sends the entities in chunks.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @return the {@link BulkResult} with the entities updated and the failures
+     * @throws NullPointerException when either entities or options are null
+     */
+    default BulkResult<ColumnEntity> update(Iterable<ColumnEntity> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return Bulks.execute(entities, options, this::update);
+    }
+
     /**
      * Saves a Column family entity with time to live
      *
@@ -129,6 +165,42 @@ public interface ColumnFamilyManager extends AutoCloseable {
      */
     List<ColumnEntity> select(ColumnQuery query);
 
+    /**
+     * Finds {@link ColumnEntity} from select as a {@link Stream}, by default it's just the stream of
+     * {@link ColumnFamilyManager#select(ColumnQuery)}, each NoSQL vendor might replace to a
+     * cursor-based implementation that fetches the rows while the stream is consumed.
+     * The stream should be closed to release the resources held by the cursor.
+     *
+     * @param query - select to figure out entities
+     * @return entities found by select as a lazy {@link Stream}
+     * @throws NullPointerException          when select is null
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<ColumnEntity> stream(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query).stream();
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select as a {@link Stream} using the fetch size as a hint of how many
+     * rows the cursor should bring on each round trip, by default it ignores the hint and uses
+     * {@link ColumnFamilyManager#stream(ColumnQuery)}, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param query     - select to figure out entities
+     * @param fetchSize the number of rows fetched per round trip
+     * @return entities found by select as a lazy {@link Stream}
+     * @throws NullPointerException          when select is null
+     * @throws IllegalArgumentException      when fetchSize is negative or zero
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<ColumnEntity> stream(ColumnQuery query, int fetchSize) {
+        Objects.requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero: " + fetchSize);
+        }
+        return stream(query);
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
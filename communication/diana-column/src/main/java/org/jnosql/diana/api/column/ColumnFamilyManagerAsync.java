@@ -18,13 +18,20 @@
 package org.jnosql.diana.api.column;
 
 
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.reactive.Publishers;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -143,6 +150,44 @@ public interface ColumnFamilyManagerAsync extends AutoCloseable {
         StreamSupport.stream(entities.spliterator(), false).forEach(this::update);
     }
 
+    /**
+     * Saves entities asynchronously as a bulk operation following the {@link BulkOptions}, by default it's just
+     * run for each saving using {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Consumer)},
+     * each NoSQL vendor might replace to a native bulk operation that sends the entities in chunks.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @param callBack the callback, when the process is finished will call this instance returning
+     *                 the {@link BulkResult} with the entities saved and the failures
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws NullPointerException                            when there is a null parameter
+     */
+    default void insert(Iterable<ColumnEntity> entities, BulkOptions options, Consumer<BulkResult<ColumnEntity>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        Bulks.execute(entities, options, this::insert, callBack);
+    }
+
+    /**
+     * Updates entities asynchronously as a bulk operation following the {@link BulkOptions}, by default it's just
+     * run for each updating using {@link ColumnFamilyManagerAsync#update(ColumnEntity, Consumer)},
+     * each NoSQL vendor might replace to a native bulk operation that sends the entities in chunks.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @param callBack the callback, when the process is finished will call this instance returning
+     *                 the {@link BulkResult} with the entities updated and the failures
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws NullPointerException                            when there is a null parameter
+     */
+    default void update(Iterable<ColumnEntity> entities, BulkOptions options, Consumer<BulkResult<ColumnEntity>> callBack) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        Bulks.execute(entities, options, this::update, callBack);
+    }
+
     /**
      * Updates an entity asynchronously
      *
@@ -261,6 +306,241 @@ public interface ColumnFamilyManagerAsync extends AutoCloseable {
      */
     void count(String columnFamily, Consumer<Long> callback);
 
+    /**
+     * Saves an entity asynchronously reporting the failure to the error callback. By default it runs
+     * {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Consumer)} and reports the exception it throws,
+     * each NoSQL vendor might replace it to report the asynchronous failures as well.
+     *
+     * @param entity        entity to be saved
+     * @param callBack      the callback with the saved entity
+     * @param errorCallBack the callback with the failure
+     * @throws NullPointerException when either entity or callBack or errorCallBack are null
+     */
+    default void insert(ColumnEntity entity, Consumer<ColumnEntity> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            insert(entity, callBack);
+        } catch (RuntimeException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live reporting the failure to the error callback. By default it
+     * runs {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Duration, Consumer)} and reports the exception it throws,
+     * each NoSQL vendor might replace it to report the asynchronous failures as well.
+     *
+     * @param entity        entity to be saved
+     * @param ttl           time to live
+     * @param callBack      the callback with the saved entity
+     * @param errorCallBack the callback with the failure
+     * @throws NullPointerException when either entity or ttl or callBack or errorCallBack are null
+     */
+    default void insert(ColumnEntity entity, Duration ttl, Consumer<ColumnEntity> callBack,
+                        Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            insert(entity, ttl, callBack);
+        } catch (RuntimeException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    /**
+     * Updates an entity asynchronously reporting the failure to the error callback. By default it runs
+     * {@link ColumnFamilyManagerAsync#update(ColumnEntity, Consumer)} and reports the exception it throws,
+     * each NoSQL vendor might replace it to report the asynchronous failures as well.
+     *
+     * @param entity        entity to be updated
+     * @param callBack      the callback with the updated entity
+     * @param errorCallBack the callback with the failure
+     * @throws NullPointerException when either entity or callBack or errorCallBack are null
+     */
+    default void update(ColumnEntity entity, Consumer<ColumnEntity> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            update(entity, callBack);
+        } catch (RuntimeException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    /**
+     * Deletes entities asynchronously reporting the failure to the error callback. By default it runs
+     * {@link ColumnFamilyManagerAsync#delete(ColumnDeleteQuery, Consumer)} and reports the exception it throws,
+     * each NoSQL vendor might replace it to report the asynchronous failures as well.
+     *
+     * @param query         query to delete entities
+     * @param callBack      the callback when the entities are deleted
+     * @param errorCallBack the callback with the failure
+     * @throws NullPointerException when either query or callBack or errorCallBack are null
+     */
+    default void delete(ColumnDeleteQuery query, Consumer<Void> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            delete(query, callBack);
+        } catch (RuntimeException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    /**
+     * Finds entities from select asynchronously reporting the failure to the error callback. By default it runs
+     * {@link ColumnFamilyManagerAsync#select(ColumnQuery, Consumer)} and reports the exception it throws,
+     * each NoSQL vendor might replace it to report the asynchronous failures as well.
+     *
+     * @param query         select to figure out entities
+     * @param callBack      the callback with the result
+     * @param errorCallBack the callback with the failure
+     * @throws NullPointerException when either query or callBack or errorCallBack are null
+     */
+    default void select(ColumnQuery query, Consumer<List<ColumnEntity>> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            select(query, callBack);
+        } catch (RuntimeException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    /**
+     * Returns the number of elements asynchronously reporting the failure to the error callback. By default it runs
+     * {@link ColumnFamilyManagerAsync#count(String, Consumer)} and reports the exception it throws,
+     * each NoSQL vendor might replace it to report the asynchronous failures as well.
+     *
+     * @param columnFamily  the column family
+     * @param callback      the callback with the number of elements
+     * @param errorCallBack the callback with the failure
+     * @throws NullPointerException when either columnFamily or callback or errorCallBack are null
+     */
+    default void count(String columnFamily, Consumer<Long> callback, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            count(columnFamily, callback);
+        } catch (RuntimeException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    /**
+     * Saves an entity asynchronously returning a {@link CompletionStage}
+     *
+     * @param entity entity to be saved
+     * @return the stage with the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    default CompletionStage<ColumnEntity> insertStage(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of((c, e) -> insert(entity, c, e));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live returning a {@link CompletionStage}
+     *
+     * @param entity entity to be saved
+     * @param ttl    time to live
+     * @return the stage with the entity saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    default CompletionStage<ColumnEntity> insertStage(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of((c, e) -> insert(entity, ttl, c, e));
+    }
+
+    /**
+     * Updates an entity asynchronously returning a {@link CompletionStage}
+     *
+     * @param entity entity to be updated
+     * @return the stage with the entity updated
+     * @throws NullPointerException when entity is null
+     */
+    default CompletionStage<ColumnEntity> updateStage(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of((c, e) -> update(entity, c, e));
+    }
+
+    /**
+     * Deletes an entity asynchronously returning a {@link CompletionStage}
+     *
+     * @param query the query to delete an entity
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteStage(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of((c, e) -> delete(query, c, e));
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select asynchronously returning a {@link CompletionStage}
+     *
+     * @param query select to figure out entities
+     * @return the stage with the result of select
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<List<ColumnEntity>> selectStage(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of((c, e) -> select(query, c, e));
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select as a {@link Publisher}, the entities are sent following the demand of
+     * the subscriber. By default it runs {@link ColumnFamilyManagerAsync#select(ColumnQuery, Consumer)} at the first request and
+     * sends the result on demand, each NoSQL vendor might replace to a cursor that fetches as the demand grows.
+     *
+     * @param query select to figure out entities
+     * @return the {@link Publisher} of the select
+     * @throws NullPointerException when query is null
+     */
+    default Publisher<ColumnEntity> selectPublisher(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Publishers.ofAsync(c -> select(query, c));
+    }
+
+    /**
+     * Executes a query asynchronously returning a {@link CompletionStage}
+     *
+     * @param query the query as {@link String}
+     * @return the stage with the result of the query
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<List<ColumnEntity>> queryStage(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> query(query, c));
+    }
+
+    /**
+     * Returns a single entity from select asynchronously as a {@link CompletionStage}, when the result has
+     * more than one entity the stage completes exceptionally with {@link NonUniqueResultException}
+     *
+     * @param query select to figure out entities
+     * @return the stage with the single result
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Optional<ColumnEntity>> singleResultStage(ColumnQuery query) {
+        return selectStage(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        });
+    }
+
+    /**
+     * Returns the number of elements asynchronously as a {@link CompletionStage}
+     *
+     * @param columnFamily the column family
+     * @return the stage with the number of elements
+     * @throws NullPointerException when columnFamily is null
+     */
+    default CompletionStage<Long> countStage(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return CompletionStages.of((c, e) -> count(columnFamily, c, e));
+    }
+
     /**
      * closes a resource
      */
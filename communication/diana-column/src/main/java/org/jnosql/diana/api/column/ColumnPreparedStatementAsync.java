@@ -18,6 +18,7 @@ package org.jnosql.diana.api.column;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -50,4 +51,27 @@ public interface ColumnPreparedStatementAsync {
      */
     void getSingleResult(Consumer<Optional<ColumnEntity>> callBack);
 
+    /**
+     * Adds the current bound values as a new row of the batch, the bound values are kept to the next row.
+     *
+     * @return the same query instance
+     * @throws org.jnosql.diana.api.QueryException when there is a parameter without value
+     * @throws UnsupportedOperationException       when the statement is not either insert, update or delete
+     */
+    default ColumnPreparedStatementAsync addBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
+    /**
+     * Executes every row added by {@link ColumnPreparedStatementAsync#addBatch()} as a single bulk operation
+     * and clears the batch.
+     *
+     * @return the {@link CompletionStage} of the entities either inserted or updated, if delete an empty list,
+     * it completes exceptionally with {@link org.jnosql.diana.api.BulkException} when at least one row fails
+     * @throws UnsupportedOperationException when the statement is not either insert, update or delete
+     */
+    default CompletionStage<List<ColumnEntity>> executeBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
 }
@@ -0,0 +1,142 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.column.query;
+
+import org.jnosql.diana.api.Params;
+import org.jnosql.diana.api.PreparedQuery;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnPreparedStatement;
+import org.jnosql.diana.api.column.ColumnPreparedStatementAsync;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An immutable statement, parsed once to each query text, that creates the prepared statements. Each execution
+ * has its own bound values, so a statement is shared between the executions and the threads.
+ */
+final class ColumnStatement {
+
+    private final PreparedQuery<ColumnEntity> entity;
+
+    private final PreparedQuery<ColumnQuery> columnQuery;
+
+    private final PreparedQuery<ColumnDeleteQuery> columnDeleteQuery;
+
+    private final PreparedStatementType type;
+
+    private final String query;
+
+    private final Duration duration;
+
+    private ColumnStatement(PreparedQuery<ColumnEntity> entity,
+                            PreparedQuery<ColumnQuery> columnQuery,
+                            PreparedQuery<ColumnDeleteQuery> columnDeleteQuery,
+                            PreparedStatementType type,
+                            String query,
+                            Duration duration) {
+        this.entity = entity;
+        this.columnQuery = columnQuery;
+        this.columnDeleteQuery = columnDeleteQuery;
+        this.type = type;
+        this.query = query;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates a new execution of this statement
+     *
+     * @param manager the manager
+     * @return a new {@link ColumnPreparedStatement} without any value bound
+     * @throws NullPointerException when manager is null
+     */
+    ColumnPreparedStatement newExecution(ColumnFamilyManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new DefaultColumnPreparedStatement(this, manager);
+    }
+
+    /**
+     * Creates a new asynchronous execution of this statement
+     *
+     * @param manager the manager
+     * @return a new {@link ColumnPreparedStatementAsync} without any value bound
+     * @throws NullPointerException when manager is null
+     */
+    ColumnPreparedStatementAsync newExecution(ColumnFamilyManagerAsync manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new DefaultColumnPreparedStatementAsync(this, manager);
+    }
+
+    PreparedStatementType getType() {
+        return type;
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    ColumnEntity getEntity(Map<String, Object> values) {
+        return entity.bind(values);
+    }
+
+    ColumnQuery getColumnQuery(Map<String, Object> values) {
+        return columnQuery.bind(values);
+    }
+
+    ColumnDeleteQuery getColumnDeleteQuery(Map<String, Object> values) {
+        return columnDeleteQuery.bind(values);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    enum PreparedStatementType {
+        SELECT, DELETE, UPDATE, INSERT
+    }
+
+    static ColumnStatement select(Function<Params, ColumnQuery> columnQuery, String query) {
+        return new ColumnStatement(null, PreparedQuery.of(columnQuery), null,
+                PreparedStatementType.SELECT, query, null);
+    }
+
+    static ColumnStatement delete(Function<Params, ColumnDeleteQuery> columnDeleteQuery, String query) {
+        return new ColumnStatement(null, null, PreparedQuery.of(columnDeleteQuery),
+                PreparedStatementType.DELETE, query, null);
+    }
+
+    static ColumnStatement insert(Function<Params, ColumnEntity> entity, String query, Duration duration) {
+        return new ColumnStatement(PreparedQuery.perExecution(entity), null, null,
+                PreparedStatementType.INSERT, query, duration);
+    }
+
+    static ColumnStatement update(Function<Params, ColumnEntity> entity, String query) {
+        return new ColumnStatement(PreparedQuery.perExecution(entity), null, null,
+                PreparedStatementType.UPDATE, query, null);
+    }
+}
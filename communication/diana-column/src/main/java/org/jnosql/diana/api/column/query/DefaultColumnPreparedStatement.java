@@ -16,61 +16,48 @@
  */
 package org.jnosql.diana.api.column.query;
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
-import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
-import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnPreparedStatement;
-import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.column.query.ColumnStatement.PreparedStatementType;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+/**
+ * An execution of a {@link ColumnStatement}. It keeps the values bound to it and each run creates its query from
+ * them, so it might run many times with different values, and the executions of a statement never share them.
+ * The batch is guarded by its own lock, so a row added from another thread, such as a callback, is never lost.
+ */
 final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
 
-    private final ColumnEntity entity;
-
-    private final ColumnQuery columnQuery;
-
-    private final ColumnDeleteQuery columnDeleteQuery;
+    private final ColumnStatement statement;
 
-    private final PreparedStatementType type;
-
-    private final Params params;
+    private final ColumnFamilyManager manager;
 
-    private final String query;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final List<String> paramsLeft;
+    private final List<ColumnEntity> batchEntities = new ArrayList<>();
 
-    private final Duration duration;
+    private final List<ColumnDeleteQuery> batchDeleteQueries = new ArrayList<>();
 
-    private final ColumnFamilyManager manager;
-
-    private DefaultColumnPreparedStatement(ColumnEntity entity,
-                                           ColumnQuery columnQuery,
-                                           ColumnDeleteQuery columnDeleteQuery,
-                                           PreparedStatementType type,
-                                           Params params,
-                                           String query,
-                                           List<String> paramsLeft,
-                                           Duration duration,
-                                           ColumnFamilyManager manager) {
-        this.entity = entity;
-        this.columnQuery = columnQuery;
-        this.columnDeleteQuery = columnDeleteQuery;
-        this.type = type;
-        this.params = params;
-        this.query = query;
-        this.paramsLeft = paramsLeft;
+    DefaultColumnPreparedStatement(ColumnStatement statement, ColumnFamilyManager manager) {
+        this.statement = statement;
         this.manager = manager;
-        this.duration = duration;
     }
 
     @Override
@@ -78,29 +65,27 @@ final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
     @Override
     public List<ColumnEntity> getResultList() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
         switch (type) {
             case SELECT:
-                return manager.select(columnQuery);
+                return manager.select(statement.getColumnQuery(values));
             case DELETE:
-                manager.delete(columnDeleteQuery);
+                manager.delete(statement.getColumnDeleteQuery(values));
                 return emptyList();
             case UPDATE:
-                return singletonList(manager.update(entity));
+                return singletonList(manager.update(statement.getEntity(values)));
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    return singletonList(manager.insert(entity));
+                    return singletonList(manager.insert(statement.getEntity(values)));
                 } else {
-                    return singletonList(manager.insert(entity, duration));
+                    return singletonList(manager.insert(statement.getEntity(values), duration));
                 }
             default:
                 throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -118,59 +103,74 @@ final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
             return Optional.of(entities.get(0));
         }
 
-        throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        throw new NonUniqueResultException("The select returns more than one entity, select: " + statement.getQuery());
     }
 
-    enum PreparedStatementType {
-        SELECT, DELETE, UPDATE, INSERT
+    @Override
+    public ColumnPreparedStatement addBatch() {
+        PreparedStatementType type = statement.getType();
+        switch (type) {
+            case DELETE:
+                add(batchDeleteQueries, statement.getColumnDeleteQuery(values));
+                return this;
+            case UPDATE:
+            case INSERT:
+                add(batchEntities, statement.getEntity(values));
+                return this;
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-
     @Override
-    public String toString() {
-        return query;
+    public List<ColumnEntity> executeBatch() {
+        BulkOptions options = BulkOptions.defaultOptions();
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
+        switch (type) {
+            case DELETE:
+                check(Bulks.execute(drain(batchDeleteQueries), options, q -> {
+                    manager.delete(q);
+                    return q;
+                }));
+                return emptyList();
+            case UPDATE:
+                return check(manager.update(drain(batchEntities), options));
+            case INSERT:
+                if (Objects.isNull(duration)) {
+                    return check(manager.insert(drain(batchEntities), options));
+                } else {
+                    return check(Bulks.execute(drain(batchEntities), options, e -> manager.insert(e, duration)));
+                }
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-    static ColumnPreparedStatement select(
-            ColumnQuery columnQuery,
-            Params params,
-            String query,
-            ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> void add(List<T> batch, T item) {
+        synchronized (batch) {
+            batch.add(item);
+        }
     }
 
-    static ColumnPreparedStatement delete(ColumnDeleteQuery columnDeleteQuery,
-                                          Params params,
-                                          String query,
-                                          ColumnFamilyManager manager) {
-
-        return new DefaultColumnPreparedStatement(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> List<T> drain(List<T> batch) {
+        synchronized (batch) {
+            List<T> items = new ArrayList<>(batch);
+            batch.clear();
+            return items;
+        }
     }
 
-    static ColumnPreparedStatement insert(ColumnEntity entity,
-                                          Params params,
-                                          String query,
-                                          Duration duration,
-                                          ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
-
+    private static <T> List<T> check(BulkResult<T> result) {
+        if (result.hasFailures()) {
+            throw new BulkException("The batch failed on " + result.getFailures().size() + " rows",
+                    result.getFailures());
+        }
+        return result.getResults();
     }
 
-    static ColumnPreparedStatement update(ColumnEntity entity,
-                                          Params params,
-                                          String query,
-                                          ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
-
+    @Override
+    public String toString() {
+        return statement.getQuery();
     }
 }
@@ -16,60 +16,49 @@
  */
 package org.jnosql.diana.api.column.query;
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
-import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
-import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.jnosql.diana.api.column.ColumnPreparedStatementAsync;
-import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.column.query.ColumnStatement.PreparedStatementType;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
+/**
+ * An asynchronous execution of a {@link ColumnStatement}. It keeps the values bound to it and each run creates its
+ * query from them, so it might run many times with different values, and the executions of a statement never share
+ * them. The batch is guarded by its own lock, so a row added from another thread, such as a callback, is never lost.
+ */
 final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStatementAsync {
 
-    private final ColumnEntity entity;
-
-    private final ColumnQuery columnQuery;
-
-    private final ColumnDeleteQuery columnDeleteQuery;
+    private final ColumnStatement statement;
 
-    private final PreparedStatementType type;
-
-    private final Params params;
-
-    private final String query;
+    private final ColumnFamilyManagerAsync manager;
 
-    private final List<String> paramsLeft;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final Duration duration;
+    private final List<ColumnEntity> batchEntities = new ArrayList<>();
 
-    private final ColumnFamilyManagerAsync manager;
+    private final List<ColumnDeleteQuery> batchDeleteQueries = new ArrayList<>();
 
-    private DefaultColumnPreparedStatementAsync(ColumnEntity entity,
-                                                ColumnQuery columnQuery,
-                                                ColumnDeleteQuery columnDeleteQuery,
-                                                PreparedStatementType type,
-                                                Params params,
-                                                String query,
-                                                List<String> paramsLeft,
-                                                Duration duration,
-                                                ColumnFamilyManagerAsync manager) {
-        this.entity = entity;
-        this.columnQuery = columnQuery;
-        this.columnDeleteQuery = columnDeleteQuery;
-        this.type = type;
-        this.params = params;
-        this.query = query;
-        this.paramsLeft = paramsLeft;
+    DefaultColumnPreparedStatementAsync(ColumnStatement statement, ColumnFamilyManagerAsync manager) {
+        this.statement = statement;
         this.manager = manager;
-        this.duration = duration;
     }
 
     @Override
@@ -77,33 +66,31 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
     @Override
     public void getResultList(Consumer<List<ColumnEntity>> callBack) {
         Objects.requireNonNull(callBack, "callBack is required");
-
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
         switch (type) {
             case SELECT:
-                manager.select(columnQuery, callBack);
+                manager.select(statement.getColumnQuery(values), callBack);
                 return;
             case DELETE:
-                manager.delete(columnDeleteQuery, c -> callBack.accept(Collections.emptyList()));
+                manager.delete(statement.getColumnDeleteQuery(values), c -> callBack.accept(Collections.emptyList()));
                 return;
             case UPDATE:
-                manager.update(entity, c -> callBack.accept(Collections.singletonList(c)));
+                manager.update(statement.getEntity(values), c -> callBack.accept(Collections.singletonList(c)));
                 return;
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    manager.insert(entity, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert(statement.getEntity(values), c -> callBack.accept(Collections.singletonList(c)));
                 } else {
-                    manager.insert(entity, duration, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert(statement.getEntity(values), duration,
+                            c -> callBack.accept(Collections.singletonList(c)));
                 }
                 return;
             default:
@@ -124,61 +111,86 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
                 callBack.accept(Optional.of(entities.get(0)));
                 return;
             }
-            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + statement.getQuery());
         });
 
     }
 
-    enum PreparedStatementType {
-        SELECT, DELETE, UPDATE, INSERT
+    @Override
+    public ColumnPreparedStatementAsync addBatch() {
+        PreparedStatementType type = statement.getType();
+        switch (type) {
+            case DELETE:
+                add(batchDeleteQueries, statement.getColumnDeleteQuery(values));
+                return this;
+            case UPDATE:
+            case INSERT:
+                add(batchEntities, statement.getEntity(values));
+                return this;
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-
     @Override
-    public String toString() {
-        return query;
+    public CompletionStage<List<ColumnEntity>> executeBatch() {
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
+        if (PreparedStatementType.SELECT.equals(type)) {
+            throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
+        CompletableFuture<List<ColumnEntity>> future = new CompletableFuture<>();
+        BulkOptions options = BulkOptions.defaultOptions();
+        try {
+            switch (type) {
+                case DELETE:
+                    Bulks.execute(drain(batchDeleteQueries), options,
+                            (q, c) -> manager.delete(q, v -> c.accept(q)),
+                            r -> complete(future, r, Collections.emptyList()));
+                    break;
+                case UPDATE:
+                    manager.update(drain(batchEntities), options, r -> complete(future, r, r.getResults()));
+                    break;
+                default:
+                    if (Objects.isNull(duration)) {
+                        manager.insert(drain(batchEntities), options, r -> complete(future, r, r.getResults()));
+                    } else {
+                        Bulks.execute(drain(batchEntities), options, (e, c) -> manager.insert(e, duration, c),
+                                r -> complete(future, r, r.getResults()));
+                    }
+            }
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
     }
 
-    static ColumnPreparedStatementAsync select(
-            ColumnQuery columnQuery,
-            Params params,
-            String query,
-            ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> void add(List<T> batch, T item) {
+        synchronized (batch) {
+            batch.add(item);
+        }
     }
 
-    static ColumnPreparedStatementAsync delete(ColumnDeleteQuery columnDeleteQuery,
-                                               Params params,
-                                               String query,
-                                               ColumnFamilyManagerAsync manager) {
-
-        return new DefaultColumnPreparedStatementAsync(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> List<T> drain(List<T> batch) {
+        synchronized (batch) {
+            List<T> items = new ArrayList<>(batch);
+            batch.clear();
+            return items;
+        }
     }
 
-    static ColumnPreparedStatementAsync insert(ColumnEntity entity,
-                                               Params params,
-                                               String query,
-                                               Duration duration,
-                                               ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
-
+    private static <T> void complete(CompletableFuture<List<ColumnEntity>> future, BulkResult<T> result,
+                                     List<ColumnEntity> entities) {
+        if (result.hasFailures()) {
+            future.completeExceptionally(new BulkException("The batch failed on " + result.getFailures().size()
+                    + " rows", result.getFailures()));
+        } else {
+            future.complete(entities);
+        }
     }
 
-    static ColumnPreparedStatementAsync update(ColumnEntity entity,
-                                               Params params,
-                                               String query,
-                                               ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
-
+    @Override
+    public String toString() {
+        return statement.getQuery();
     }
-}
\ No newline at end of file
+}
@@ -39,16 +39,15 @@ import static java.util.Objects.requireNonNull;
 final class DeleteQueryParser implements DeleteQueryConverter{
 
     private final DeleteQuerySupplier selectQuerySupplier;
-    private final CacheQuery<ColumnDeleteQuery> cache;
 
     DeleteQueryParser() {
         this.selectQuerySupplier = DeleteQuerySupplier.getSupplier();
-        cache = new CacheQuery<>(this::getQuery);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer);
+        ColumnDeleteQuery columnDeleteQuery = ColumnQueryCaches.DELETE.get(query, observer,
+                () -> getQuery(query, observer));
         manager.delete(columnDeleteQuery);
         return Collections.emptyList();
     }
@@ -56,24 +55,28 @@ final class DeleteQueryParser implements DeleteQueryConverter{
     void queryAsync(String query, ColumnFamilyManagerAsync manager,
                     Consumer<List<ColumnEntity>> callBack, ColumnObserverParser observer) {
 
-        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer);
+        ColumnDeleteQuery columnDeleteQuery = ColumnQueryCaches.DELETE.get(query, observer,
+                () -> getQuery(query, observer));
         manager.delete(columnDeleteQuery, v -> callBack.accept(Collections.emptyList()));
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
                                     ColumnObserverParser observer) {
-        Params params = new Params();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return DefaultColumnPreparedStatement.delete(columnDeleteQuery, params, query, manager);
+        return getStatement(query, observer).newExecution(manager);
     }
 
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return DefaultColumnPreparedStatementAsync.delete(columnDeleteQuery, params, query, manager);
+        return getStatement(query, observer).newExecution(manager);
+    }
 
+    private ColumnStatement getStatement(String query, ColumnObserverParser observer) {
+        return ColumnQueryCaches.STATEMENT.get(query, observer, () -> {
+            DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
+            ColumnObserverParser cached = new CachedColumnObserverParser(observer);
+            return ColumnStatement.delete(p -> getQuery(p, cached, deleteQuery), query);
+        });
     }
 
     @Override
@@ -87,12 +90,6 @@ final class DeleteQueryParser implements DeleteQueryConverter{
         return new DefaultColumnDeleteQueryParams(query, params);
     }
 
-    private ColumnDeleteQuery getQuery(String query, Params params, ColumnObserverParser observer) {
-        DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
-    }
-
     private ColumnDeleteQuery getQuery(Params params, ColumnObserverParser observer, DeleteQuery deleteQuery) {
         String columnFamily = observer.fireEntity(deleteQuery.getEntity());
         List<String> columns = deleteQuery.getFields().stream()
@@ -88,28 +88,23 @@ final class InsertQueryParser {
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
                                     ColumnObserverParser observer) {
-        InsertQuery insertQuery = supplier.apply(query);
-
-        String columnFamily = observer.fireEntity(insertQuery.getEntity());
-        Params params = new Params();
-
-        Optional<Duration> ttl = insertQuery.getTtl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
-
-        return DefaultColumnPreparedStatement.insert(entity, params, query, ttl.orElse(null), manager);
-
+        return getStatement(query, observer).newExecution(manager);
     }
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-
-        InsertQuery insertQuery = supplier.apply(query);
-        String columnFamily = observer.fireEntity(insertQuery.getEntity());
-        Optional<Duration> ttl = insertQuery.getTtl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
+        return getStatement(query, observer).newExecution(manager);
+    }
 
-        return DefaultColumnPreparedStatementAsync.insert(entity, params, query, ttl.orElse(null), manager);
+    private ColumnStatement getStatement(String query, ColumnObserverParser observer) {
+        return ColumnQueryCaches.STATEMENT.get(query, observer, () -> {
+            InsertQuery insertQuery = supplier.apply(query);
+            ColumnObserverParser cached = new CachedColumnObserverParser(observer);
+            String columnFamily = cached.fireEntity(insertQuery.getEntity());
+            Optional<Duration> ttl = insertQuery.getTtl();
+            return ColumnStatement.insert(p -> getEntity(insertQuery, columnFamily, p, cached), query,
+                    ttl.orElse(null));
+        });
     }
 
     private ColumnEntity getEntity(InsertQuery insertQuery, String columnFamily, Params params,
@@ -42,34 +42,28 @@ import static org.jnosql.diana.api.Sort.SortType.DESC;
 final class SelectQueryParser implements SelectQueryConverter {
 
     private final SelectQuerySupplier selectQuerySupplier;
-    private final CacheQuery<ColumnQuery> cache;
 
     SelectQueryParser() {
         this.selectQuerySupplier = SelectQuerySupplier.getSupplier();
-        this.cache = new CacheQuery<>(this::getColumnQuery);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        ColumnQuery columnQuery = cache.get(query, observer);
+        ColumnQuery columnQuery = ColumnQueryCaches.SELECT.get(query, observer,
+                () -> getColumnQuery(query, observer));
         return manager.select(columnQuery);
     }
 
     void queryAsync(String query, ColumnFamilyManagerAsync manager, Consumer<List<ColumnEntity>> callBack,
                     ColumnObserverParser observer) {
 
-        ColumnQuery columnQuery = cache.get(query, observer);
+        ColumnQuery columnQuery = ColumnQueryCaches.SELECT.get(query, observer,
+                () -> getColumnQuery(query, observer));
         manager.select(columnQuery, callBack);
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
-
-        Params params = new Params();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return DefaultColumnPreparedStatement.select(columnQuery, params, query, manager);
+        return getStatement(query, observer).newExecution(manager);
     }
 
 
@@ -85,12 +79,15 @@ final class SelectQueryParser implements SelectQueryConverter {
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
+        return getStatement(query, observer).newExecution(manager);
+    }
 
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return DefaultColumnPreparedStatementAsync.select(columnQuery, params, query, manager);
+    private ColumnStatement getStatement(String query, ColumnObserverParser observer) {
+        return ColumnQueryCaches.STATEMENT.get(query, observer, () -> {
+            SelectQuery selectQuery = selectQuerySupplier.apply(query);
+            ColumnObserverParser cached = new CachedColumnObserverParser(observer);
+            return ColumnStatement.select(p -> getColumnQuery(p, selectQuery, cached), query);
+        });
     }
 
     private ColumnQuery getColumnQuery(String query, ColumnObserverParser observer) {
@@ -71,24 +71,20 @@ final class UpdateQueryParser {
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
-
-        Params params = new Params();
-
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
-
-        return DefaultColumnPreparedStatement.update(entity, params, query, manager);
+        return getStatement(query, observer).newExecution(manager);
     }
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
+        return getStatement(query, observer).newExecution(manager);
+    }
 
-        return DefaultColumnPreparedStatementAsync.update(entity, params, query, manager);
+    private ColumnStatement getStatement(String query, ColumnObserverParser observer) {
+        return ColumnQueryCaches.STATEMENT.get(query, observer, () -> {
+            UpdateQuery updateQuery = supplier.apply(query);
+            ColumnObserverParser cached = new CachedColumnObserverParser(observer);
+            return ColumnStatement.update(p -> getEntity(p, updateQuery, cached), query);
+        });
     }
 
     private ColumnEntity getEntity(Params params, UpdateQuery updateQuery, ColumnObserverParser observer) {
@@ -33,6 +33,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.jnosql.diana.api.Condition.EQUALS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -183,4 +187,31 @@ public class DefaultColumnQueryParserTest {
 
     }
 
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from God where age = @age"})
+    public void shouldCallTheObserverOnceToManyExecutions(String query) {
+        List<String> names = new ArrayList<>();
+        ColumnObserverParser observer = new ColumnObserverParser() {
+            @Override
+            public String fireEntity(String entity) {
+                names.add(entity);
+                return entity;
+            }
+
+            @Override
+            public String fireField(String entity, String field) {
+                names.add(field);
+                return field;
+            }
+        };
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12).getResultList();
+        prepare.bind("age", 20).getResultList();
+        parser.prepare(query, manager, observer).bind("age", 30).getResultList();
+
+        Mockito.verify(manager, Mockito.times(3)).select(Mockito.any(ColumnQuery.class));
+        assertEquals(Arrays.asList("God", "age"), names);
+    }
 }
@@ -23,6 +23,10 @@ import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnPreparedStatement;
 import org.jnosql.diana.api.column.ColumnPreparedStatementAsync;
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.QueryException;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -30,11 +34,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InsertQueryParserTest {
     
@@ -206,6 +215,84 @@ class InsertQueryParserTest {
 
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldExecuteBatch(String query) {
+        ArgumentCaptor<Iterable<ColumnEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.when(manager.insert(captor.capture(), Mockito.any(BulkOptions.class)))
+                .thenAnswer(i -> BulkResult.of(i.<List<ColumnEntity>>getArgument(0), emptyList()));
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("name", "Diana").addBatch();
+        prepare.bind("name", "Artemis").addBatch();
+        List<ColumnEntity> entities = prepare.executeBatch();
+
+        assertEquals(2, entities.size());
+        List<ColumnEntity> batch = new ArrayList<>();
+        captor.getValue().forEach(batch::add);
+        assertEquals(Column.of("name", "Diana"), batch.get(0).find("name").get());
+        assertEquals(Column.of("name", "Artemis"), batch.get(1).find("name").get());
+        assertTrue(prepare.executeBatch().isEmpty());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldExecuteTheBatchAddedFromAnotherThread(String query) throws InterruptedException {
+        ArgumentCaptor<Iterable<ColumnEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.when(manager.insert(captor.capture(), Mockito.any(BulkOptions.class)))
+                .thenAnswer(i -> BulkResult.of(i.<List<ColumnEntity>>getArgument(0), emptyList()));
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("name", "Diana").addBatch();
+        Thread thread = new Thread(() -> prepare.bind("name", "Artemis").addBatch());
+        thread.start();
+        thread.join();
+
+        assertEquals(2, prepare.executeBatch().size());
+        List<ColumnEntity> batch = new ArrayList<>();
+        captor.getValue().forEach(batch::add);
+        assertEquals(Column.of("name", "Artemis"), batch.get(1).find("name").get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldReturnErrorWhenBatchFails(String query) {
+        ColumnEntity entity = ColumnEntity.of("God");
+        Mockito.when(manager.insert(Mockito.any(Iterable.class), Mockito.any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(emptyList(),
+                        singletonList(BulkFailure.of(0, entity, new IllegalStateException()))));
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("name", "Diana").addBatch();
+        BulkException exception = assertThrows(BulkException.class, prepare::executeBatch);
+        assertEquals(1, exception.getFailures().size());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldCompleteExceptionallyWhenBatchFailsAsync(String query) {
+        ColumnEntity entity = ColumnEntity.of("God");
+        Mockito.doAnswer(i -> {
+            i.<Consumer<BulkResult<ColumnEntity>>>getArgument(2).accept(BulkResult.of(emptyList(),
+                    singletonList(BulkFailure.of(0, entity, new IllegalStateException()))));
+            return null;
+        }).when(managerAsync).insert(Mockito.any(Iterable.class), Mockito.any(BulkOptions.class),
+                Mockito.any(Consumer.class));
+
+        ColumnPreparedStatementAsync prepare = parser.prepareAsync(query, managerAsync, observer);
+        prepare.bind("name", "Diana").addBatch();
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> prepare.executeBatch().toCompletableFuture().join());
+        assertEquals(1, ((BulkException) exception.getCause()).getFailures().size());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldReturnErrorWhenAddBatchWithoutParameters(String query) {
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        assertThrows(QueryException.class, prepare::addBatch);
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"insert God (name = @name)"})
     public void shouldReturnErrorWhenShouldUsePrepareStatmentAsync(String query) {
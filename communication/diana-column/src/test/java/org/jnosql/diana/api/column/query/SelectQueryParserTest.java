@@ -519,6 +519,40 @@ public class SelectQueryParserTest {
         assertEquals(12, column.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatmentManyTimes(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        prepare.getResultList();
+        prepare.bind("age", 20);
+        prepare.getResultList();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(12, queries.get(0).getCondition().map(ColumnCondition::getColumn).map(Column::get).get());
+        assertEquals(20, queries.get(1).getCondition().map(ColumnCondition::getColumn).map(Column::get).get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldNotShareTheValuesBetweenExecutions(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement prepare = parser.prepare(query, manager, observer);
+        prepare.bind("age", 12);
+        ColumnPreparedStatement other = parser.prepare(query, manager, observer);
+        assertThrows(QueryException.class, other::getResultList);
+
+        other.bind("age", 20).getResultList();
+        prepare.getResultList();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(20, queries.get(0).getCondition().map(ColumnCondition::getColumn).map(Column::get).get());
+        assertEquals(12, queries.get(1).getCondition().map(ColumnCondition::getColumn).map(Column::get).get());
+    }
+
 
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
@@ -588,4 +622,17 @@ public class SelectQueryParserTest {
         assertEquals(skip, columnQuery.getSkip());
         assertEquals("God", columnQuery.getColumnFamily());
     }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from SharedCache"})
+    public void shouldShareTheQueryBetweenParsersWithTheSameObserver(String query) {
+        ColumnObserverParser counter = Mockito.spy(observer);
+        new SelectQueryParser().query(query, manager, counter);
+        new SelectQueryParser().query(query, manager, counter);
+        Mockito.verify(counter, Mockito.times(1)).fireEntity("SharedCache");
+
+        ColumnObserverParser other = Mockito.spy(observer);
+        new SelectQueryParser().query(query, manager, other);
+        Mockito.verify(other, Mockito.times(1)).fireEntity("SharedCache");
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when at least one item of a bulk operation fails, it has the failures of each item.
+ *
+ * @see BulkResult
+ */
+public class BulkException extends JNoSQLException {
+
+    private final transient List<BulkFailure<?>> failures;
+
+    /**
+     * Constructs a new bulk exception with the specified detail message and the failures.
+     *
+     * @param message  the message
+     * @param failures the failures
+     */
+    public BulkException(String message, List<? extends BulkFailure<?>> failures) {
+        super(message);
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+    }
+
+    /**
+     * The items that failed
+     *
+     * @return the failures
+     */
+    public List<BulkFailure<?>> getFailures() {
+        return failures;
+    }
+}
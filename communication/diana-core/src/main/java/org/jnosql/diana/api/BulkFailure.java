@@ -0,0 +1,117 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The failure of a single item within a bulk operation.
+ *
+ * @param <T> the item type
+ * @see BulkResult
+ */
+public final class BulkFailure<T> {
+
+    private final int index;
+
+    private final T item;
+
+    private final RuntimeException cause;
+
+    private BulkFailure(int index, T item, RuntimeException cause) {
+        this.index = index;
+        this.item = item;
+        this.cause = cause;
+    }
+
+    /**
+     * The position of the item in the bulk operation input
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * The item that failed
+     *
+     * @return the item
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * The reason of the failure
+     *
+     * @return the cause
+     */
+    public RuntimeException getCause() {
+        return cause;
+    }
+
+    /**
+     * Creates a new failure
+     *
+     * @param index the position of the item in the bulk operation input
+     * @param item  the item that failed
+     * @param cause the reason of the failure
+     * @param <T>   the item type
+     * @return a {@link BulkFailure} instance
+     * @throws NullPointerException     when either item or cause are null
+     * @throws IllegalArgumentException when index is negative
+     */
+    public static <T> BulkFailure<T> of(int index, T item, RuntimeException cause) {
+        requireNonNull(item, "item is required");
+        requireNonNull(cause, "cause is required");
+        if (index < 0) {
+            throw new IllegalArgumentException("The index cannot be negative: " + index);
+        }
+        return new BulkFailure<>(index, item, cause);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkFailure<?> that = (BulkFailure<?>) o;
+        return index == that.index &&
+                Objects.equals(item, that.item) &&
+                Objects.equals(cause, that.cause);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, item, cause);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkFailure{" + "index=" + index +
+                ", item=" + item +
+                ", cause=" + cause +
+                '}';
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.Objects;
+
+/**
+ * The options of a bulk operation, such as insert or update of several entities at once. It has two attributes:
+ * -- The chunk size - the maximum number of entities that a driver should send to the database on each round trip
+ * -- The ordered mode - when ordered the operation stops at the first failure, otherwise it keeps going
+ * and reports every failure at the end
+ *
+ * @see BulkResult
+ * @see BulkFailure
+ */
+public final class BulkOptions {
+
+    /**
+     * The default chunk size
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private static final BulkOptions DEFAULT = new BulkOptions(DEFAULT_CHUNK_SIZE, true);
+
+    private final int chunkSize;
+
+    private final boolean ordered;
+
+    private BulkOptions(int chunkSize, boolean ordered) {
+        this.chunkSize = chunkSize;
+        this.ordered = ordered;
+    }
+
+    /**
+     * The chunk size
+     *
+     * @return the maximum number of entities on each round trip
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Whether the operation stops at the first failure
+     *
+     * @return true when the operation is ordered
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Creates an ordered option, the operation stops at the first failure.
+     *
+     * @param chunkSize the maximum number of entities on each round trip
+     * @return a {@link BulkOptions} instance
+     * @throws IllegalArgumentException when chunkSize is negative or zero
+     */
+    public static BulkOptions ordered(int chunkSize) {
+        return new BulkOptions(checkChunkSize(chunkSize), true);
+    }
+
+    /**
+     * Creates an unordered option, the operation goes on when an entity fails and reports all failures at the end.
+     *
+     * @param chunkSize the maximum number of entities on each round trip
+     * @return a {@link BulkOptions} instance
+     * @throws IllegalArgumentException when chunkSize is negative or zero
+     */
+    public static BulkOptions unordered(int chunkSize) {
+        return new BulkOptions(checkChunkSize(chunkSize), false);
+    }
+
+    /**
+     * Returns the default option, ordered with {@link BulkOptions#DEFAULT_CHUNK_SIZE}
+     *
+     * @return the default {@link BulkOptions} instance
+     */
+    public static BulkOptions defaultOptions() {
+        return DEFAULT;
+    }
+
+    private static int checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be greater than zero: " + chunkSize);
+        }
+        return chunkSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkOptions that = (BulkOptions) o;
+        return chunkSize == that.chunkSize &&
+                ordered == that.ordered;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(chunkSize, ordered);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOptions{" + "chunkSize=" + chunkSize +
+                ", ordered=" + ordered +
+                '}';
+    }
+}
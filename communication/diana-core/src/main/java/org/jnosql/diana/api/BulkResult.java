@@ -0,0 +1,113 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The result of a bulk operation. The results have the items that succeeded following the input order,
+ * and the failures have the items that failed with their position in the input.
+ * When an ordered operation fails, the items after the failure are neither in the results nor in the failures.
+ *
+ * @param <T> the item type
+ * @see BulkOptions
+ */
+public final class BulkResult<T> {
+
+    private final List<T> results;
+
+    private final List<BulkFailure<T>> failures;
+
+    private BulkResult(List<T> results, List<BulkFailure<T>> failures) {
+        this.results = results;
+        this.failures = failures;
+    }
+
+    /**
+     * The items that succeeded following the input order
+     *
+     * @return the results
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * The items that failed
+     *
+     * @return the failures
+     */
+    public List<BulkFailure<T>> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Checks if there is at least one failure
+     *
+     * @return true when there is any failure
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Creates a new result
+     *
+     * @param results  the items that succeeded
+     * @param failures the items that failed
+     * @param <T>      the item type
+     * @return a {@link BulkResult} instance
+     * @throws NullPointerException when either results or failures are null
+     */
+    public static <T> BulkResult<T> of(List<T> results, List<BulkFailure<T>> failures) {
+        requireNonNull(results, "results is required");
+        requireNonNull(failures, "failures is required");
+        return new BulkResult<>(Collections.unmodifiableList(new ArrayList<>(results)),
+                Collections.unmodifiableList(new ArrayList<>(failures)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkResult<?> that = (BulkResult<?>) o;
+        return Objects.equals(results, that.results) &&
+                Objects.equals(failures, that.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(results, failures);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{" + "results=" + results +
+                ", failures=" + failures +
+                '}';
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utilitarian class to run a bulk operation item by item, it's the default behavior of the bulk operations
+ * on managers when the NoSQL vendor does not have a native one.
+ *
+ * @see BulkOptions
+ */
+public final class Bulks {
+
+    private Bulks() {
+    }
+
+    /**
+     * Runs the action on each item following the {@link BulkOptions#isOrdered()} rule, each item is a round trip
+     * of its own, so the {@link BulkOptions#getChunkSize()} does not apply.
+     *
+     * @param items   the items
+     * @param options the bulk options
+     * @param action  the action to each item
+     * @param <T>     the item type
+     * @return the {@link BulkResult}
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <T> BulkResult<T> execute(Iterable<T> items, BulkOptions options, UnaryOperator<T> action) {
+        requireNonNull(items, "items is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(action, "action is required");
+
+        List<T> results = new ArrayList<>();
+        List<BulkFailure<T>> failures = new ArrayList<>();
+        int index = 0;
+        for (T item : items) {
+            try {
+                results.add(action.apply(item));
+            } catch (RuntimeException exception) {
+                failures.add(BulkFailure.of(index, item, exception));
+                if (options.isOrdered()) {
+                    break;
+                }
+            }
+            index++;
+        }
+        return BulkResult.of(results, failures);
+    }
+
+    /**
+     * Runs the asynchronous action on each item. It dispatches at most {@link BulkOptions#getChunkSize()} items
+     * at a time and waits for their callbacks before the next chunk, when ordered it waits for each item before
+     * the next one, so it stops at the first failure. The callback is called once every dispatched item has
+     * called its own callback. The asynchronous actions have no error callback, so only the errors thrown when
+     * the item is dispatched are reported as failures, and an item whose callback is never called keeps
+     * the bulk waiting.
+     *
+     * @param items    the items
+     * @param options  the bulk options
+     * @param action   the asynchronous action to each item, it receives the item and its callback
+     * @param callBack the callback with the {@link BulkResult}
+     * @param <T>      the item type
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <T> void execute(Iterable<T> items, BulkOptions options, BiConsumer<T, Consumer<T>> action,
+                                   Consumer<BulkResult<T>> callBack) {
+        requireNonNull(items, "items is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(action, "action is required");
+        requireNonNull(callBack, "callBack is required");
+
+        List<T> values = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+        new AsyncBulk<>(values, options, action, callBack).dispatch(0);
+    }
+
+    private static final class AsyncBulk<T> {
+
+        private static final int FAILED = 2;
+
+        private final List<T> values;
+
+        private final int chunkSize;
+
+        private final boolean ordered;
+
+        private final BiConsumer<T, Consumer<T>> action;
+
+        private final Consumer<BulkResult<T>> callBack;
+
+        private final AtomicReferenceArray<T> results;
+
+        private final AtomicIntegerArray completed;
+
+        private final Queue<BulkFailure<T>> failures = new ConcurrentLinkedQueue<>();
+
+        private volatile boolean stopped;
+
+        private AsyncBulk(List<T> values, BulkOptions options, BiConsumer<T, Consumer<T>> action,
+                          Consumer<BulkResult<T>> callBack) {
+            this.values = values;
+            this.chunkSize = options.isOrdered() ? 1 : options.getChunkSize();
+            this.ordered = options.isOrdered();
+            this.action = action;
+            this.callBack = callBack;
+            this.results = new AtomicReferenceArray<>(values.size());
+            this.completed = new AtomicIntegerArray(values.size());
+        }
+
+        /**
+         * Dispatches the chunks from the start. When every callback of a chunk is called on this thread it loops
+         * to the next chunk, otherwise the thread of the last callback goes on.
+         */
+        private void dispatch(int start) {
+            int from = start;
+            while (!stopped && from < values.size()) {
+                int end = Math.min(from + chunkSize, values.size());
+                AtomicInteger pending = new AtomicInteger(end - from + 1);
+                for (int index = from; index < end; index++) {
+                    T item = values.get(index);
+                    int position = index;
+                    try {
+                        action.accept(item, result -> {
+                            if (completed.compareAndSet(position, 0, 1)) {
+                                results.set(position, result);
+                                if (pending.decrementAndGet() == 0) {
+                                    dispatch(end);
+                                }
+                            }
+                        });
+                    } catch (RuntimeException exception) {
+                        if (completed.compareAndSet(position, 0, FAILED)) {
+                            failures.add(BulkFailure.of(position, item, exception));
+                            stopped = ordered;
+                            pending.decrementAndGet();
+                        }
+                    }
+                }
+                if (pending.decrementAndGet() != 0) {
+                    return;
+                }
+                from = end;
+            }
+            finish();
+        }
+
+        private void finish() {
+            List<T> succeeded = new ArrayList<>();
+            for (int index = 0; index < values.size(); index++) {
+                if (completed.get(index) == 1) {
+                    succeeded.add(results.get(index));
+                }
+            }
+            List<BulkFailure<T>> sorted = new ArrayList<>(failures);
+            sorted.sort(Comparator.comparingInt(BulkFailure::getIndex));
+            callBack.accept(BulkResult.of(succeeded, sorted));
+        }
+    }
+}
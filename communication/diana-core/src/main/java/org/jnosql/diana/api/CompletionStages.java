@@ -0,0 +1,103 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utilitarian class to bridge the callback based asynchronous operations to {@link CompletionStage},
+ * so they can be composed and combined without nesting callbacks.
+ */
+public final class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    /**
+     * Runs an operation that reports its result to a callback and returns it as a {@link CompletionStage}.
+     * When the operation throws an exception instead of calling the callback, the stage completes
+     * exceptionally with it.
+     *
+     * @param operation the operation, it receives the callback that completes the stage
+     * @param <T>       the result type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> CompletionStage<T> of(Consumer<Consumer<T>> operation) {
+        requireNonNull(operation, "operation is required");
+        return of((callback, errorCallback) -> operation.accept(callback));
+    }
+
+    /**
+     * Runs an operation that reports its result to a callback, or its failure to an error callback, and returns it
+     * as a {@link CompletionStage}. The stage completes exceptionally either with the failure reported or with
+     * anything the operation throws.
+     *
+     * @param operation the operation, it receives the callbacks that complete the stage
+     * @param <T>       the result type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> CompletionStage<T> of(BiConsumer<Consumer<T>, Consumer<Throwable>> operation) {
+        requireNonNull(operation, "operation is required");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            operation.accept(future::complete, future::completeExceptionally);
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+        return future;
+    }
+
+    /**
+     * Combines the stages into a single one that completes with the results in the same order when all of them
+     * complete, or exceptionally as soon as any of them does.
+     *
+     * @param stages the stages
+     * @param <T>    the result type
+     * @return the {@link CompletionStage} with all results
+     * @throws NullPointerException when stages is null
+     */
+    public static <T> CompletionStage<List<T>> all(Iterable<? extends CompletionStage<T>> stages) {
+        requireNonNull(stages, "stages is required");
+
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        stages.forEach(s -> futures.add(s.toCompletableFuture()));
+
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        futures.forEach(f -> f.whenComplete((v, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            }
+        }));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            List<T> values = new ArrayList<>(futures.size());
+            futures.forEach(f -> values.add(f.join()));
+            result.complete(values);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A query of a prepared statement. It is converted once when the statement is prepared, to check it and to find
+ * its parameters. A query without parameters reuses that instance, otherwise it is converted again from the parsed
+ * query to each execution with the values bound, so the executions never share the parameters.
+ *
+ * @param <T> the query type
+ */
+public final class PreparedQuery<T> {
+
+    private final Function<Params, T> converter;
+
+    private final List<String> parametersNames;
+
+    private final T query;
+
+    private PreparedQuery(Function<Params, T> converter, List<String> parametersNames, T query) {
+        this.converter = converter;
+        this.parametersNames = parametersNames;
+        this.query = query;
+    }
+
+    /**
+     * Returns the name of the parameters of the query
+     *
+     * @return the parameters names
+     */
+    public List<String> getParametersNames() {
+        return parametersNames;
+    }
+
+    /**
+     * Returns the query with the values bound
+     *
+     * @param values the values of the parameters
+     * @return the query converted when it has no parameters and can be shared, otherwise a new instance
+     * @throws NullPointerException when values is null
+     * @throws QueryException       when there is a parameter without value
+     */
+    public T bind(Map<String, Object> values) {
+        Objects.requireNonNull(values, "values is required");
+        List<String> paramsLeft = parametersNames.stream()
+                .filter(name -> !values.containsKey(name))
+                .collect(toList());
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        if (query != null) {
+            return query;
+        }
+        Params params = new Params();
+        T instance = converter.apply(params);
+        values.forEach(params::bind);
+        return instance;
+    }
+
+    /**
+     * Converts the query once, to check it and to find its parameters, and returns a {@link PreparedQuery}
+     * that shares that instance when there is no parameter, otherwise it converts the query again to each execution.
+     *
+     * @param converter the converter from the parsed query
+     * @param <T>       the query type
+     * @return a {@link PreparedQuery} instance
+     * @throws NullPointerException when converter is null
+     */
+    public static <T> PreparedQuery<T> of(Function<Params, T> converter) {
+        return of(converter, true);
+    }
+
+    /**
+     * Converts the query once, to check it and to find its parameters, and returns a {@link PreparedQuery}
+     * that converts it again to each execution. It is to the queries that the manager might change,
+     * such as an entity to insert.
+     *
+     * @param converter the converter from the parsed query
+     * @param <T>       the query type
+     * @return a {@link PreparedQuery} instance
+     * @throws NullPointerException when converter is null
+     */
+    public static <T> PreparedQuery<T> perExecution(Function<Params, T> converter) {
+        return of(converter, false);
+    }
+
+    private static <T> PreparedQuery<T> of(Function<Params, T> converter, boolean shared) {
+        Objects.requireNonNull(converter, "converter is required");
+        Params params = new Params();
+        T query = converter.apply(params);
+        List<String> names = params.getParametersNames().stream().distinct().collect(toList());
+        T sharedQuery = shared && names.isEmpty() ? query : null;
+        return new PreparedQuery<>(converter, Collections.unmodifiableList(names), sharedQuery);
+    }
+}
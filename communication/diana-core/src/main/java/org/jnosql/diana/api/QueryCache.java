@@ -0,0 +1,262 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded and thread-safe cache to the parsed queries, where the key is the query as text.
+ * The entries are split in lock-striped segments, each one with its own least recently used eviction,
+ * so readers of different queries do not contend on the same lock. The value is created outside the lock,
+ * when two threads miss the same query at once both might parse it, but just the first value is kept.
+ * The max size might be defined either on {@link QueryCache#of(int)} or with the system property
+ * {@link QueryCache#MAX_SIZE_PROPERTY} on {@link QueryCache#of()}.
+ * A value that also depends on another instance, such as the observer that resolves the names of the query,
+ * is kept apart to each one of them with {@link QueryCache#get(String, Object, Supplier)}.
+ *
+ * @param <V> the value type
+ */
+public final class QueryCache<V> {
+
+    /**
+     * The system property to define the max size on {@link QueryCache#of()}
+     */
+    public static final String MAX_SIZE_PROPERTY = "jnosql.query.cache.size";
+
+    /**
+     * The default max size
+     */
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private static final Map<Object, Long> SCOPES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong SCOPE_SEQUENCE = new AtomicLong();
+
+    private final Segment<V>[] segments;
+
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private QueryCache(int maxSize) {
+        this.maxSize = maxSize;
+        int size = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize));
+        this.segments = new Segment[size];
+        for (int index = 0; index < size; index++) {
+            int capacity = maxSize / size + (index < maxSize % size ? 1 : 0);
+            segments[index] = new Segment<>(capacity, evictions);
+        }
+    }
+
+    /**
+     * Returns the value to the query, when there is no value it creates one using the supplier and stores it.
+     *
+     * @param key      the query
+     * @param supplier the function to create the value when it does not exist
+     * @return the value
+     * @throws NullPointerException when there is a null parameter or the supplier returns null
+     */
+    public V get(String key, Function<String, ? extends V> supplier) {
+        requireNonNull(key, "key is required");
+        requireNonNull(supplier, "supplier is required");
+        Segment<V> segment = segmentFor(key);
+        V value = segment.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        V newValue = requireNonNull(supplier.apply(key), "supplier cannot return null");
+        return segment.putIfAbsent(key, newValue);
+    }
+
+    /**
+     * Returns the value to the query on the scope, when there is no value it creates one using the supplier
+     * and stores it. The same query on two scopes has two values, the scopes are compared by
+     * {@link Object#equals(Object)} and they are not kept alive by the cache.
+     *
+     * @param key      the query
+     * @param scope    the instance the value depends on
+     * @param supplier the supplier to create the value when it does not exist
+     * @return the value
+     * @throws NullPointerException when there is a null parameter or the supplier returns null
+     */
+    public V get(String key, Object scope, Supplier<? extends V> supplier) {
+        requireNonNull(key, "key is required");
+        requireNonNull(scope, "scope is required");
+        requireNonNull(supplier, "supplier is required");
+        Long id = SCOPES.computeIfAbsent(scope, s -> SCOPE_SEQUENCE.incrementAndGet());
+        return get(id + ":" + key, k -> supplier.get());
+    }
+
+    /**
+     * Returns the number of entries
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all entries, the counters are kept
+     */
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * The max number of entries
+     *
+     * @return the max size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The number of times a query was found
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of times a query was not found and had to be created
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of entries removed to keep the cache within its max size
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<V> segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * Creates a cache with the max size from the system property {@link QueryCache#MAX_SIZE_PROPERTY},
+     * when it's not defined it uses {@link QueryCache#DEFAULT_MAX_SIZE}
+     *
+     * @param <V> the value type
+     * @return a {@link QueryCache} instance
+     * @throws IllegalArgumentException when the max size is negative or zero
+     */
+    public static <V> QueryCache<V> of() {
+        return of(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    }
+
+    /**
+     * Creates a cache with the max size
+     *
+     * @param maxSize the max number of entries
+     * @param <V>     the value type
+     * @return a {@link QueryCache} instance
+     * @throws IllegalArgumentException when the max size is negative or zero
+     */
+    public static <V> QueryCache<V> of(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The max size must be greater than zero: " + maxSize);
+        }
+        return new QueryCache<>(maxSize);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCache{" + "size=" + size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    private static final class Segment<V> {
+
+        private final Map<String, V> store;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.store = new LinkedHashMap<String, V>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                    boolean remove = size() > capacity;
+                    if (remove) {
+                        evictions.increment();
+                    }
+                    return remove;
+                }
+            };
+        }
+
+        synchronized V get(String key) {
+            return store.get(key);
+        }
+
+        synchronized V putIfAbsent(String key, V value) {
+            V current = store.get(key);
+            if (current != null) {
+                return current;
+            }
+            store.put(key, value);
+            return value;
+        }
+
+        synchronized int size() {
+            return store.size();
+        }
+
+        synchronized void clear() {
+            store.clear();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.reactive;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Subscription} that sends the elements of an {@link Iterator} following the demand. The iterator is
+ * provided by the source once, at the first request, so nothing is read before the subscriber asks for it.
+ * Every signal, the errors included, is sent to the subscriber by the drain loop, so they are never concurrent.
+ * When the iterator is {@link AutoCloseable} the drain loop closes it once the subscription completes, fails or is
+ * cancelled.
+ *
+ * @param <T> the element type
+ */
+final class IteratorSubscription<T> implements Subscription {
+
+    private final Subscriber<? super T> subscriber;
+
+    private final Consumer<Consumer<Iterator<? extends T>>> source;
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile Iterator<? extends T> iterator;
+
+    private volatile boolean done;
+
+    IteratorSubscription(Subscriber<? super T> subscriber, Consumer<Consumer<Iterator<? extends T>>> source) {
+        this.subscriber = subscriber;
+        this.source = source;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            error(new IllegalArgumentException("The request must be greater than zero: " + n));
+            return;
+        }
+        requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+        if (started.compareAndSet(false, true)) {
+            try {
+                source.accept(this::onIterator);
+            } catch (RuntimeException exception) {
+                error(exception);
+                return;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        done = true;
+        drain();
+    }
+
+    private void onIterator(Iterator<? extends T> iterator) {
+        this.iterator = iterator;
+        drain();
+    }
+
+    private void error(Throwable throwable) {
+        if (error.compareAndSet(null, throwable)) {
+            drain();
+        }
+    }
+
+    private boolean isTerminated() {
+        return done || error.get() != null;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Throwable failure = error.get();
+            Iterator<? extends T> current = iterator;
+            if (failure != null) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(failure);
+                }
+            } else if (current != null && !done) {
+                emit(current);
+            }
+            if (done && current != null) {
+                close(current);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Iterator<? extends T> current) {
+        long demand = requested.get();
+        long emitted = 0;
+        try {
+            while (emitted != demand && !isTerminated() && current.hasNext()) {
+                subscriber.onNext(current.next());
+                emitted++;
+            }
+            if (!isTerminated() && !current.hasNext()) {
+                done = true;
+                subscriber.onComplete();
+            }
+        } catch (RuntimeException exception) {
+            error(exception);
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+    }
+
+    private void close(Iterator<? extends T> current) {
+        if (current instanceof AutoCloseable && closed.compareAndSet(false, true)) {
+            try {
+                ((AutoCloseable) current).close();
+            } catch (Exception ignored) {
+                //the subscription is already terminated, so there is no signal left to report it
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.reactive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utilitarian class to create {@link Publisher} instances from the data sources available in Diana.
+ */
+public final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Creates a {@link Publisher} from an {@link Iterator}, the supplier is called once per subscription at the
+     * first request and the elements are read as they are requested, so a lazy iterator such as a database
+     * cursor is never read ahead of the demand. When the iterator is {@link AutoCloseable} it's closed once
+     * the subscription completes, fails or is cancelled.
+     *
+     * @param supplier the iterator supplier
+     * @param <T>      the element type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when supplier is null
+     */
+    public static <T> Publisher<T> of(Supplier<? extends Iterator<? extends T>> supplier) {
+        requireNonNull(supplier, "supplier is required");
+        return subscriber -> {
+            requireNonNull(subscriber, "subscriber is required");
+            subscriber.onSubscribe(new IteratorSubscription<T>(subscriber, c -> c.accept(supplier.get())));
+        };
+    }
+
+    /**
+     * Creates a {@link Publisher} from a {@link Stream}, the supplier is called once per subscription at the
+     * first request and the elements are read as they are requested. The stream is closed once the subscription
+     * completes, fails or is cancelled, so the resources of the database are released.
+     *
+     * @param supplier the stream supplier
+     * @param <T>      the element type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when supplier is null
+     */
+    public static <T> Publisher<T> ofStream(Supplier<? extends Stream<? extends T>> supplier) {
+        requireNonNull(supplier, "supplier is required");
+        return of(() -> new StreamIterator<T>(supplier.get()));
+    }
+
+    /**
+     * Creates a {@link Publisher} from an asynchronous operation that returns a {@link List} to a callback.
+     * The operation runs once per subscription at the first request and its result is sent following the demand.
+     *
+     * @param operation the asynchronous operation, it receives the callback with the result
+     * @param <T>       the element type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> Publisher<T> ofAsync(Consumer<Consumer<List<T>>> operation) {
+        requireNonNull(operation, "operation is required");
+        return subscriber -> {
+            requireNonNull(subscriber, "subscriber is required");
+            subscriber.onSubscribe(new IteratorSubscription<T>(subscriber,
+                    c -> operation.accept(l -> c.accept(l.iterator()))));
+        };
+    }
+
+    /**
+     * Creates a {@link Publisher} that applies the mapper to each element when it's sent, so the elements are
+     * converted lazily following the demand.
+     *
+     * @param publisher the source publisher
+     * @param mapper    the mapper
+     * @param <T>       the source type
+     * @param <R>       the result type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when either publisher or mapper are null
+     */
+    public static <T, R> Publisher<R> map(Publisher<T> publisher, Function<? super T, ? extends R> mapper) {
+        requireNonNull(publisher, "publisher is required");
+        requireNonNull(mapper, "mapper is required");
+        return subscriber -> {
+            requireNonNull(subscriber, "subscriber is required");
+            publisher.subscribe(new MapSubscriber<>(subscriber, mapper));
+        };
+    }
+
+    private static final class StreamIterator<T> implements Iterator<T>, AutoCloseable {
+
+        private final Stream<? extends T> stream;
+
+        private final Iterator<? extends T> iterator;
+
+        private StreamIterator(Stream<? extends T> stream) {
+            this.stream = requireNonNull(stream, "stream is required");
+            this.iterator = stream.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+        }
+    }
+
+    private static final class MapSubscriber<T, R> implements Subscriber<T> {
+
+        private final Subscriber<? super R> subscriber;
+
+        private final Function<? super T, ? extends R> mapper;
+
+        private Subscription subscription;
+
+        private boolean done;
+
+        private MapSubscriber(Subscriber<? super R> subscriber, Function<? super T, ? extends R> mapper) {
+            this.subscriber = subscriber;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R value;
+            try {
+                value = Objects.requireNonNull(mapper.apply(item), "The mapper returned a null value");
+            } catch (RuntimeException exception) {
+                subscription.cancel();
+                onError(exception);
+                return;
+            }
+            subscriber.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                subscriber.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+    }
+}
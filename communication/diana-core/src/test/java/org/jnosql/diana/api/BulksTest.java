@@ -0,0 +1,156 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulksTest {
+
+    private final UnaryOperator<String> failOnB = s -> {
+        if ("b".equals(s)) {
+            throw new IllegalStateException("b is not allowed");
+        }
+        return s.toUpperCase();
+    };
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> Bulks.execute(null, BulkOptions.defaultOptions(), failOnB));
+        assertThrows(NullPointerException.class, () -> Bulks.execute(Arrays.asList("a"), null, failOnB));
+        assertThrows(NullPointerException.class, () -> Bulks.execute(Arrays.asList("a"),
+                BulkOptions.defaultOptions(), (UnaryOperator<String>) null));
+    }
+
+    @Test
+    public void shouldExecute() {
+        BulkResult<String> result = Bulks.execute(Arrays.asList("a", "c"), BulkOptions.defaultOptions(), failOnB);
+        assertFalse(result.hasFailures());
+        assertEquals(Arrays.asList("A", "C"), result.getResults());
+    }
+
+    @Test
+    public void shouldStopAtFirstFailureWhenOrdered() {
+        BulkResult<String> result = Bulks.execute(Arrays.asList("a", "b", "c"), BulkOptions.ordered(10), failOnB);
+        assertTrue(result.hasFailures());
+        assertEquals(Arrays.asList("A"), result.getResults());
+        assertEquals(1, result.getFailures().size());
+        BulkFailure<String> failure = result.getFailures().get(0);
+        assertEquals(1, failure.getIndex());
+        assertEquals("b", failure.getItem());
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void shouldKeepGoingWhenUnordered() {
+        BulkResult<String> result = Bulks.execute(Arrays.asList("a", "b", "c", "b"), BulkOptions.unordered(10), failOnB);
+        assertEquals(Arrays.asList("A", "C"), result.getResults());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(3, result.getFailures().get(1).getIndex());
+    }
+
+    @Test
+    public void shouldExecuteAsync() {
+        AtomicReference<BulkResult<String>> reference = new AtomicReference<>();
+        BiConsumer<String, Consumer<String>> action = (s, c) -> c.accept(failOnB.apply(s));
+
+        Bulks.execute(Arrays.asList("a", "b", "c"), BulkOptions.unordered(10), action, reference::set);
+        BulkResult<String> result = reference.get();
+        assertNotNull(result);
+        assertEquals(Arrays.asList("A", "C"), result.getResults());
+        assertEquals(1, result.getFailures().size());
+    }
+
+    @Test
+    public void shouldStopDispatchingAsyncWhenOrdered() {
+        AtomicReference<BulkResult<String>> reference = new AtomicReference<>();
+        BiConsumer<String, Consumer<String>> action = (s, c) -> c.accept(failOnB.apply(s));
+
+        Bulks.execute(Arrays.asList("a", "b", "c"), BulkOptions.ordered(10), action, reference::set);
+        BulkResult<String> result = reference.get();
+        assertEquals(Arrays.asList("A"), result.getResults());
+        assertEquals(1, result.getFailures().size());
+    }
+
+    @Test
+    public void shouldDispatchAsyncByChunk() {
+        AtomicReference<BulkResult<String>> reference = new AtomicReference<>();
+        List<Runnable> callbacks = new ArrayList<>();
+        BiConsumer<String, Consumer<String>> action = (s, c) -> callbacks.add(() -> c.accept(s.toUpperCase()));
+
+        Bulks.execute(Arrays.asList("a", "b", "c"), BulkOptions.unordered(2), action, reference::set);
+        assertEquals(2, callbacks.size());
+        callbacks.get(0).run();
+        assertEquals(2, callbacks.size());
+        callbacks.get(1).run();
+        assertEquals(3, callbacks.size());
+        assertNull(reference.get());
+        callbacks.get(2).run();
+        assertEquals(Arrays.asList("A", "B", "C"), reference.get().getResults());
+    }
+
+    @Test
+    public void shouldWaitEachItemAsyncWhenOrdered() {
+        AtomicReference<BulkResult<String>> reference = new AtomicReference<>();
+        List<Runnable> callbacks = new ArrayList<>();
+        BiConsumer<String, Consumer<String>> action = (s, c) -> callbacks.add(() -> c.accept(failOnB.apply(s)));
+
+        Bulks.execute(Arrays.asList("a", "c"), BulkOptions.ordered(10), action, reference::set);
+        assertEquals(1, callbacks.size());
+        callbacks.get(0).run();
+        assertEquals(2, callbacks.size());
+        callbacks.get(1).run();
+        assertEquals(Arrays.asList("A", "C"), reference.get().getResults());
+    }
+
+    @Test
+    public void shouldExecuteManyAsyncCallbacksOnTheSameThread() {
+        AtomicReference<BulkResult<String>> reference = new AtomicReference<>();
+        List<String> items = Collections.nCopies(100_000, "a");
+        BiConsumer<String, Consumer<String>> action = (s, c) -> c.accept(s);
+
+        Bulks.execute(items, BulkOptions.ordered(10), action, reference::set);
+        assertEquals(items.size(), reference.get().getResults().size());
+    }
+
+    @Test
+    public void shouldCreateOptions() {
+        assertThrows(IllegalArgumentException.class, () -> BulkOptions.ordered(0));
+        assertThrows(IllegalArgumentException.class, () -> BulkOptions.unordered(-1));
+        BulkOptions options = BulkOptions.unordered(50);
+        assertEquals(50, options.getChunkSize());
+        assertFalse(options.isOrdered());
+        assertTrue(BulkOptions.defaultOptions().isOrdered());
+        assertEquals(BulkOptions.DEFAULT_CHUNK_SIZE, BulkOptions.defaultOptions().getChunkSize());
+    }
+}
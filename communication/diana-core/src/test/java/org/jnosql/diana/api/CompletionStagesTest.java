@@ -0,0 +1,111 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionStagesTest {
+
+    @Test
+    public void shouldReturnErrorWhenOperationIsNull() {
+        assertThrows(NullPointerException.class, () -> CompletionStages.of((Consumer<Consumer<Object>>) null));
+        assertThrows(NullPointerException.class,
+                () -> CompletionStages.of((BiConsumer<Consumer<Object>, Consumer<Throwable>>) null));
+        assertThrows(NullPointerException.class, () -> CompletionStages.all(null));
+    }
+
+    @Test
+    public void shouldCompleteWhenCallbackIsCalled() {
+        AtomicReference<Consumer<String>> callBack = new AtomicReference<>();
+        CompletableFuture<String> future = CompletionStages.<String>of(callBack::set).toCompletableFuture();
+        assertFalse(future.isDone());
+
+        callBack.get().accept("Ada");
+        assertEquals("Ada", future.join());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenOperationFails() {
+        CompletableFuture<String> future = CompletionStages.<String>of(c -> {
+            throw new IllegalStateException("error");
+        }).toCompletableFuture();
+
+        assertTrue(future.isCompletedExceptionally());
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenOperationThrowsError() {
+        CompletableFuture<String> future = CompletionStages.<String>of(c -> {
+            throw new NoClassDefFoundError("error");
+        }).toCompletableFuture();
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof NoClassDefFoundError);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenErrorCallbackIsCalled() {
+        AtomicReference<Consumer<Throwable>> errorCallBack = new AtomicReference<>();
+        CompletableFuture<String> future = CompletionStages.<String>of((c, e) -> errorCallBack.set(e))
+                .toCompletableFuture();
+        assertFalse(future.isDone());
+
+        errorCallBack.get().accept(new IllegalStateException("error"));
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void shouldCombineInOrder() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<List<String>> all = CompletionStages.all(Arrays.<CompletionStage<String>>asList(first, second))
+                .toCompletableFuture();
+
+        second.complete("b");
+        assertFalse(all.isDone());
+        first.complete("a");
+        assertEquals(Arrays.asList("a", "b"), all.join());
+    }
+
+    @Test
+    public void shouldFailAsSoonAsAnyStageFails() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<List<String>> all = CompletionStages.all(Arrays.<CompletionStage<String>>asList(first, second))
+                .toCompletableFuture();
+
+        second.completeExceptionally(new IllegalStateException("error"));
+        assertTrue(all.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PreparedQueryTest {
+
+    @Test
+    public void shouldReturnErrorWhenConverterIsNull() {
+        assertThrows(NullPointerException.class, () -> PreparedQuery.of(null));
+    }
+
+    @Test
+    public void shouldConvertWhenCreated() {
+        AtomicInteger conversions = new AtomicInteger();
+        PreparedQuery<Value> query = PreparedQuery.of(p -> {
+            conversions.incrementAndGet();
+            p.add("age");
+            return p.add("name");
+        });
+
+        assertEquals(1, conversions.get());
+        assertEquals(asList("age", "name"), query.getParametersNames());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsParameterLeft() {
+        PreparedQuery<Value> query = PreparedQuery.of(p -> p.add("name"));
+        assertThrows(QueryException.class, () -> query.bind(Collections.emptyMap()));
+        assertThrows(NullPointerException.class, () -> query.bind(null));
+    }
+
+    @Test
+    public void shouldCreateInstanceToEachBind() {
+        PreparedQuery<Value> query = PreparedQuery.of(p -> p.add("name"));
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "Ada");
+        Value ada = query.bind(values);
+        values.put("name", "Poliana");
+        Value poliana = query.bind(values);
+
+        assertNotSame(ada, poliana);
+        assertEquals("Ada", ada.get());
+        assertEquals("Poliana", poliana.get());
+    }
+
+    @Test
+    public void shouldShareTheQueryWithoutParameters() {
+        AtomicInteger conversions = new AtomicInteger();
+        PreparedQuery<Object> query = PreparedQuery.of(p -> {
+            conversions.incrementAndGet();
+            return new Object();
+        });
+
+        assertSame(query.bind(Collections.emptyMap()), query.bind(Collections.emptyMap()));
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    public void shouldCreateInstanceToEachExecution() {
+        PreparedQuery<Object> query = PreparedQuery.perExecution(p -> new Object());
+        assertNotSame(query.bind(Collections.emptyMap()), query.bind(Collections.emptyMap()));
+        assertThrows(NullPointerException.class, () -> PreparedQuery.perExecution(null));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryCacheTest {
+
+    @Test
+    public void shouldReturnErrorWhenMaxSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> QueryCache.of(0));
+        assertThrows(IllegalArgumentException.class, () -> QueryCache.of(-1));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        QueryCache<String> cache = QueryCache.of();
+        assertThrows(NullPointerException.class, () -> cache.get(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> cache.get("query", null));
+        assertThrows(NullPointerException.class, () -> cache.get("query", q -> null));
+    }
+
+    @Test
+    public void shouldKeepTheValuesApartByScope() {
+        QueryCache<String> cache = QueryCache.of(10);
+        Object scope = new Object();
+        Object anotherScope = new Object();
+
+        String first = cache.get("select * from God", scope, () -> "first");
+        assertEquals("first", cache.get("select * from God", scope, () -> "second"));
+        assertEquals("another", cache.get("select * from God", anotherScope, () -> "another"));
+        assertEquals("first", first);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertThrows(NullPointerException.class, () -> cache.get("query", null, () -> "value"));
+    }
+
+    @Test
+    public void shouldUseDefaultMaxSize() {
+        assertEquals(QueryCache.DEFAULT_MAX_SIZE, QueryCache.of().getMaxSize());
+    }
+
+    @Test
+    public void shouldCreateValueOnce() {
+        QueryCache<String> cache = QueryCache.of(10);
+        AtomicInteger counter = new AtomicInteger();
+        Function<String, String> supplier = q -> {
+            counter.incrementAndGet();
+            return q.toUpperCase();
+        };
+
+        String first = cache.get(new String("select * from God"), supplier);
+        String second = cache.get(new String("select * from God"), supplier);
+        assertSame(first, second);
+        assertEquals(1, counter.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        QueryCache<String> cache = QueryCache.of(1);
+        cache.get("a", Function.identity());
+        cache.get("b", Function.identity());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.get("b", Function.identity());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void shouldKeepWithinMaxSize() {
+        QueryCache<String> cache = QueryCache.of(100);
+        for (int index = 0; index < 1_000; index++) {
+            cache.get("query " + index, Function.identity());
+        }
+        assertTrue(cache.size() <= 100);
+        assertEquals(1_000, cache.getMissCount());
+        assertEquals(1_000 - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldClear() {
+        QueryCache<String> cache = QueryCache.of(10);
+        cache.get("a", Function.identity());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldBeThreadSafe() throws InterruptedException {
+        QueryCache<String> cache = QueryCache.of(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int index = 0; index < 10_000; index++) {
+            String query = "query " + (index % 200);
+            executor.execute(() -> assertEquals(query, cache.get(query, Function.identity())));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(cache.size() <= 50);
+        assertEquals(10_000, cache.getHitCount() + cache.getMissCount());
+    }
+}
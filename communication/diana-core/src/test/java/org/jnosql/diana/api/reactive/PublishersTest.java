@@ -0,0 +1,240 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublishersTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> Publishers.of(null));
+        assertThrows(NullPointerException.class, () -> Publishers.ofAsync(null));
+        assertThrows(NullPointerException.class, () -> Publishers.ofStream(null));
+        assertThrows(NullPointerException.class, () -> Publishers.map(null, Object::toString));
+        assertThrows(NullPointerException.class, () -> Publishers.map(s -> {
+        }, null));
+    }
+
+    @Test
+    public void shouldReadFollowingTheDemand() {
+        AtomicInteger read = new AtomicInteger();
+        Iterator<String> iterator = Arrays.asList("a", "b", "c").iterator();
+        Publisher<String> publisher = Publishers.of(() -> new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                read.incrementAndGet();
+                return iterator.next();
+            }
+        });
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        assertEquals(0, read.get());
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList("a", "b"), subscriber.items);
+        assertEquals(2, read.get());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList("a", "b", "c"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldSendAsyncResultOnDemand() {
+        AtomicReference<Consumer<List<String>>> callBack = new AtomicReference<>();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.ofAsync(callBack::set).subscribe(subscriber);
+        assertNull(callBack.get());
+
+        subscriber.subscription.request(1);
+        callBack.get().accept(Arrays.asList("a", "b"));
+        assertEquals(Arrays.asList("a"), subscriber.items);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList("a", "b"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldStopWhenCancel() {
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.of(() -> Arrays.asList("a", "b").iterator()).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList("a"), subscriber.items);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenRequestIsNotPositive() {
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.of(() -> Arrays.asList("a", "b").iterator()).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void shouldNotSendTheErrorInsideOnNext() {
+        AtomicBoolean inside = new AtomicBoolean();
+        AtomicBoolean concurrent = new AtomicBoolean();
+        AtomicReference<Subscription> current = new AtomicReference<>();
+        TestSubscriber<String> subscriber = new TestSubscriber<String>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                current.set(subscription);
+                super.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(String item) {
+                inside.set(true);
+                super.onNext(item);
+                current.get().request(0);
+                inside.set(false);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                concurrent.compareAndSet(false, inside.get());
+                super.onError(throwable);
+            }
+        };
+        Publishers.of(() -> Arrays.asList("a", "b").iterator()).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertEquals(singletonList("a"), subscriber.items);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertFalse(concurrent.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSourceFails() {
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.<String>of(() -> {
+            throw new IllegalStateException("error");
+        }).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void shouldCloseTheStreamWhenCompletes() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.ofStream(() -> Stream.of("a", "b").onClose(() -> closed.set(true))).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertFalse(closed.get());
+
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.completed);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldCloseTheStreamWhenCancel() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.ofStream(() -> Stream.of("a", "b").onClose(() -> closed.set(true))).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertEquals(singletonList("a"), subscriber.items);
+        assertTrue(closed.get());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldMap() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        Publishers.map(Publishers.of(() -> Arrays.asList("a", "bb").iterator()), String::length)
+                .subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertEquals(Arrays.asList(1, 2), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMapperFails() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        Publishers.<String, Integer>map(Publishers.of(() -> Arrays.asList("a", "bb").iterator()), s -> {
+            throw new IllegalStateException("error");
+        }).subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertFalse(subscriber.completed);
+    }
+
+    private static class TestSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
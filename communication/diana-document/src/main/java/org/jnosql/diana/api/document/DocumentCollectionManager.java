@@ -18,6 +18,9 @@
 package org.jnosql.diana.api.document;
 
 
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.QueryException;
 
@@ -26,6 +29,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -113,6 +117,38 @@ public interface DocumentCollectionManager extends AutoCloseable {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * Saves entities as a bulk operation following the {@link BulkOptions}, by default it's just run for each
+     * saving using {@link DocumentCollectionManager#insert(DocumentEntity)} reporting the failure of each entity,
+     * each NoSQL vendor might replace to a native bulk operation that sends the entities in chunks.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @return the {@link BulkResult} with the entities saved and the failures
+     * @throws NullPointerException when either entities or options are null
+     */
+    default BulkResult<DocumentEntity> insert(Iterable<DocumentEntity> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return Bulks.execute(entities, options, this::insert);
+    }
+
+    /**
+     * Updates entities as a bulk operation following the {@link BulkOptions}, by default it's just run for each
+     * updating using {@link DocumentCollectionManager#update(DocumentEntity)} reporting the failure of each entity,
+     * each NoSQL vendor might replace to a native bulk operation that sends the entities in chunks.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @return the {@link BulkResult} with the entities updated and the failures
+     * @throws NullPointerException when either entities or options are null
+     */
+    default BulkResult<DocumentEntity> update(Iterable<DocumentEntity> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return Bulks.execute(entities, options, this::update);
+    }
+
     /**
      * Deletes an entity
      *
@@ -133,6 +169,22 @@ public interface DocumentCollectionManager extends AutoCloseable {
      */
     List<DocumentEntity> select(DocumentQuery query);
 
+    /**
+     * Finds {@link DocumentEntity} from select as a {@link Stream}, by default it's just the stream of
+     * {@link DocumentCollectionManager#select(DocumentQuery)}, each NoSQL vendor might replace to a
+     * cursor-based implementation that fetches the entities while the stream is consumed.
+     * The stream should be closed to release the resources held by the cursor.
+     *
+     * @param query - select to figure out entities
+     * @return entities found by select as a lazy {@link Stream}
+     * @throws NullPointerException          when select is null
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<DocumentEntity> stream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query).stream();
+    }
+
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
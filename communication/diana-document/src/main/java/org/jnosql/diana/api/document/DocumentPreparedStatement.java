@@ -51,4 +51,27 @@ public interface DocumentPreparedStatement {
      */
     Optional<DocumentEntity> getSingleResult();
 
+    /**
+     * Adds the current bound values as a new row of the batch, the bound values are kept to the next row.
+     *
+     * @return the same query instance
+     * @throws org.jnosql.diana.api.QueryException when there is a parameter without value
+     * @throws UnsupportedOperationException       when the statement is not either insert, update or delete
+     */
+    default DocumentPreparedStatement addBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
+    /**
+     * Executes every row added by {@link DocumentPreparedStatement#addBatch()} as a single bulk operation
+     * and clears the batch.
+     *
+     * @return the entities either inserted or updated, if delete it will return an empty list
+     * @throws org.jnosql.diana.api.BulkException when at least one row fails
+     * @throws UnsupportedOperationException      when the statement is not either insert, update or delete
+     */
+    default List<DocumentEntity> executeBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
 }
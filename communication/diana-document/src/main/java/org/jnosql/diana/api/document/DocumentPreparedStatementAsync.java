@@ -19,6 +19,7 @@ package org.jnosql.diana.api.document;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -51,4 +52,27 @@ public interface DocumentPreparedStatementAsync {
      */
     void getSingleResult(Consumer<Optional<DocumentEntity>> callBack);
 
+    /**
+     * Adds the current bound values as a new row of the batch, the bound values are kept to the next row.
+     *
+     * @return the same query instance
+     * @throws org.jnosql.diana.api.QueryException when there is a parameter without value
+     * @throws UnsupportedOperationException       when the statement is not either insert, update or delete
+     */
+    default DocumentPreparedStatementAsync addBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
+    /**
+     * Executes every row added by {@link DocumentPreparedStatementAsync#addBatch()} as a single bulk operation
+     * and clears the batch.
+     *
+     * @return the {@link CompletionStage} of the entities either inserted or updated, if delete an empty list,
+     * it completes exceptionally with {@link org.jnosql.diana.api.BulkException} when at least one row fails
+     * @throws UnsupportedOperationException when the statement is not either insert, update or delete
+     */
+    default CompletionStage<List<DocumentEntity>> executeBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
 }
@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.document.query;
+
+import org.jnosql.diana.api.document.DocumentObserverParser;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DocumentObserverParser} that keeps the names returned by another observer, so a prepared statement
+ * asks it once for each name instead of once for each execution.
+ */
+final class CachedDocumentObserverParser implements DocumentObserverParser {
+
+    private final DocumentObserverParser observer;
+
+    private final Map<String, String> entities = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> fields = new ConcurrentHashMap<>();
+
+    CachedDocumentObserverParser(DocumentObserverParser observer) {
+        this.observer = observer;
+    }
+
+    @Override
+    public String fireEntity(String entity) {
+        return entities.computeIfAbsent(entity, observer::fireEntity);
+    }
+
+    @Override
+    public String fireField(String entity, String document) {
+        return fields.computeIfAbsent(entity, e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(document, f -> observer.fireField(entity, f));
+    }
+}
@@ -16,61 +16,48 @@
  */
 package org.jnosql.diana.api.document.query;
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
-import org.jnosql.diana.api.QueryException;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentPreparedStatement;
-import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.document.query.DocumentStatement.PreparedStatementType;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+/**
+ * An execution of a {@link DocumentStatement}. It keeps the values bound to it and each run creates its query from
+ * them, so it might run many times with different values, and the executions of a statement never share them.
+ * The batch is guarded by its own lock, so a row added from another thread, such as a callback, is never lost.
+ */
 final class DefaultDocumentPreparedStatement implements DocumentPreparedStatement {
 
-    private final DocumentEntity entity;
-
-    private final DocumentQuery documentQuery;
-
-    private final DocumentDeleteQuery documentDeleteQuery;
-
-    private final PreparedStatementType type;
-
-    private final Params params;
+    private final DocumentStatement statement;
 
-    private final String query;
+    private final DocumentCollectionManager manager;
 
-    private final List<String> paramsLeft;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final Duration duration;
+    private final List<DocumentEntity> batchEntities = new ArrayList<>();
 
-    private final DocumentCollectionManager manager;
+    private final List<DocumentDeleteQuery> batchDeleteQueries = new ArrayList<>();
 
-    private DefaultDocumentPreparedStatement(DocumentEntity entity,
-                                             DocumentQuery documentQuery,
-                                             DocumentDeleteQuery documentDeleteQuery,
-                                             PreparedStatementType type,
-                                             Params params,
-                                             String query,
-                                             List<String> paramsLeft,
-                                             Duration duration,
-                                             DocumentCollectionManager manager) {
-        this.entity = entity;
-        this.documentQuery = documentQuery;
-        this.documentDeleteQuery = documentDeleteQuery;
-        this.type = type;
-        this.params = params;
-        this.query = query;
-        this.paramsLeft = paramsLeft;
+    DefaultDocumentPreparedStatement(DocumentStatement statement, DocumentCollectionManager manager) {
+        this.statement = statement;
         this.manager = manager;
-        this.duration = duration;
     }
 
     @Override
@@ -78,29 +65,27 @@ final class DefaultDocumentPreparedStatement implements DocumentPreparedStatemen
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
     @Override
     public List<DocumentEntity> getResultList() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
         switch (type) {
             case SELECT:
-                return manager.select(documentQuery);
+                return manager.select(statement.getDocumentQuery(values));
             case DELETE:
-                manager.delete(documentDeleteQuery);
+                manager.delete(statement.getDocumentDeleteQuery(values));
                 return emptyList();
             case UPDATE:
-                return singletonList(manager.update(entity));
+                return singletonList(manager.update(statement.getEntity(values)));
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    return singletonList(manager.insert(entity));
+                    return singletonList(manager.insert(statement.getEntity(values)));
                 } else {
-                    return singletonList(manager.insert(entity, duration));
+                    return singletonList(manager.insert(statement.getEntity(values), duration));
                 }
             default:
                 throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -118,59 +103,74 @@ final class DefaultDocumentPreparedStatement implements DocumentPreparedStatemen
             return Optional.of(entities.get(0));
         }
 
-        throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        throw new NonUniqueResultException("The select returns more than one entity, select: " + statement.getQuery());
     }
 
-    enum PreparedStatementType {
-        SELECT, DELETE, UPDATE, INSERT
+    @Override
+    public DocumentPreparedStatement addBatch() {
+        PreparedStatementType type = statement.getType();
+        switch (type) {
+            case DELETE:
+                add(batchDeleteQueries, statement.getDocumentDeleteQuery(values));
+                return this;
+            case UPDATE:
+            case INSERT:
+                add(batchEntities, statement.getEntity(values));
+                return this;
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-
     @Override
-    public String toString() {
-        return query;
+    public List<DocumentEntity> executeBatch() {
+        BulkOptions options = BulkOptions.defaultOptions();
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
+        switch (type) {
+            case DELETE:
+                check(Bulks.execute(drain(batchDeleteQueries), options, q -> {
+                    manager.delete(q);
+                    return q;
+                }));
+                return emptyList();
+            case UPDATE:
+                return check(manager.update(drain(batchEntities), options));
+            case INSERT:
+                if (Objects.isNull(duration)) {
+                    return check(manager.insert(drain(batchEntities), options));
+                } else {
+                    return check(Bulks.execute(drain(batchEntities), options, e -> manager.insert(e, duration)));
+                }
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-    static DocumentPreparedStatement select(
-            DocumentQuery documentQuery,
-            Params params,
-            String query,
-            DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(null, documentQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> void add(List<T> batch, T item) {
+        synchronized (batch) {
+            batch.add(item);
+        }
     }
 
-    static DocumentPreparedStatement delete(DocumentDeleteQuery documentDeleteQuery,
-                                            Params params,
-                                            String query,
-                                            DocumentCollectionManager manager) {
-
-        return new DefaultDocumentPreparedStatement(null, null,
-                documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> List<T> drain(List<T> batch) {
+        synchronized (batch) {
+            List<T> items = new ArrayList<>(batch);
+            batch.clear();
+            return items;
+        }
     }
 
-    static DocumentPreparedStatement insert(DocumentEntity entity,
-                                            Params params,
-                                            String query,
-                                            Duration duration,
-                                            DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
-
+    private static <T> List<T> check(BulkResult<T> result) {
+        if (result.hasFailures()) {
+            throw new BulkException("The batch failed on " + result.getFailures().size() + " rows",
+                    result.getFailures());
+        }
+        return result.getResults();
     }
 
-    static DocumentPreparedStatement update(DocumentEntity entity,
-                                            Params params,
-                                            String query,
-                                            DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
-
+    @Override
+    public String toString() {
+        return statement.getQuery();
     }
 }
@@ -16,60 +16,49 @@
  */
 package org.jnosql.diana.api.document.query;
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
+import org.jnosql.diana.api.Bulks;
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentPreparedStatementAsync;
-import org.jnosql.diana.api.document.DocumentQuery;
-import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.document.query.DocumentStatement.PreparedStatementType;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
+/**
+ * An asynchronous execution of a {@link DocumentStatement}. It keeps the values bound to it and each run creates its
+ * query from them, so it might run many times with different values, and the executions of a statement never share
+ * them. The batch is guarded by its own lock, so a row added from another thread, such as a callback, is never lost.
+ */
 final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedStatementAsync {
 
-    private final DocumentEntity entity;
-
-    private final DocumentQuery documentQuery;
-
-    private final DocumentDeleteQuery documentDeleteQuery;
-
-    private final PreparedStatementType type;
+    private final DocumentStatement statement;
 
-    private final Params params;
-
-    private final String query;
+    private final DocumentCollectionManagerAsync manager;
 
-    private final List<String> paramsLeft;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final Duration duration;
+    private final List<DocumentEntity> batchEntities = new ArrayList<>();
 
-    private final DocumentCollectionManagerAsync manager;
+    private final List<DocumentDeleteQuery> batchDeleteQueries = new ArrayList<>();
 
-    private DefaultDocumentPreparedStatementAsync(DocumentEntity entity,
-                                                  DocumentQuery documentQuery,
-                                                  DocumentDeleteQuery documentDeleteQuery,
-                                                  PreparedStatementType type,
-                                                  Params params,
-                                                  String query,
-                                                  List<String> paramsLeft,
-                                                  Duration duration,
-                                                  DocumentCollectionManagerAsync manager) {
-        this.entity = entity;
-        this.documentQuery = documentQuery;
-        this.documentDeleteQuery = documentDeleteQuery;
-        this.type = type;
-        this.params = params;
-        this.query = query;
-        this.paramsLeft = paramsLeft;
+    DefaultDocumentPreparedStatementAsync(DocumentStatement statement, DocumentCollectionManagerAsync manager) {
+        this.statement = statement;
         this.manager = manager;
-        this.duration = duration;
     }
 
     @Override
@@ -77,33 +66,31 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
     @Override
     public void getResultList(Consumer<List<DocumentEntity>> callBack) {
         Objects.requireNonNull(callBack, "callBack is required");
-
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
         switch (type) {
             case SELECT:
-                manager.select(documentQuery, callBack);
+                manager.select(statement.getDocumentQuery(values), callBack);
                 return;
             case DELETE:
-                manager.delete(documentDeleteQuery, c -> callBack.accept(Collections.emptyList()));
+                manager.delete(statement.getDocumentDeleteQuery(values), c -> callBack.accept(Collections.emptyList()));
                 return;
             case UPDATE:
-                manager.update(entity, c -> callBack.accept(Collections.singletonList(c)));
+                manager.update(statement.getEntity(values), c -> callBack.accept(Collections.singletonList(c)));
                 return;
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    manager.insert(entity, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert(statement.getEntity(values), c -> callBack.accept(Collections.singletonList(c)));
                 } else {
-                    manager.insert(entity, duration, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert(statement.getEntity(values), duration,
+                            c -> callBack.accept(Collections.singletonList(c)));
                 }
                 return;
             default:
@@ -124,61 +111,86 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
                 callBack.accept(Optional.of(entities.get(0)));
                 return;
             }
-            throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+            throw new NonUniqueResultException("The select returns more than one entity, select: " + statement.getQuery());
         });
 
     }
 
-    enum PreparedStatementType {
-        SELECT, DELETE, UPDATE, INSERT
+    @Override
+    public DocumentPreparedStatementAsync addBatch() {
+        PreparedStatementType type = statement.getType();
+        switch (type) {
+            case DELETE:
+                add(batchDeleteQueries, statement.getDocumentDeleteQuery(values));
+                return this;
+            case UPDATE:
+            case INSERT:
+                add(batchEntities, statement.getEntity(values));
+                return this;
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-
     @Override
-    public String toString() {
-        return query;
+    public CompletionStage<List<DocumentEntity>> executeBatch() {
+        PreparedStatementType type = statement.getType();
+        Duration duration = statement.getDuration();
+        if (PreparedStatementType.SELECT.equals(type)) {
+            throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
+        CompletableFuture<List<DocumentEntity>> future = new CompletableFuture<>();
+        BulkOptions options = BulkOptions.defaultOptions();
+        try {
+            switch (type) {
+                case DELETE:
+                    Bulks.execute(drain(batchDeleteQueries), options,
+                            (q, c) -> manager.delete(q, v -> c.accept(q)),
+                            r -> complete(future, r, Collections.emptyList()));
+                    break;
+                case UPDATE:
+                    manager.update(drain(batchEntities), options, r -> complete(future, r, r.getResults()));
+                    break;
+                default:
+                    if (Objects.isNull(duration)) {
+                        manager.insert(drain(batchEntities), options, r -> complete(future, r, r.getResults()));
+                    } else {
+                        Bulks.execute(drain(batchEntities), options, (e, c) -> manager.insert(e, duration, c),
+                                r -> complete(future, r, r.getResults()));
+                    }
+            }
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
     }
 
-    static DefaultDocumentPreparedStatementAsync select(
-            DocumentQuery documentQuery,
-            Params params,
-            String query,
-            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(null, documentQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> void add(List<T> batch, T item) {
+        synchronized (batch) {
+            batch.add(item);
+        }
     }
 
-    static DefaultDocumentPreparedStatementAsync delete(DocumentDeleteQuery documentDeleteQuery,
-                                                        Params params,
-                                            String query,
-                                            DocumentCollectionManagerAsync manager) {
-
-        return new DefaultDocumentPreparedStatementAsync(null, null,
-                documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
-
+    private static <T> List<T> drain(List<T> batch) {
+        synchronized (batch) {
+            List<T> items = new ArrayList<>(batch);
+            batch.clear();
+            return items;
+        }
     }
 
-    static DefaultDocumentPreparedStatementAsync insert(DocumentEntity entity,
-                                                        Params params,
-                                            String query,
-                                            Duration duration,
-                                            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
-
+    private static <T> void complete(CompletableFuture<List<DocumentEntity>> future, BulkResult<T> result,
+                                     List<DocumentEntity> entities) {
+        if (result.hasFailures()) {
+            future.completeExceptionally(new BulkException("The batch failed on " + result.getFailures().size()
+                    + " rows", result.getFailures()));
+        } else {
+            future.complete(entities);
+        }
     }
 
-    static DefaultDocumentPreparedStatementAsync update(DocumentEntity entity,
-                                                        Params params,
-                                            String query,
-                                            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
-
+    @Override
+    public String toString() {
+        return statement.getQuery();
     }
 }
@@ -38,16 +38,15 @@ import java.util.stream.Collectors;
 final class DeleteQueryParser implements DeleteQueryConverter {
 
     private final DeleteQuerySupplier selectQuerySupplier;
-    private final CacheQuery<DocumentDeleteQuery> cache;
 
     DeleteQueryParser() {
         this.selectQuerySupplier = DeleteQuerySupplier.getSupplier();
-        cache = new CacheQuery<>(this::getQuery);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        DocumentDeleteQuery documentQuery = cache.get(query, observer);
+        DocumentDeleteQuery documentQuery = DocumentQueryCaches.DELETE.get(query, observer,
+                () -> getQuery(query, observer));
         collectionManager.delete(documentQuery);
         return Collections.emptyList();
     }
@@ -55,24 +54,28 @@ final class DeleteQueryParser implements DeleteQueryConverter {
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager,
                     Consumer<List<DocumentEntity>> callBack, DocumentObserverParser observer) {
 
-        DocumentDeleteQuery documentQuery = cache.get(query, observer);
+        DocumentDeleteQuery documentQuery = DocumentQueryCaches.DELETE.get(query, observer,
+                () -> getQuery(query, observer));
         collectionManager.delete(documentQuery, v -> callBack.accept(Collections.emptyList()));
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager,
                                       DocumentObserverParser observer) {
-        Params params = new Params();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DefaultDocumentPreparedStatement.delete(documentQuery, params, query, collectionManager);
+        return getStatement(query, observer).newExecution(collectionManager);
     }
 
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
-        Params params = new Params();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DefaultDocumentPreparedStatementAsync.delete(documentQuery, params, query, collectionManager);
+        return getStatement(query, observer).newExecution(collectionManager);
+    }
 
+    private DocumentStatement getStatement(String query, DocumentObserverParser observer) {
+        return DocumentQueryCaches.STATEMENT.get(query, observer, () -> {
+            DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
+            DocumentObserverParser cached = new CachedDocumentObserverParser(observer);
+            return DocumentStatement.delete(p -> getQuery(p, cached, deleteQuery), query);
+        });
     }
 
     @Override
@@ -84,12 +87,6 @@ final class DeleteQueryParser implements DeleteQueryConverter {
         return new DefaultDocumentDeleteQueryParams(query, params);
     }
 
-    private DocumentDeleteQuery getQuery(String query, Params params, DocumentObserverParser observer) {
-        DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
-    }
-
     private DocumentDeleteQuery getQuery(Params params, DocumentObserverParser observer,
                                          DeleteQuery deleteQuery) {
         String collection = observer.fireEntity(deleteQuery.getEntity());
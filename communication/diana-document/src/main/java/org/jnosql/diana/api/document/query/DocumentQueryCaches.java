@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.document.query;
+
+import org.jnosql.diana.api.QueryCache;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+/**
+ * The caches shared by every document query parser, one to each query type and one to the prepared statements.
+ * The key is the query as text and the values are kept apart to each observer, since the observer resolves
+ * the names of the query.
+ * The max size of each one is defined by {@link QueryCache#MAX_SIZE_PROPERTY}.
+ */
+public final class DocumentQueryCaches {
+
+    static final QueryCache<DocumentQuery> SELECT = QueryCache.of();
+
+    static final QueryCache<DocumentDeleteQuery> DELETE = QueryCache.of();
+
+    static final QueryCache<DocumentStatement> STATEMENT = QueryCache.of();
+
+    private DocumentQueryCaches() {
+    }
+
+    /**
+     * Returns the cache of the select queries, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<?> getSelectCache() {
+        return SELECT;
+    }
+
+    /**
+     * Returns the cache of the delete queries, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<?> getDeleteCache() {
+        return DELETE;
+    }
+
+    /**
+     * Returns the cache of the prepared statements, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<?> getStatementCache() {
+        return STATEMENT;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.document.query;
+
+import org.jnosql.diana.api.Params;
+import org.jnosql.diana.api.PreparedQuery;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentPreparedStatement;
+import org.jnosql.diana.api.document.DocumentPreparedStatementAsync;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An immutable statement, parsed once to each query text, that creates the prepared statements. Each execution
+ * has its own bound values, so a statement is shared between the executions and the threads.
+ */
+final class DocumentStatement {
+
+    private final PreparedQuery<DocumentEntity> entity;
+
+    private final PreparedQuery<DocumentQuery> documentQuery;
+
+    private final PreparedQuery<DocumentDeleteQuery> documentDeleteQuery;
+
+    private final PreparedStatementType type;
+
+    private final String query;
+
+    private final Duration duration;
+
+    private DocumentStatement(PreparedQuery<DocumentEntity> entity,
+                              PreparedQuery<DocumentQuery> documentQuery,
+                              PreparedQuery<DocumentDeleteQuery> documentDeleteQuery,
+                              PreparedStatementType type,
+                              String query,
+                              Duration duration) {
+        this.entity = entity;
+        this.documentQuery = documentQuery;
+        this.documentDeleteQuery = documentDeleteQuery;
+        this.type = type;
+        this.query = query;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates a new execution of this statement
+     *
+     * @param manager the manager
+     * @return a new {@link DocumentPreparedStatement} without any value bound
+     * @throws NullPointerException when manager is null
+     */
+    DocumentPreparedStatement newExecution(DocumentCollectionManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new DefaultDocumentPreparedStatement(this, manager);
+    }
+
+    /**
+     * Creates a new asynchronous execution of this statement
+     *
+     * @param manager the manager
+     * @return a new {@link DocumentPreparedStatementAsync} without any value bound
+     * @throws NullPointerException when manager is null
+     */
+    DocumentPreparedStatementAsync newExecution(DocumentCollectionManagerAsync manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new DefaultDocumentPreparedStatementAsync(this, manager);
+    }
+
+    PreparedStatementType getType() {
+        return type;
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    DocumentEntity getEntity(Map<String, Object> values) {
+        return entity.bind(values);
+    }
+
+    DocumentQuery getDocumentQuery(Map<String, Object> values) {
+        return documentQuery.bind(values);
+    }
+
+    DocumentDeleteQuery getDocumentDeleteQuery(Map<String, Object> values) {
+        return documentDeleteQuery.bind(values);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    enum PreparedStatementType {
+        SELECT, DELETE, UPDATE, INSERT
+    }
+
+    static DocumentStatement select(Function<Params, DocumentQuery> documentQuery, String query) {
+        return new DocumentStatement(null, PreparedQuery.of(documentQuery), null,
+                PreparedStatementType.SELECT, query, null);
+    }
+
+    static DocumentStatement delete(Function<Params, DocumentDeleteQuery> documentDeleteQuery, String query) {
+        return new DocumentStatement(null, null, PreparedQuery.of(documentDeleteQuery),
+                PreparedStatementType.DELETE, query, null);
+    }
+
+    static DocumentStatement insert(Function<Params, DocumentEntity> entity, String query, Duration duration) {
+        return new DocumentStatement(PreparedQuery.perExecution(entity), null, null,
+                PreparedStatementType.INSERT, query, duration);
+    }
+
+    static DocumentStatement update(Function<Params, DocumentEntity> entity, String query) {
+        return new DocumentStatement(PreparedQuery.perExecution(entity), null, null,
+                PreparedStatementType.UPDATE, query, null);
+    }
+}
@@ -84,27 +84,22 @@ final class InsertQueryParser {
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
-        InsertQuery insertQuery = supplier.apply(query);
-
-        String collection = observer.fireEntity(insertQuery.getEntity());
-        Params params = new Params();
-
-        Optional<Duration> ttl = insertQuery.getTtl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
-
-        return DefaultDocumentPreparedStatement.insert(entity, params, query, ttl.orElse(null), collectionManager);
-
+        return getStatement(query, observer).newExecution(collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager, DocumentObserverParser observer) {
-        Params params = new Params();
-
-        InsertQuery insertQuery = supplier.apply(query);
-        String collection = observer.fireEntity(insertQuery.getEntity());
-        Optional<Duration> ttl = insertQuery.getTtl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
+        return getStatement(query, observer).newExecution(collectionManager);
+    }
 
-        return DefaultDocumentPreparedStatementAsync.insert(entity, params, query, ttl.orElse(null), collectionManager);
+    private DocumentStatement getStatement(String query, DocumentObserverParser observer) {
+        return DocumentQueryCaches.STATEMENT.get(query, observer, () -> {
+            InsertQuery insertQuery = supplier.apply(query);
+            DocumentObserverParser cached = new CachedDocumentObserverParser(observer);
+            String collection = cached.fireEntity(insertQuery.getEntity());
+            Optional<Duration> ttl = insertQuery.getTtl();
+            return DocumentStatement.insert(p -> getEntity(insertQuery, collection, p, cached), query,
+                    ttl.orElse(null));
+        });
     }
 
     private DocumentEntity getEntity(InsertQuery insertQuery, String collection, Params params, DocumentObserverParser observer) {
@@ -42,44 +42,41 @@ import static org.jnosql.diana.api.Sort.SortType.DESC;
 final class SelectQueryParser  implements SelectQueryConverter{
 
     private final SelectQuerySupplier selectQuerySupplier;
-    private final CacheQuery<DocumentQuery> cache;
 
     SelectQueryParser() {
         this.selectQuerySupplier = SelectQuerySupplier.getSupplier();
-        this.cache = new CacheQuery<>(this::getDocumentQuery);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        DocumentQuery documentQuery = cache.get(query, observer);
+        DocumentQuery documentQuery = DocumentQueryCaches.SELECT.get(query, observer,
+                () -> getDocumentQuery(query, observer));
         return collectionManager.select(documentQuery);
     }
 
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager, Consumer<List<DocumentEntity>> callBack,
                     DocumentObserverParser observer) {
 
-        DocumentQuery documentQuery = cache.get(query, observer);
+        DocumentQuery documentQuery = DocumentQueryCaches.SELECT.get(query, observer,
+                () -> getDocumentQuery(query, observer));
         collectionManager.select(documentQuery, callBack);
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
-
-        Params params = new Params();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DefaultDocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
+        return getStatement(query, observer).newExecution(collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
-        Params params = new Params();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
+        return getStatement(query, observer).newExecution(collectionManager);
+    }
 
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DefaultDocumentPreparedStatementAsync.select(documentQuery, params, query, collectionManager);
+    private DocumentStatement getStatement(String query, DocumentObserverParser observer) {
+        return DocumentQueryCaches.STATEMENT.get(query, observer, () -> {
+            SelectQuery selectQuery = selectQuerySupplier.apply(query);
+            DocumentObserverParser cached = new CachedDocumentObserverParser(observer);
+            return DocumentStatement.select(p -> getDocumentQuery(p, selectQuery, cached), query);
+        });
     }
 
     @Override
@@ -71,23 +71,19 @@ final class UpdateQueryParser {
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
-
-        Params params = new Params();
-
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
-
-        return DefaultDocumentPreparedStatement.update(entity, params, query, collectionManager);
+        return getStatement(query, observer).newExecution(collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager, DocumentObserverParser observer) {
-        Params params = new Params();
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
+        return getStatement(query, observer).newExecution(collectionManager);
+    }
 
-        return DefaultDocumentPreparedStatementAsync.update(entity, params, query, collectionManager);
+    private DocumentStatement getStatement(String query, DocumentObserverParser observer) {
+        return DocumentQueryCaches.STATEMENT.get(query, observer, () -> {
+            UpdateQuery updateQuery = supplier.apply(query);
+            DocumentObserverParser cached = new CachedDocumentObserverParser(observer);
+            return DocumentStatement.update(p -> getEntity(p, updateQuery, cached), query);
+        });
     }
 
     private DocumentEntity getEntity(Params params, UpdateQuery updateQuery, DocumentObserverParser observer) {
@@ -23,6 +23,10 @@ import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentPreparedStatement;
 import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentPreparedStatementAsync;
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.QueryException;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -30,11 +34,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InsertQueryParserTest {
 
@@ -206,6 +215,84 @@ class InsertQueryParserTest {
 
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldExecuteBatch(String query) {
+        ArgumentCaptor<Iterable<DocumentEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.when(documentCollection.insert(captor.capture(), Mockito.any(BulkOptions.class)))
+                .thenAnswer(i -> BulkResult.of(i.<List<DocumentEntity>>getArgument(0), emptyList()));
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("name", "Diana").addBatch();
+        prepare.bind("name", "Artemis").addBatch();
+        List<DocumentEntity> entities = prepare.executeBatch();
+
+        assertEquals(2, entities.size());
+        List<DocumentEntity> batch = new ArrayList<>();
+        captor.getValue().forEach(batch::add);
+        assertEquals(Document.of("name", "Diana"), batch.get(0).find("name").get());
+        assertEquals(Document.of("name", "Artemis"), batch.get(1).find("name").get());
+        assertTrue(prepare.executeBatch().isEmpty());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldExecuteTheBatchAddedFromAnotherThread(String query) throws InterruptedException {
+        ArgumentCaptor<Iterable<DocumentEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.when(documentCollection.insert(captor.capture(), Mockito.any(BulkOptions.class)))
+                .thenAnswer(i -> BulkResult.of(i.<List<DocumentEntity>>getArgument(0), emptyList()));
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("name", "Diana").addBatch();
+        Thread thread = new Thread(() -> prepare.bind("name", "Artemis").addBatch());
+        thread.start();
+        thread.join();
+
+        assertEquals(2, prepare.executeBatch().size());
+        List<DocumentEntity> batch = new ArrayList<>();
+        captor.getValue().forEach(batch::add);
+        assertEquals(Document.of("name", "Artemis"), batch.get(1).find("name").get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldReturnErrorWhenBatchFails(String query) {
+        DocumentEntity entity = DocumentEntity.of("God");
+        Mockito.when(documentCollection.insert(Mockito.any(Iterable.class), Mockito.any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(emptyList(),
+                        singletonList(BulkFailure.of(0, entity, new IllegalStateException()))));
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("name", "Diana").addBatch();
+        BulkException exception = assertThrows(BulkException.class, prepare::executeBatch);
+        assertEquals(1, exception.getFailures().size());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldCompleteExceptionallyWhenBatchFailsAsync(String query) {
+        DocumentEntity entity = DocumentEntity.of("God");
+        Mockito.doAnswer(i -> {
+            i.<Consumer<BulkResult<DocumentEntity>>>getArgument(2).accept(BulkResult.of(emptyList(),
+                    singletonList(BulkFailure.of(0, entity, new IllegalStateException()))));
+            return null;
+        }).when(documentCollectionAsync).insert(Mockito.any(Iterable.class), Mockito.any(BulkOptions.class),
+                Mockito.any(Consumer.class));
+
+        DocumentPreparedStatementAsync prepare = parser.prepareAsync(query, documentCollectionAsync, observer);
+        prepare.bind("name", "Diana").addBatch();
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> prepare.executeBatch().toCompletableFuture().join());
+        assertEquals(1, ((BulkException) exception.getCause()).getFailures().size());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"insert God (name = @name)"})
+    public void shouldReturnErrorWhenAddBatchWithoutParameters(String query) {
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        assertThrows(QueryException.class, prepare::addBatch);
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"insert God (name = @name)"})
     public void shouldReturnErrorWhenShouldUsePrepareStatmentAsync(String query) {
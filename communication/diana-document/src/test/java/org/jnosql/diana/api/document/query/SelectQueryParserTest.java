@@ -524,6 +524,40 @@ public class SelectQueryParserTest {
         assertEquals(12, document.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatmentManyTimes(String query) {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        prepare.getResultList();
+        prepare.bind("age", 20);
+        prepare.getResultList();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        assertEquals(12, queries.get(0).getCondition().map(DocumentCondition::getDocument).map(Document::get).get());
+        assertEquals(20, queries.get(1).getCondition().map(DocumentCondition::getDocument).map(Document::get).get());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldNotShareTheValuesBetweenExecutions(String query) {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12);
+        DocumentPreparedStatement other = parser.prepare(query, documentCollection, observer);
+        assertThrows(QueryException.class, other::getResultList);
+
+        other.bind("age", 20).getResultList();
+        prepare.getResultList();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        assertEquals(20, queries.get(0).getCondition().map(DocumentCondition::getDocument).map(Document::get).get());
+        assertEquals(12, queries.get(1).getCondition().map(DocumentCondition::getDocument).map(Document::get).get());
+    }
+
 
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
@@ -593,4 +627,17 @@ public class SelectQueryParserTest {
         assertEquals(skip, documentQuery.getSkip());
         assertEquals("God", documentQuery.getDocumentCollection());
     }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select * from SharedCache"})
+    public void shouldShareTheQueryBetweenParsersWithTheSameObserver(String query) {
+        DocumentObserverParser counter = Mockito.spy(observer);
+        new SelectQueryParser().query(query, documentCollection, counter);
+        new SelectQueryParser().query(query, documentCollection, counter);
+        Mockito.verify(counter, Mockito.times(1)).fireEntity("SharedCache");
+
+        DocumentObserverParser other = Mockito.spy(observer);
+        new SelectQueryParser().query(query, documentCollection, other);
+        Mockito.verify(other, Mockito.times(1)).fireEntity("SharedCache");
+    }
 }
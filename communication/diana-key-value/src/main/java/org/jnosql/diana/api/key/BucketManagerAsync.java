@@ -0,0 +1,164 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.api.key;
+
+
+import org.jnosql.diana.api.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Interface used to interact with the persistence context to {@link KeyValueEntity} asynchronously.
+ * Each operation returns a {@link CompletionStage} that completes when the database answers,
+ * or completes exceptionally when the operation fails, instead of blocking the caller.
+ */
+public interface BucketManagerAsync extends AutoCloseable {
+
+    /**
+     * Associates the specified value with the specified key and than storage asynchronously
+     *
+     * @param key   the key
+     * @param value the value
+     * @param <K>   the key type
+     * @param <V>   the value type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when either key or value are null
+     */
+    <K, V> CompletionStage<Void> put(K key, V value);
+
+    /**
+     * Saves the {@link KeyValueEntity} asynchronously
+     *
+     * @param entity the entity to be insert
+     * @param <K>    the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when entity is null
+     */
+    <K> CompletionStage<Void> put(KeyValueEntity<K> entity);
+
+    /**
+     * Saves the {@link KeyValueEntity} with time to live asynchronously
+     *
+     * @param entity the entity to be insert
+     * @param ttl    the defined time to live
+     * @param <K>    the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException          when entity is null
+     * @throws UnsupportedOperationException when expired time is not supported
+     */
+    <K> CompletionStage<Void> put(KeyValueEntity<K> entity, Duration ttl);
+
+    /**
+     * Saves the {@link Iterable} of keys asynchronously
+     *
+     * @param entities keys to be insert
+     * @param <K>      the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when the iterable is null
+     */
+    <K> CompletionStage<Void> put(Iterable<KeyValueEntity<K>> entities);
+
+    /**
+     * Saves the {@link Iterable} of keys with a defined time to live asynchronously
+     *
+     * @param entities keys to be insert
+     * @param ttl      the time to entity expire
+     * @param <K>      the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException          when the iterable is null
+     * @throws UnsupportedOperationException when expired time is not supported
+     */
+    <K> CompletionStage<Void> put(Iterable<KeyValueEntity<K>> entities, Duration ttl);
+
+    /**
+     * Finds the Value from a key asynchronously
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the {@link CompletionStage} of the {@link Optional}, when is not found will be {@link Optional#empty()}
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Optional<Value>> get(K key);
+
+    /**
+     * Finds a list of values from keys asynchronously
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} of the list of result
+     * @throws NullPointerException when either the keys or the entities values are null
+     */
+    <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys);
+
+    /**
+     * Removes an entity from key asynchronously
+     *
+     * @param key the key bo be used
+     * @param <K> the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> remove(K key);
+
+    /**
+     * Removes entities from keys asynchronously
+     *
+     * @param keys the keys to be used
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> remove(Iterable<K> keys);
+
+    /**
+     * Executes a query asynchronously, see {@link BucketManager#query(String)}.
+     * A syntax error either is thrown or completes the stage exceptionally, depending on the provider.
+     *
+     * @param query the query as {@link String}
+     * @return the {@link CompletionStage} of the result, if the command is <b>remove</b> or <b>put</b>
+     * it will be an empty list
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<List<Value>> query(String query);
+
+    /**
+     * closes a resource
+     */
+    void close();
+
+    /**
+     * Creates a {@link BucketManagerAsync} that runs each operation of a blocking {@link BucketManager}
+     * on the executor, so a provider without an asynchronous client can still offer this API.
+     *
+     * @param manager  the blocking manager
+     * @param executor the executor that runs the operations
+     * @return a new {@link BucketManagerAsync} instance
+     * @throws NullPointerException when either manager or executor are null
+     */
+    static BucketManagerAsync of(BucketManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultBucketManagerAsync(manager, executor);
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.api.key;
+
+
+/**
+ * {@link BucketManagerAsync} factory.
+ * When the application has finished using the bucket manager factory, and/or at application shutdown,
+ * the application should close the bucket manager factory.
+ *
+ * @param <T> the {@link BucketManagerAsync} type
+ */
+public interface BucketManagerAsyncFactory<T extends BucketManagerAsync> extends AutoCloseable {
+
+    /**
+     * Creates a {@link BucketManagerAsync} from a bucket name
+     *
+     * @param bucketName a bucket name
+     * @return a {@link BucketManagerAsync} instance
+     * @throws UnsupportedOperationException when the database does not have to it
+     * @throws NullPointerException          when bucketName is null
+     */
+    T getBucketManagerAsync(String bucketName);
+
+    /**
+     * closes a resource
+     */
+    void close();
+}
@@ -0,0 +1,125 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.api.key;
+
+
+import org.jnosql.diana.api.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link BucketManagerAsync} that runs a blocking {@link BucketManager} on an {@link Executor}
+ */
+final class DefaultBucketManagerAsync implements BucketManagerAsync {
+
+    private final BucketManager manager;
+
+    private final Executor executor;
+
+    DefaultBucketManagerAsync(BucketManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public <K, V> CompletionStage<Void> put(K key, V value) {
+        requireNonNull(key, "key is required");
+        requireNonNull(value, "value is required");
+        return run(() -> manager.put(key, value));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> put(KeyValueEntity<K> entity) {
+        requireNonNull(entity, "entity is required");
+        return run(() -> manager.put(entity));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> put(KeyValueEntity<K> entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return run(() -> manager.put(entity, ttl));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> put(Iterable<KeyValueEntity<K>> entities) {
+        requireNonNull(entities, "entities is required");
+        return run(() -> manager.put(entities));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> put(Iterable<KeyValueEntity<K>> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return run(() -> manager.put(entities, ttl));
+    }
+
+    @Override
+    public <K> CompletionStage<Optional<Value>> get(K key) {
+        requireNonNull(key, "key is required");
+        return CompletableFuture.supplyAsync(() -> manager.get(key), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return CompletableFuture.supplyAsync(() -> manager.get(keys), executor);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(K key) {
+        requireNonNull(key, "key is required");
+        return run(() -> manager.remove(key));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return run(() -> manager.remove(keys));
+    }
+
+    @Override
+    public CompletionStage<List<Value>> query(String query) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> manager.query(query), executor);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    private CompletionStage<Void> run(Runnable operation) {
+        return CompletableFuture.runAsync(operation, executor);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultBucketManagerAsync{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -48,4 +48,25 @@ public interface KeyValuePreparedStatement {
      * @throws org.jnosql.diana.api.NonUniqueResultException when the result has more than one entity
      */
     Optional<Value> getSingleResult();
+
+    /**
+     * Adds the current bound values as a new row of the batch, the bound values are kept to the next row.
+     *
+     * @return the same query instance
+     * @throws org.jnosql.diana.api.QueryException when there is a parameter without value
+     * @throws UnsupportedOperationException       when the statement is not either put or del
+     */
+    default KeyValuePreparedStatement addBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
+
+    /**
+     * Executes every row added by {@link KeyValuePreparedStatement#addBatch()} as a single bulk operation
+     * and clears the batch.
+     *
+     * @throws UnsupportedOperationException when the statement is not either put or del
+     */
+    default void executeBatch() {
+        throw new UnsupportedOperationException("The batch is not supported by this statement");
+    }
 }
@@ -17,54 +17,42 @@
 package org.jnosql.diana.api.key.query;
 
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
 import org.jnosql.diana.api.key.KeyValueEntity;
 import org.jnosql.diana.api.key.KeyValuePreparedStatement;
-import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.key.query.KeyValueStatement.PreparedStatementType;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * An execution of a {@link KeyValueStatement}. It keeps the values bound to it and each run creates its keys from
+ * them, so it might run many times with different values, and the executions of a statement never share them.
+ * The batch is guarded by its own lock, so a row added from another thread, such as a callback, is never lost.
+ */
 final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatement {
 
-
-    private final List<Value> keys;
-
-    private final PreparedStatementType type;
+    private final KeyValueStatement statement;
 
     private final BucketManager manager;
 
-    private final List<String> paramsLeft;
-
-    private final Params params;
+    private final Map<String, Object> values = new HashMap<>();
 
-    private final Duration ttl;
+    private final List<KeyValueEntity<Object>> batchEntities = new ArrayList<>();
 
-    private final String query;
-    private final Value key;
-    private final Value value;
+    private final List<Object> batchKeys = new ArrayList<>();
 
-    DefaultKeyValuePreparedStatement(Value key, Value value, List<Value> keys,
-                                     PreparedStatementType type,
-                                     BucketManager manager,
-                                     Params params,
-                                     Duration ttl, String query) {
-        this.key = key;
-        this.value = value;
-        this.keys = keys;
-        this.type = type;
+    DefaultKeyValuePreparedStatement(KeyValueStatement statement, BucketManager manager) {
+        this.statement = statement;
         this.manager = manager;
-        this.params = params;
-        this.paramsLeft = params.getParametersNames();
-        this.ttl = ttl;
-        this.query = query;
     }
 
     @Override
@@ -72,27 +60,26 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        values.put(name, value);
         return this;
     }
 
     @Override
     public List<Value> getResultList() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        List<Value> bound = statement.getKeys(values);
+        PreparedStatementType type = statement.getType();
+        Duration ttl = statement.getTtl();
         switch (type) {
             case GET:
-                Iterable<Value> values = manager.get(keys.stream().map(Value::get).collect(Collectors.toList()));
+                Iterable<Value> result = manager.get(bound.stream().map(Value::get).collect(Collectors.toList()));
                 List<Value> target = new ArrayList<>();
-                values.forEach(target::add);
+                result.forEach(target::add);
                 return target;
             case DEL:
-                manager.remove(keys.stream().map(Value::get).collect(Collectors.toList()));
+                manager.remove(bound.stream().map(Value::get).collect(Collectors.toList()));
                 return Collections.emptyList();
             case PUT:
-                KeyValueEntity<Object> entity = KeyValueEntity.of(key.get(), value.get());
+                KeyValueEntity<Object> entity = KeyValueEntity.of(bound.get(0).get(), bound.get(1).get());
                 if (Objects.isNull(ttl)) {
                     manager.put(entity);
                 } else {
@@ -114,35 +101,63 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
             return Optional.of(entities.get(0));
         }
 
-        throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        throw new NonUniqueResultException("The select returns more than one entity, select: " + statement.getQuery());
     }
 
-    enum PreparedStatementType {
-        GET, PUT, DEL
+    @Override
+    public KeyValuePreparedStatement addBatch() {
+        PreparedStatementType type = statement.getType();
+        switch (type) {
+            case PUT:
+                List<Value> entity = statement.getKeys(values);
+                KeyValueEntity<Object> row = KeyValueEntity.of(entity.get(0).get(), entity.get(1).get());
+                add(batchEntities, Collections.singletonList(row));
+                return this;
+            case DEL:
+                add(batchKeys, statement.getKeys(values).stream().map(Value::get).collect(Collectors.toList()));
+                return this;
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-    static KeyValuePreparedStatement get(List<Value> keys,
-                                         BucketManager manager,
-                                         Params params, String query) {
-        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.GET,
-                manager, params, null, query);
+    @Override
+    public void executeBatch() {
+        PreparedStatementType type = statement.getType();
+        Duration ttl = statement.getTtl();
+        switch (type) {
+            case PUT:
+                List<KeyValueEntity<Object>> entities = drain(batchEntities);
+                if (Objects.isNull(ttl)) {
+                    manager.put(entities);
+                } else {
+                    manager.put(entities, ttl);
+                }
+                return;
+            case DEL:
+                manager.remove(drain(batchKeys));
+                return;
+            default:
+                throw new UnsupportedOperationException("there is not support to batch on operation type: " + type);
+        }
     }
 
-    static KeyValuePreparedStatement put(Value key,
-                                         Value value,
-                                         BucketManager manager,
-                                         Params params,
-                                         Duration ttl, String query) {
-        return new DefaultKeyValuePreparedStatement(key, value, null, PreparedStatementType.PUT,
-                manager, params, ttl, query);
+    private static <T> void add(List<T> batch, List<T> items) {
+        synchronized (batch) {
+            batch.addAll(items);
+        }
     }
 
-    static KeyValuePreparedStatement del(List<Value> keys,
-                                         BucketManager manager,
-                                         Params params, String query) {
-        return new DefaultKeyValuePreparedStatement(null, null, keys, PreparedStatementType.DEL,
-                manager, params, null, query);
+    private static <T> List<T> drain(List<T> batch) {
+        synchronized (batch) {
+            List<T> items = new ArrayList<>(batch);
+            batch.clear();
+            return items;
+        }
     }
 
-
+    @Override
+    public String toString() {
+        return statement.getQuery();
+    }
 }
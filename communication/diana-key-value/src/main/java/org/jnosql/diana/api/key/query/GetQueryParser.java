@@ -53,9 +53,11 @@ final class GetQueryParser {
     }
 
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
-        GetQuery getQuery = supplier.apply(query);
-        Params params = new Params();
-        List<Value> values = getQuery.getKeys().stream().map(k -> Values.getValue(k, params)).collect(toList());
-        return DefaultKeyValuePreparedStatement.get(values, manager, params, query);
+        KeyValueStatement statement = KeyValueQueryCaches.STATEMENT.get(query, q -> {
+            GetQuery getQuery = supplier.apply(q);
+            return KeyValueStatement.get(p -> getQuery.getKeys().stream()
+                    .map(k -> Values.getValue(k, p)).collect(toList()), q);
+        });
+        return statement.newExecution(manager);
     }
 }
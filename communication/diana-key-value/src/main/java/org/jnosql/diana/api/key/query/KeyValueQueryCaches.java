@@ -0,0 +1,40 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.key.query;
+
+import org.jnosql.diana.api.QueryCache;
+
+/**
+ * The cache of the prepared statements shared by every key-value query parser, the key is the query as text.
+ * The max size is defined by {@link QueryCache#MAX_SIZE_PROPERTY}.
+ */
+public final class KeyValueQueryCaches {
+
+    static final QueryCache<KeyValueStatement> STATEMENT = QueryCache.of();
+
+    private KeyValueQueryCaches() {
+    }
+
+    /**
+     * Returns the cache of the prepared statements, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<?> getStatementCache() {
+        return STATEMENT;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.key.query;
+
+import org.jnosql.diana.api.Params;
+import org.jnosql.diana.api.PreparedQuery;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.KeyValuePreparedStatement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An immutable statement, parsed once to each query text, that creates the prepared statements. Each execution
+ * has its own bound values, so a statement is shared between the executions and the threads.
+ */
+final class KeyValueStatement {
+
+    private final PreparedQuery<List<Value>> keys;
+
+    private final PreparedStatementType type;
+
+    private final Duration ttl;
+
+    private final String query;
+
+    private KeyValueStatement(PreparedQuery<List<Value>> keys, PreparedStatementType type, Duration ttl, String query) {
+        this.keys = keys;
+        this.type = type;
+        this.ttl = ttl;
+        this.query = query;
+    }
+
+    /**
+     * Creates a new execution of this statement
+     *
+     * @param manager the manager
+     * @return a new {@link KeyValuePreparedStatement} without any value bound
+     * @throws NullPointerException when manager is null
+     */
+    KeyValuePreparedStatement newExecution(BucketManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new DefaultKeyValuePreparedStatement(this, manager);
+    }
+
+    PreparedStatementType getType() {
+        return type;
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    List<Value> getKeys(Map<String, Object> values) {
+        return keys.bind(values);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    enum PreparedStatementType {
+        GET, PUT, DEL
+    }
+
+    static KeyValueStatement get(Function<Params, List<Value>> keys, String query) {
+        return new KeyValueStatement(PreparedQuery.of(keys), PreparedStatementType.GET, null, query);
+    }
+
+    static KeyValueStatement put(Function<Params, List<Value>> entity, Duration ttl, String query) {
+        return new KeyValueStatement(PreparedQuery.of(entity), PreparedStatementType.PUT, ttl, query);
+    }
+
+    static KeyValueStatement del(Function<Params, List<Value>> keys, String query) {
+        return new KeyValueStatement(PreparedQuery.of(keys), PreparedStatementType.DEL, null, query);
+    }
+}
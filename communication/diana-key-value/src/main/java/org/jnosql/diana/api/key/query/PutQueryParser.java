@@ -26,6 +26,7 @@ import org.jnosql.query.PutQuerySupplier;
 import org.jnosql.diana.api.QueryException;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -60,12 +61,13 @@ final class PutQueryParser {
     }
 
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
-        PutQuery putQuery = supplier.apply(query);
-        Params params = new Params();
-        Value key = Values.getValue(putQuery.getKey(), params);
-        Value value = Values.getValue(putQuery.getValue(), params);
-        Optional<Duration> ttl = putQuery.getTtl();
+        KeyValueStatement statement = KeyValueQueryCaches.STATEMENT.get(query, q -> {
+            PutQuery putQuery = supplier.apply(q);
+            Optional<Duration> ttl = putQuery.getTtl();
 
-        return DefaultKeyValuePreparedStatement.put(key, value, manager, params, ttl.orElse(null), query);
+            return KeyValueStatement.put(p -> Arrays.asList(Values.getValue(putQuery.getKey(), p),
+                    Values.getValue(putQuery.getValue(), p)), ttl.orElse(null), q);
+        });
+        return statement.newExecution(manager);
     }
 }
@@ -52,9 +52,11 @@ final class RemoveQueryParser {
     }
 
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
-        RemoveQuery delQuery = supplier.apply(query);
-        Params params = new Params();
-        List<Value> values = delQuery.getKeys().stream().map(k -> Values.getValue(k, params)).collect(toList());
-        return DefaultKeyValuePreparedStatement.del(values, manager, params, query);
+        KeyValueStatement statement = KeyValueQueryCaches.STATEMENT.get(query, q -> {
+            RemoveQuery delQuery = supplier.apply(q);
+            return KeyValueStatement.del(p -> delQuery.getKeys().stream()
+                    .map(k -> Values.getValue(k, p)).collect(toList()), q);
+        });
+        return statement.newExecution(manager);
     }
 }
@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.key;
+
+import org.jnosql.diana.api.Value;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BucketManagerAsyncTest {
+
+    private final Executor executor = Runnable::run;
+
+    @Test
+    public void shouldReturnErrorWhenCreateFromNull() {
+        BucketManager bucketManager = Mockito.mock(BucketManager.class);
+        assertThrows(NullPointerException.class, () -> BucketManagerAsync.of(null, executor));
+        assertThrows(NullPointerException.class, () -> BucketManagerAsync.of(bucketManager, null));
+    }
+
+    @Test
+    public void shouldRunTheBlockingManagerOnTheExecutor() {
+        BucketManager bucketManager = Mockito.mock(BucketManager.class);
+        when(bucketManager.get("a")).thenReturn(Optional.of(Value.of(1)));
+        when(bucketManager.get(Collections.singletonList("a"))).thenReturn(Collections.singletonList(Value.of(1)));
+        when(bucketManager.query("get \"a\"")).thenReturn(Collections.singletonList(Value.of(1)));
+        BucketManagerAsync async = BucketManagerAsync.of(bucketManager, executor);
+        KeyValueEntity<String> entity = KeyValueEntity.of("a", 1);
+
+        join(async.put("a", 1));
+        join(async.put(entity, Duration.ofSeconds(1L)));
+        join(async.remove("a"));
+
+        assertEquals(Value.of(1), join(async.get("a")).get());
+        assertEquals(Collections.singletonList(Value.of(1)), join(async.get(Collections.singletonList("a"))));
+        assertEquals(Collections.singletonList(Value.of(1)), join(async.query("get \"a\"")));
+        verify(bucketManager).put("a", 1);
+        verify(bucketManager).put(entity, Duration.ofSeconds(1L));
+        verify(bucketManager).remove("a");
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenTheManagerFails() {
+        BucketManager bucketManager = Mockito.mock(BucketManager.class);
+        when(bucketManager.get("a")).thenThrow(new UnsupportedOperationException());
+        BucketManagerAsync async = BucketManagerAsync.of(bucketManager, executor);
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> join(async.get("a")));
+        assertTrue(exception.getCause() instanceof UnsupportedOperationException);
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+}
@@ -129,4 +129,22 @@ class GetQueryParserTest {
 
         MatcherAssert.assertThat(value, Matchers.contains(10));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"get @id"})
+    public void shouldNotShareTheValuesBetweenExecutions(String query) {
+
+        ArgumentCaptor<List<Object>> captor = ArgumentCaptor.forClass(List.class);
+        KeyValuePreparedStatement prepare = parser.prepare(query, manager);
+        prepare.bind("id", 10);
+        KeyValuePreparedStatement other = parser.prepare(query, manager);
+        assertThrows(QueryException.class, other::getResultList);
+
+        other.bind("id", 20).getResultList();
+        prepare.getResultList();
+
+        Mockito.verify(manager, Mockito.times(2)).get(captor.capture());
+        MatcherAssert.assertThat(captor.getAllValues().get(0), Matchers.contains(20));
+        MatcherAssert.assertThat(captor.getAllValues().get(1), Matchers.contains(10));
+    }
+}
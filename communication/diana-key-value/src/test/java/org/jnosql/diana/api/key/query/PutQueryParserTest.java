@@ -26,6 +26,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -96,4 +98,24 @@ class PutQueryParserTest {
         assertEquals("Diana", entity.getKey());
         assertEquals("Hunt", entity.get());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"put {@key, @value}"})
+    public void shouldExecuteBatch(String query) {
+        KeyValuePreparedStatement prepare = parser.prepare(query, manager);
+        prepare.bind("key", "Diana").bind("value", "Hunt").addBatch();
+        prepare.bind("key", "Artemis").bind("value", "Moon").addBatch();
+        prepare.executeBatch();
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        Mockito.verify(manager).put(captor.capture());
+        List<KeyValueEntity> entities = new ArrayList<>();
+        captor.getValue().forEach(e -> entities.add((KeyValueEntity) e));
+
+        assertEquals(2, entities.size());
+        assertEquals("Diana", entities.get(0).getKey());
+        assertEquals("Hunt", entities.get(0).get());
+        assertEquals("Artemis", entities.get(1).getKey());
+        assertEquals("Moon", entities.get(1).get());
+    }
+}
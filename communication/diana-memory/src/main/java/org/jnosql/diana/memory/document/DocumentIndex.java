@@ -0,0 +1,105 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The secondary indexes of a document name: a hash index for equality lookups and, for the
+ * {@link Comparable} values, one sorted index per value type for range lookups.
+ * The values are in their {@link IndexValues} canonical form. This class is not thread-safe,
+ * {@link MemoryCollection} guards it with its lock.
+ */
+final class DocumentIndex {
+
+    private final Map<Object, Set<MemoryEntry>> hash = new HashMap<>();
+
+    private final Map<Class<?>, NavigableMap<Object, Set<MemoryEntry>>> sorted = new HashMap<>();
+
+    void add(Object value, MemoryEntry entry) {
+        hash.computeIfAbsent(value, k -> new LinkedHashSet<>()).add(entry);
+        if (IndexValues.isComparable(value)) {
+            sorted.computeIfAbsent(value.getClass(), k -> new TreeMap<>())
+                    .computeIfAbsent(value, k -> new LinkedHashSet<>()).add(entry);
+        }
+    }
+
+    void remove(Object value, MemoryEntry entry) {
+        remove(hash, value, entry);
+        if (IndexValues.isComparable(value)) {
+            NavigableMap<Object, Set<MemoryEntry>> values = sorted.get(value.getClass());
+            if (values != null) {
+                remove(values, value, entry);
+                if (values.isEmpty()) {
+                    sorted.remove(value.getClass());
+                }
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return hash.isEmpty();
+    }
+
+    Set<MemoryEntry> equalsTo(Object value) {
+        return hash.getOrDefault(value, Collections.emptySet());
+    }
+
+    /**
+     * Returns the entries whose value is within the range, a null bound means the range is open on that side.
+     * Both bounds, when informed, must have the same type.
+     */
+    Collection<MemoryEntry> range(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        Object bound = from == null ? to : from;
+        if (!IndexValues.isComparable(bound) || (from != null && to != null && !from.getClass().equals(to.getClass()))) {
+            return Collections.emptyList();
+        }
+        NavigableMap<Object, Set<MemoryEntry>> values = sorted.get(bound.getClass());
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        if (from != null) {
+            values = values.tailMap(from, fromInclusive);
+        }
+        if (to != null) {
+            if (from != null && IndexValues.compare(from, to).orElse(0) > 0) {
+                return Collections.emptyList();
+            }
+            values = values.headMap(to, toInclusive);
+        }
+        Set<MemoryEntry> entries = new LinkedHashSet<>();
+        values.values().forEach(entries::addAll);
+        return entries;
+    }
+
+    private static void remove(Map<Object, Set<MemoryEntry>> index, Object value, MemoryEntry entry) {
+        Set<MemoryEntry> entries = index.get(value);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                index.remove(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a {@link DocumentCondition} to a {@link Predicate} of {@link DocumentEntity}.
+ * A document name with dots, e.g. "address.city", navigates through the subdocuments.
+ */
+final class DocumentPredicates {
+
+    private static final char ANY = '%';
+
+    private static final char ONE = '_';
+
+    private DocumentPredicates() {
+    }
+
+    static Predicate<DocumentEntity> of(DocumentCondition condition) {
+        Document document = condition.getDocument();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                Object expected = IndexValues.of(document.get());
+                return e -> find(e, document.getName()).filter(expected::equals).isPresent();
+            case GREATER_THAN:
+                return compare(document, c -> c > 0);
+            case GREATER_EQUALS_THAN:
+                return compare(document, c -> c >= 0);
+            case LESSER_THAN:
+                return compare(document, c -> c < 0);
+            case LESSER_EQUALS_THAN:
+                return compare(document, c -> c <= 0);
+            case IN:
+                Set<Object> values = new HashSet<>((List<?>) IndexValues.of(document.get()));
+                return e -> find(e, document.getName()).filter(values::contains).isPresent();
+            case LIKE:
+                Pattern pattern = like(document.get(String.class));
+                return e -> find(e, document.getName()).filter(String.class::isInstance)
+                        .filter(v -> pattern.matcher(v.toString()).matches()).isPresent();
+            case BETWEEN:
+                List<?> bounds = (List<?>) IndexValues.of(document.get());
+                Object from = bounds.get(0);
+                Object to = bounds.get(1);
+                return e -> find(e, document.getName())
+                        .filter(v -> IndexValues.compare(v, from).filter(c -> c >= 0).isPresent())
+                        .filter(v -> IndexValues.compare(v, to).filter(c -> c <= 0).isPresent())
+                        .isPresent();
+            case AND:
+                return conditions(document).stream().map(DocumentPredicates::of)
+                        .reduce(e -> true, Predicate::and);
+            case OR:
+                return conditions(document).stream().map(DocumentPredicates::of)
+                        .reduce(e -> false, Predicate::or);
+            case NOT:
+                return of(document.get(DocumentCondition.class)).negate();
+            default:
+                throw new UnsupportedOperationException("The condition is not supported: " + condition.getCondition());
+        }
+    }
+
+    static List<DocumentCondition> conditions(Document document) {
+        return document.get(new TypeReference<List<DocumentCondition>>() {
+        });
+    }
+
+    /**
+     * Finds the value of a document in its {@link IndexValues} canonical form.
+     *
+     * @param entity the entity
+     * @param name   the document name, the dots navigate through the subdocuments
+     * @return the value or {@link Optional#empty()} when the entity does not have the document
+     */
+    static Optional<Object> find(DocumentEntity entity, String name) {
+        Optional<Document> document = entity.find(name);
+        if (document.isPresent()) {
+            return document.map(Document::get).map(IndexValues::of);
+        }
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        String subName = name.substring(dot + 1);
+        return entity.find(name.substring(0, dot))
+                .flatMap(d -> find(d.get(), subName))
+                .map(IndexValues::of);
+    }
+
+    /**
+     * Returns the literal prefix of a LIKE pattern, e.g. "Ot" to "Ot%a".
+     */
+    static String likePrefix(String pattern) {
+        StringBuilder prefix = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == ANY || character == ONE) {
+                break;
+            }
+            prefix.append(character);
+        }
+        return prefix.toString();
+    }
+
+    static Pattern like(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == ANY || character == ONE) {
+                appendLiteral(regex, literal);
+                regex.append(character == ANY ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        appendLiteral(regex, literal);
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static Predicate<DocumentEntity> compare(Document document, IntPredicate comparison) {
+        Object expected = IndexValues.of(document.get());
+        return e -> find(e, document.getName())
+                .flatMap(v -> IndexValues.compare(v, expected))
+                .filter(comparison::test).isPresent();
+    }
+
+    private static Optional<Object> find(Object value, String name) {
+        if (value instanceof Document) {
+            Document document = Document.class.cast(value);
+            if (document.getName().equals(name)) {
+                return Optional.ofNullable(document.get());
+            }
+            String prefix = document.getName() + '.';
+            if (name.startsWith(prefix)) {
+                return find(document.get(), name.substring(prefix.length()));
+            }
+        } else if (value instanceof Iterable) {
+            for (Object element : Iterable.class.cast(value)) {
+                Optional<Object> found = find(element, name);
+                if (found.isPresent()) {
+                    return found;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
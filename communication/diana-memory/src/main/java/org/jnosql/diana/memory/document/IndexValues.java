@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Brings the values stored and queried to a canonical form, so an {@link Integer} twenty matches a
+ * {@link Long} twenty both in the indexes and in the condition evaluation.
+ * Numbers become {@link BigDecimal} without trailing zeros, chars and enums become {@link String}
+ * and iterables become lists of canonical values.
+ */
+final class IndexValues {
+
+    private IndexValues() {
+    }
+
+    static Object of(Object value) {
+        if (value instanceof Value) {
+            return of(Value.class.cast(value).get());
+        }
+        if (value instanceof BigDecimal) {
+            return BigDecimal.class.cast(value).stripTrailingZeros();
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal(BigInteger.class.cast(value)).stripTrailingZeros();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = Number.class.cast(value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                return number;
+            }
+            return BigDecimal.valueOf(number).stripTrailingZeros();
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(Number.class.cast(value).longValue()).stripTrailingZeros();
+        }
+        if (value instanceof CharSequence || value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof Enum) {
+            return Enum.class.cast(value).name();
+        }
+        if (value instanceof Iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : Iterable.class.cast(value)) {
+                values.add(of(element));
+            }
+            return values;
+        }
+        return value;
+    }
+
+    /**
+     * Compares two canonical values, they are comparable only when both have the same type
+     * and this type is {@link Comparable}.
+     *
+     * @param value the value
+     * @param other the value to compare with
+     * @return the comparison result or {@link Optional#empty()} when the values are not comparable
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<Integer> compare(Object value, Object other) {
+        if (isComparable(value) && other != null && value.getClass().equals(other.getClass())) {
+            return Optional.of(Comparable.class.cast(value).compareTo(other));
+        }
+        return Optional.empty();
+    }
+
+    static boolean isComparable(Object value) {
+        return value instanceof Comparable;
+    }
+}
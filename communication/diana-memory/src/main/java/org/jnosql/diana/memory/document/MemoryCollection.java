@@ -0,0 +1,364 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The entities of a document collection, identified by the "_id" document, with a {@link DocumentIndex}
+ * for each document name. Any number of readers run together while writers run one at a time.
+ * The expired entities are skipped by the readers and removed on the next write.
+ */
+final class MemoryCollection {
+
+    static final String ID = "_id";
+
+    private static final DocumentIndex EMPTY_INDEX = new DocumentIndex();
+
+    private static final Comparator<Object> VALUES = (value, other) -> IndexValues.compare(value, other)
+            .orElseGet(() -> value.getClass().getName().compareTo(other.getClass().getName()));
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Object, MemoryEntry> entries = new LinkedHashMap<>();
+
+    private final Map<String, DocumentIndex> indexes = new HashMap<>();
+
+    private final Queue<MemoryEntry> expirations = new PriorityQueue<>((entry, other) ->
+            Long.signum(entry.getExpiresAt() - other.getExpiresAt()));
+
+    private final LongSupplier clock;
+
+    private long sequence;
+
+    MemoryCollection(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    DocumentEntity insert(DocumentEntity entity) {
+        return insert(entity, MemoryEntry.NO_EXPIRATION);
+    }
+
+    DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return insert(entity, toNanos(ttl));
+    }
+
+    private DocumentEntity insert(DocumentEntity entity, long nanos) {
+        Object id = getId(entity).orElseGet(() -> {
+            String value = UUID.randomUUID().toString();
+            entity.add(Document.of(ID, value));
+            return value;
+        });
+        DocumentEntity stored = entity.copy();
+        write(now -> {
+            long expiresAt = nanos == MemoryEntry.NO_EXPIRATION ? nanos : now + nanos;
+            MemoryEntry entry = entries.get(id);
+            if (entry == null) {
+                add(new MemoryEntry(id, sequence++, stored, expiresAt));
+            } else {
+                replace(entry, stored);
+                if (entry.isExpiring()) {
+                    expirations.remove(entry);
+                }
+                entry.setExpiresAt(expiresAt);
+                if (entry.isExpiring()) {
+                    expirations.add(entry);
+                }
+            }
+        });
+        return entity;
+    }
+
+    DocumentEntity update(DocumentEntity entity) {
+        Object id = getId(entity).orElseThrow(() ->
+                new IllegalArgumentException("The document " + ID + " is required to update an entity"));
+        DocumentEntity stored = entity.copy();
+        write(now -> {
+            MemoryEntry entry = entries.get(id);
+            if (entry == null) {
+                add(new MemoryEntry(id, sequence++, stored, MemoryEntry.NO_EXPIRATION));
+            } else {
+                replace(entry, stored);
+            }
+        });
+        return entity;
+    }
+
+    void delete(DocumentDeleteQuery query) {
+        Predicate<DocumentEntity> predicate = predicate(query.getCondition());
+        List<String> documents = query.getDocuments();
+        write(now -> {
+            List<MemoryEntry> matches = source(candidates(query.getCondition())).stream()
+                    .filter(e -> predicate.test(e.getEntity()))
+                    .collect(Collectors.toList());
+            for (MemoryEntry entry : matches) {
+                if (documents.isEmpty()) {
+                    remove(entry);
+                } else {
+                    DocumentEntity entity = entry.getEntity().copy();
+                    documents.stream().filter(d -> !ID.equals(d)).forEach(entity::remove);
+                    replace(entry, entity);
+                }
+            }
+        });
+    }
+
+    List<DocumentEntity> select(DocumentQuery query) {
+        Predicate<DocumentEntity> predicate = predicate(query.getCondition());
+        List<Sort> sorts = query.getSorts();
+        List<String> documents = query.getDocuments();
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            long now = clock.getAsLong();
+            Collection<MemoryEntry> candidates = candidates(query.getCondition());
+            Stream<MemoryEntry> stream = source(candidates).stream()
+                    .filter(e -> !e.isExpired(now))
+                    .filter(e -> predicate.test(e.getEntity()));
+            if (!sorts.isEmpty() || candidates != null) {
+                stream = stream.sorted(comparator(sorts));
+            }
+            if (query.getSkip() > 0) {
+                stream = stream.skip(query.getSkip());
+            }
+            if (query.getLimit() > 0) {
+                stream = stream.limit(query.getLimit());
+            }
+            return stream.map(e -> project(e.getEntity(), documents)).collect(Collectors.toList());
+        } finally {
+            read.unlock();
+        }
+    }
+
+    long count() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            long now = clock.getAsLong();
+            return entries.size() - expirations.stream().filter(e -> e.isExpired(now)).count();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private void write(LongConsumer operation) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            long now = clock.getAsLong();
+            purge(now);
+            operation.accept(now);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private void purge(long now) {
+        while (!expirations.isEmpty() && expirations.peek().isExpired(now)) {
+            MemoryEntry entry = expirations.poll();
+            entries.remove(entry.getId());
+            unindex(entry);
+        }
+    }
+
+    private void add(MemoryEntry entry) {
+        entries.put(entry.getId(), entry);
+        index(entry);
+        if (entry.isExpiring()) {
+            expirations.add(entry);
+        }
+    }
+
+    private void replace(MemoryEntry entry, DocumentEntity entity) {
+        unindex(entry);
+        entry.setEntity(entity);
+        index(entry);
+    }
+
+    private void remove(MemoryEntry entry) {
+        entries.remove(entry.getId());
+        unindex(entry);
+        if (entry.isExpiring()) {
+            expirations.remove(entry);
+        }
+    }
+
+    private void index(MemoryEntry entry) {
+        for (Document document : entry.getEntity().getDocuments()) {
+            indexes.computeIfAbsent(document.getName(), k -> new DocumentIndex())
+                    .add(IndexValues.of(document.get()), entry);
+        }
+    }
+
+    private void unindex(MemoryEntry entry) {
+        for (Document document : entry.getEntity().getDocuments()) {
+            DocumentIndex index = indexes.get(document.getName());
+            if (index != null) {
+                index.remove(IndexValues.of(document.get()), entry);
+                if (index.isEmpty()) {
+                    indexes.remove(document.getName());
+                }
+            }
+        }
+    }
+
+    private Collection<MemoryEntry> candidates(Optional<DocumentCondition> condition) {
+        return condition.map(this::candidates).orElse(null);
+    }
+
+    private Collection<MemoryEntry> source(Collection<MemoryEntry> candidates) {
+        return candidates == null ? entries.values() : candidates;
+    }
+
+    /**
+     * Returns the entries that might match the condition, using the indexes, or null when
+     * all the entries must be scanned. The condition still has to be tested on each candidate.
+     */
+    private Collection<MemoryEntry> candidates(DocumentCondition condition) {
+        Document document = condition.getDocument();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                return index(document.getName()).map(i -> i.equalsTo(IndexValues.of(document.get()))).orElse(null);
+            case GREATER_THAN:
+                return range(document, true, false);
+            case GREATER_EQUALS_THAN:
+                return range(document, true, true);
+            case LESSER_THAN:
+                return range(document, false, false);
+            case LESSER_EQUALS_THAN:
+                return range(document, false, true);
+            case BETWEEN:
+                List<?> bounds = List.class.cast(IndexValues.of(document.get()));
+                return index(document.getName())
+                        .map(i -> i.range(bounds.get(0), true, bounds.get(1), true)).orElse(null);
+            case IN:
+                List<?> values = List.class.cast(IndexValues.of(document.get()));
+                return index(document.getName()).map(i -> {
+                    Set<MemoryEntry> union = new LinkedHashSet<>();
+                    values.forEach(v -> union.addAll(i.equalsTo(v)));
+                    return union;
+                }).orElse(null);
+            case LIKE:
+                return like(document);
+            case AND:
+                return DocumentPredicates.conditions(document).stream()
+                        .map(this::candidates)
+                        .filter(c -> c != null)
+                        .min(Comparator.comparingInt(Collection::size))
+                        .orElse(null);
+            case OR:
+                Set<MemoryEntry> union = new LinkedHashSet<>();
+                for (DocumentCondition child : DocumentPredicates.conditions(document)) {
+                    Collection<MemoryEntry> candidates = candidates(child);
+                    if (candidates == null) {
+                        return null;
+                    }
+                    union.addAll(candidates);
+                }
+                return union;
+            default:
+                return null;
+        }
+    }
+
+    private Collection<MemoryEntry> range(Document document, boolean from, boolean inclusive) {
+        Object value = IndexValues.of(document.get());
+        return index(document.getName()).map(i -> from ? i.range(value, inclusive, null, false)
+                : i.range(null, false, value, inclusive)).orElse(null);
+    }
+
+    private Collection<MemoryEntry> like(Document document) {
+        String prefix = DocumentPredicates.likePrefix(document.get(String.class));
+        if (prefix.isEmpty() || prefix.charAt(prefix.length() - 1) == Character.MAX_VALUE) {
+            return null;
+        }
+        String upper = prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+        return index(document.getName()).map(i -> i.range(prefix, true, upper, false)).orElse(null);
+    }
+
+    /**
+     * The document names with dots navigate through subdocuments, which are not indexed.
+     */
+    private Optional<DocumentIndex> index(String name) {
+        if (name.indexOf('.') >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(indexes.getOrDefault(name, EMPTY_INDEX));
+    }
+
+    private static Optional<Object> getId(DocumentEntity entity) {
+        return entity.find(ID).map(Document::get).map(IndexValues::of);
+    }
+
+    private static long toNanos(Duration ttl) {
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException exception) {
+            return MemoryEntry.NO_EXPIRATION;
+        }
+    }
+
+    private static Predicate<DocumentEntity> predicate(Optional<DocumentCondition> condition) {
+        return condition.map(DocumentPredicates::of).orElse(e -> true);
+    }
+
+    private static Comparator<MemoryEntry> comparator(List<Sort> sorts) {
+        Comparator<MemoryEntry> comparator = (entry, other) -> 0;
+        for (Sort sort : sorts) {
+            Comparator<Object> values = Sort.SortType.DESC.equals(sort.getType()) ? VALUES.reversed() : VALUES;
+            comparator = comparator.thenComparing(e -> DocumentPredicates.find(e.getEntity(), sort.getName())
+                    .orElse(null), Comparator.nullsLast(values));
+        }
+        return comparator.thenComparingLong(MemoryEntry::getSequence);
+    }
+
+    private static DocumentEntity project(DocumentEntity entity, List<String> documents) {
+        if (documents.isEmpty()) {
+            return entity.copy();
+        }
+        DocumentEntity projection = DocumentEntity.of(entity.getName());
+        documents.forEach(d -> entity.find(d).ifPresent(projection::add));
+        return projection;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * The in-memory {@link DocumentCollectionManager}. The entities are identified by the "_id" document,
+ * which is generated on insert when it is missing, and every document name is indexed.
+ * The entities belong to the database, so the managers of the same database,
+ * created by the same {@link MemoryDocumentCollectionManagerFactory}, share them.
+ */
+public class MemoryDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final String database;
+
+    private final Map<String, MemoryCollection> collections;
+
+    private final LongSupplier clock;
+
+    MemoryDocumentCollectionManager(String database, Map<String, MemoryCollection> collections, LongSupplier clock) {
+        this.database = database;
+        this.collections = collections;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the database name
+     */
+    public String getDatabase() {
+        return database;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return getCollection(entity).insert(entity);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return getCollection(entity).insert(entity, ttl);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return getCollection(entity).update(entity);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryCollection collection = collections.get(query.getDocumentCollection());
+        if (collection != null) {
+            collection.delete(query);
+        }
+    }
+
+    @Override
+    public List<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryCollection collection = collections.get(query.getDocumentCollection());
+        if (collection == null) {
+            return Collections.emptyList();
+        }
+        return collection.select(query);
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MemoryCollection collection = collections.get(documentCollection);
+        if (collection == null) {
+            return 0L;
+        }
+        return collection.count();
+    }
+
+    /**
+     * The entities belong to the {@link MemoryDocumentCollectionManagerFactory},
+     * so closing a manager keeps them.
+     */
+    @Override
+    public void close() {
+    }
+
+    private MemoryCollection getCollection(DocumentEntity entity) {
+        return collections.computeIfAbsent(entity.getName(), k -> new MemoryCollection(clock));
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentCollectionManager{" + "database='" + database + '\'' +
+                ", collections=" + collections.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The in-memory {@link DocumentCollectionManagerAsync}, it runs the {@link MemoryDocumentCollectionManager}
+ * operations on an {@link Executor} and then calls the callbacks on the same thread.
+ * A failure goes to the error callback, or is logged when the operation has none.
+ */
+public class MemoryDocumentCollectionManagerAsync implements DocumentCollectionManagerAsync {
+
+    private static final Logger LOGGER = Logger.getLogger(MemoryDocumentCollectionManagerAsync.class.getName());
+
+    private static final Consumer<DocumentEntity> NOOP = e -> {
+    };
+
+    private static final Consumer<Throwable> LOG_ERROR = e ->
+            LOGGER.log(Level.WARNING, "Error when running the asynchronous operation", e);
+
+    private final MemoryDocumentCollectionManager manager;
+
+    private final Executor executor;
+
+    MemoryDocumentCollectionManagerAsync(MemoryDocumentCollectionManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public void insert(DocumentEntity entity) {
+        insert(entity, NOOP);
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Duration ttl) {
+        insert(entity, ttl, NOOP);
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Consumer<DocumentEntity> callBack) {
+        insert(entity, callBack, LOG_ERROR);
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Duration ttl, Consumer<DocumentEntity> callBack) {
+        insert(entity, ttl, callBack, LOG_ERROR);
+    }
+
+    @Override
+    public void update(DocumentEntity entity) {
+        update(entity, NOOP);
+    }
+
+    @Override
+    public void update(DocumentEntity entity, Consumer<DocumentEntity> callBack) {
+        update(entity, callBack, LOG_ERROR);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        delete(query, v -> {
+        });
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query, Consumer<Void> callBack) {
+        delete(query, callBack, LOG_ERROR);
+    }
+
+    @Override
+    public void select(DocumentQuery query, Consumer<List<DocumentEntity>> callBack) {
+        select(query, callBack, LOG_ERROR);
+    }
+
+    @Override
+    public void count(String documentCollection, Consumer<Long> callback) {
+        count(documentCollection, callback, LOG_ERROR);
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Consumer<DocumentEntity> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(entity, "entity is required");
+        execute(() -> manager.insert(entity), callBack, errorCallBack);
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Duration ttl, Consumer<DocumentEntity> callBack,
+                       Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        execute(() -> manager.insert(entity, ttl), callBack, errorCallBack);
+    }
+
+    @Override
+    public void update(DocumentEntity entity, Consumer<DocumentEntity> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(entity, "entity is required");
+        execute(() -> manager.update(entity), callBack, errorCallBack);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query, Consumer<Void> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(query, "query is required");
+        execute(() -> {
+            manager.delete(query);
+            return null;
+        }, callBack, errorCallBack);
+    }
+
+    @Override
+    public void select(DocumentQuery query, Consumer<List<DocumentEntity>> callBack,
+                       Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(query, "query is required");
+        execute(() -> manager.select(query), callBack, errorCallBack);
+    }
+
+    @Override
+    public void count(String documentCollection, Consumer<Long> callback, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        execute(() -> manager.count(documentCollection), callback, errorCallBack);
+    }
+
+    private <T> void execute(Supplier<T> operation, Consumer<T> callBack, Consumer<Throwable> errorCallBack) {
+        Objects.requireNonNull(callBack, "callBack is required");
+        Objects.requireNonNull(errorCallBack, "errorCallBack is required");
+        try {
+            executor.execute(() -> {
+                T result;
+                try {
+                    result = operation.get();
+                } catch (RuntimeException exception) {
+                    errorCallBack.accept(exception);
+                    return;
+                }
+                callBack.accept(result);
+            });
+        } catch (RejectedExecutionException exception) {
+            errorCallBack.accept(exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentCollectionManagerAsync{" + "manager=" + manager + '}';
+    }
+}
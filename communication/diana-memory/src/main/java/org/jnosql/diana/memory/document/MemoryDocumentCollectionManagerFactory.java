@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.document.DocumentCollectionManagerAsyncFactory;
+import org.jnosql.diana.api.document.DocumentCollectionManagerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * The factory of the in-memory managers, it holds the entities of every database until it is closed.
+ */
+public class MemoryDocumentCollectionManagerFactory implements
+        DocumentCollectionManagerFactory<MemoryDocumentCollectionManager>,
+        DocumentCollectionManagerAsyncFactory<MemoryDocumentCollectionManagerAsync> {
+
+    private final Map<String, Map<String, MemoryCollection>> databases = new ConcurrentHashMap<>();
+
+    private final Executor executor;
+
+    private final LongSupplier clock;
+
+    MemoryDocumentCollectionManagerFactory(Executor executor, LongSupplier clock) {
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @Override
+    public MemoryDocumentCollectionManager get(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return new MemoryDocumentCollectionManager(database,
+                databases.computeIfAbsent(database, k -> new ConcurrentHashMap<>()), clock);
+    }
+
+    @Override
+    public MemoryDocumentCollectionManagerAsync getAsync(String database) {
+        return new MemoryDocumentCollectionManagerAsync(get(database), executor);
+    }
+
+    /**
+     * Drops the entities of all databases.
+     */
+    @Override
+    public void close() {
+        databases.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentCollectionManagerFactory{" + "databases=" + databases.keySet() + '}';
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.Settings;
+import org.jnosql.diana.api.document.UnaryDocumentConfiguration;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@link UnaryDocumentConfiguration} of an in-memory document database. It needs no settings,
+ * each factory keeps its own entities and the asynchronous managers run on the
+ * {@link ForkJoinPool#commonPool()}.
+ */
+public class MemoryDocumentConfiguration implements UnaryDocumentConfiguration<MemoryDocumentCollectionManagerFactory> {
+
+    @Override
+    public MemoryDocumentCollectionManagerFactory get() {
+        return new MemoryDocumentCollectionManagerFactory(ForkJoinPool.commonPool(), System::nanoTime);
+    }
+
+    @Override
+    public MemoryDocumentCollectionManagerFactory get(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return get();
+    }
+
+    @Override
+    public MemoryDocumentCollectionManagerFactory getAsync() {
+        return get();
+    }
+
+    @Override
+    public MemoryDocumentCollectionManagerFactory getAsync(Settings settings) {
+        return get(settings);
+    }
+}
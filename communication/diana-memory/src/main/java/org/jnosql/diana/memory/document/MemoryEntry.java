@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.document.DocumentEntity;
+
+/**
+ * A {@link DocumentEntity} stored in a {@link MemoryCollection}, it is mutated only while
+ * the collection write lock is held.
+ */
+final class MemoryEntry {
+
+    static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Object id;
+
+    private final long sequence;
+
+    private DocumentEntity entity;
+
+    private long expiresAt;
+
+    MemoryEntry(Object id, long sequence, DocumentEntity entity, long expiresAt) {
+        this.id = id;
+        this.sequence = sequence;
+        this.entity = entity;
+        this.expiresAt = expiresAt;
+    }
+
+    Object getId() {
+        return id;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    DocumentEntity getEntity() {
+        return entity;
+    }
+
+    void setEntity(DocumentEntity entity) {
+        this.entity = entity;
+    }
+
+    long getExpiresAt() {
+        return expiresAt;
+    }
+
+    void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    boolean isExpiring() {
+        return expiresAt != NO_EXPIRATION;
+    }
+
+    boolean isExpired(long now) {
+        return isExpiring() && now - expiresAt >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryEntry{" + "id=" + id +
+                ", sequence=" + sequence +
+                ", entity=" + entity +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
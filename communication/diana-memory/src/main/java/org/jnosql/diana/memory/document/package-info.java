@@ -0,0 +1,23 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+/**
+ * An in-memory document database that implements the document communication API, useful to run the whole stack
+ * in tests and as the baseline of the mapping benchmarks.
+ * Every document name has a hash index, to the equals and in conditions, and a sorted index, to the range,
+ * between and like conditions with a literal prefix; the other conditions scan the collection.
+ */
+package org.jnosql.diana.memory.document;
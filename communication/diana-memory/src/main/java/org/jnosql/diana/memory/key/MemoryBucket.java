@@ -0,0 +1,143 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.jnosql.diana.api.Value;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * A bucket split in stripes, each one with its own lock, entries and {@link TimingWheel}, so operations
+ * on keys of different stripes do not contend. When the bucket has a maximum number of entries,
+ * it is split between the stripes and each stripe evicts its least recently used entry.
+ */
+final class MemoryBucket {
+
+    private final Stripe[] stripes;
+
+    private final LongSupplier clock;
+
+    MemoryBucket(int concurrency, long maxEntries, long tickNanos, LongSupplier clock) {
+        this.clock = clock;
+        int count = Integer.highestOneBit(maxEntries > 0 ? (int) Math.min(concurrency, maxEntries) : concurrency);
+        this.stripes = new Stripe[count];
+        long origin = clock.getAsLong();
+        for (int index = 0; index < count; index++) {
+            long stripeMaxEntries = maxEntries / count + (index < maxEntries % count ? 1 : 0);
+            stripes[index] = new Stripe(stripeMaxEntries, new TimingWheel(tickNanos, origin));
+        }
+    }
+
+    void put(Object key, Value value, long ttlNanos) {
+        long now = clock.getAsLong();
+        long expiresAt = ttlNanos == MemoryEntry.NO_EXPIRATION ? ttlNanos : now + ttlNanos;
+        stripe(key).put(key, value, expiresAt, now);
+    }
+
+    Optional<Value> get(Object key) {
+        return stripe(key).get(key, clock.getAsLong());
+    }
+
+    void remove(Object key) {
+        stripe(key).remove(key, clock.getAsLong());
+    }
+
+    long size() {
+        long now = clock.getAsLong();
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size(now);
+        }
+        return size;
+    }
+
+    private Stripe stripe(Object key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final Map<Object, MemoryEntry> entries;
+
+        private final TimingWheel wheel;
+
+        Stripe(long maxEntries, TimingWheel wheel) {
+            this.wheel = wheel;
+            this.entries = new LinkedHashMap<Object, MemoryEntry>(16, 0.75F, maxEntries > 0) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, MemoryEntry> eldest) {
+                    if (maxEntries > 0 && size() > maxEntries) {
+                        wheel.cancel(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized void put(Object key, Value value, long expiresAt, long now) {
+            expire(now);
+            MemoryEntry entry = entries.get(key);
+            if (entry == null) {
+                entry = new MemoryEntry(key, value, expiresAt);
+                entries.put(key, entry);
+            } else {
+                wheel.cancel(entry);
+                entry.setValue(value);
+                entry.setExpiresAt(expiresAt);
+            }
+            if (entry.isExpiring()) {
+                wheel.schedule(entry);
+            }
+        }
+
+        synchronized Optional<Value> get(Object key, long now) {
+            expire(now);
+            MemoryEntry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.isExpired(now)) {
+                wheel.cancel(entry);
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.getValue());
+        }
+
+        synchronized void remove(Object key, long now) {
+            expire(now);
+            MemoryEntry entry = entries.remove(key);
+            if (entry != null) {
+                wheel.cancel(entry);
+            }
+        }
+
+        synchronized long size(long now) {
+            expire(now);
+            return entries.values().stream().filter(e -> !e.isExpired(now)).count();
+        }
+
+        private void expire(long now) {
+            wheel.advance(now, e -> entries.remove(e.getKey()));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The in-memory {@link BucketManager}. The entries belong to the bucket, so the managers of the same bucket,
+ * created by the same {@link MemoryBucketManagerFactory}, share them.
+ */
+public class MemoryBucketManager implements BucketManager {
+
+    private final String bucketName;
+
+    private final MemoryBucket bucket;
+
+    MemoryBucketManager(String bucketName, MemoryBucket bucket) {
+        this.bucketName = bucketName;
+        this.bucket = bucket;
+    }
+
+    /**
+     * @return the bucket name
+     */
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        bucket.put(key, value instanceof Value ? Value.class.cast(value) : Value.of(value), MemoryEntry.NO_EXPIRATION);
+    }
+
+    @Override
+    public <K> void put(KeyValueEntity<K> entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        bucket.put(entity.getKey(), entity.getValue(), MemoryEntry.NO_EXPIRATION);
+    }
+
+    @Override
+    public <K> void put(KeyValueEntity<K> entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        bucket.put(entity.getKey(), entity.getValue(), toNanos(ttl));
+    }
+
+    @Override
+    public <K> void put(Iterable<KeyValueEntity<K>> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public <K> void put(Iterable<KeyValueEntity<K>> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        entities.forEach(e -> put(e, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return bucket.get(key);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        for (K key : keys) {
+            get(key).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void remove(K key) {
+        Objects.requireNonNull(key, "key is required");
+        bucket.remove(key);
+    }
+
+    @Override
+    public <K> void remove(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        keys.forEach(this::remove);
+    }
+
+    /**
+     * The entries belong to the {@link MemoryBucketManagerFactory}, so closing a manager keeps them.
+     */
+    @Override
+    public void close() {
+    }
+
+    private static long toNanos(Duration ttl) {
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException exception) {
+            return MemoryEntry.NO_EXPIRATION;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBucketManager{" + "bucketName='" + bucketName + '\'' + '}';
+    }
+}
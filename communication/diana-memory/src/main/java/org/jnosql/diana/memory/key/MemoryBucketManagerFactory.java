@@ -0,0 +1,128 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.jnosql.diana.api.key.BucketManagerAsync;
+import org.jnosql.diana.api.key.BucketManagerAsyncFactory;
+import org.jnosql.diana.api.key.BucketManagerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The factory of the in-memory bucket managers, it holds the entries of every bucket until it is closed.
+ */
+public class MemoryBucketManagerFactory implements BucketManagerFactory<MemoryBucketManager>,
+        BucketManagerAsyncFactory<BucketManagerAsync> {
+
+    private final Map<String, MemoryBucket> buckets = new ConcurrentHashMap<>();
+
+    private final Map<String, Object> structures = new ConcurrentHashMap<>();
+
+    private final int concurrency;
+
+    private final long maxEntries;
+
+    private final long tickNanos;
+
+    private final LongSupplier clock;
+
+    private final Executor executor;
+
+    MemoryBucketManagerFactory(Executor executor, int concurrency, long maxEntries, long tickNanos,
+                               LongSupplier clock) {
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.maxEntries = maxEntries;
+        this.tickNanos = tickNanos;
+        this.clock = clock;
+    }
+
+    @Override
+    public MemoryBucketManager getBucketManager(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return new MemoryBucketManager(bucketName, buckets.computeIfAbsent(bucketName,
+                k -> new MemoryBucket(concurrency, maxEntries, tickNanos, clock)));
+    }
+
+    /**
+     * Creates a {@link BucketManagerAsync} that shares the entries of {@link #getBucketManager(String)}
+     * and runs each operation on the executor of this factory.
+     *
+     * @param bucketName a bucket name
+     * @return a {@link BucketManagerAsync} instance
+     * @throws NullPointerException when bucketName is null
+     */
+    @Override
+    public BucketManagerAsync getBucketManagerAsync(String bucketName) {
+        return BucketManagerAsync.of(getBucketManager(bucketName), executor);
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> clazz) {
+        return structure("list", bucketName, clazz, () -> Collections.synchronizedList(new ArrayList<T>()));
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+        return structure("set", bucketName, clazz, ConcurrentHashMap::newKeySet);
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+        return structure("queue", bucketName, clazz, ConcurrentLinkedQueue::new);
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        Objects.requireNonNull(valueValue, "valueValue is required");
+        return structure("map", bucketName, keyValue, ConcurrentHashMap::new);
+    }
+
+    /**
+     * Drops the entries of all buckets and structures.
+     */
+    @Override
+    public void close() {
+        buckets.clear();
+        structures.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T structure(String type, String bucketName, Class<?> clazz, Supplier<T> supplier) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(clazz, "clazz is required");
+        return (T) structures.computeIfAbsent(type + ':' + bucketName, k -> supplier.get());
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryBucketManagerFactory{" + "buckets=" + buckets.keySet() +
+                ", maxEntries=" + maxEntries +
+                '}';
+    }
+}
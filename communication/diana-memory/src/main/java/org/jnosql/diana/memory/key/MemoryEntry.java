@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.jnosql.diana.api.Value;
+
+/**
+ * A key-value pair of a {@link MemoryBucket}, it is also a node of the {@link TimingWheel} slot list
+ * it is scheduled in. It is mutated only while the lock of its stripe is held.
+ */
+final class MemoryEntry {
+
+    static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Object key;
+
+    private Value value;
+
+    private long expiresAt;
+
+    MemoryEntry previous;
+
+    MemoryEntry next;
+
+    MemoryEntry(Object key, Value value, long expiresAt) {
+        this.key = key;
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    Object getKey() {
+        return key;
+    }
+
+    Value getValue() {
+        return value;
+    }
+
+    void setValue(Value value) {
+        this.value = value;
+    }
+
+    long getExpiresAt() {
+        return expiresAt;
+    }
+
+    void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    boolean isExpiring() {
+        return expiresAt != NO_EXPIRATION;
+    }
+
+    boolean isExpired(long now) {
+        return isExpiring() && now - expiresAt >= 0;
+    }
+
+    boolean isScheduled() {
+        return next != null;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryEntry{" + "key=" + key +
+                ", value=" + value +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.jnosql.diana.api.Settings;
+import org.jnosql.diana.api.key.KeyValueConfiguration;
+import org.jnosql.diana.api.key.KeyValueConfigurationAsync;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link KeyValueConfiguration} of an in-memory key-value database. It reads the optional settings:
+ * <ul>
+ * <li>{@value #MAX_ENTRIES}: the maximum number of entries of each bucket, beyond it the least recently used
+ * entries are evicted; the default is no limit</li>
+ * <li>{@value #CONCURRENCY}: the number of stripes of each bucket, rounded down to a power of two;
+ * the default is {@value #DEFAULT_CONCURRENCY}</li>
+ * <li>{@value #EXPIRATION_TICK}: the tick in milliseconds of the timing wheel that removes the expired entries;
+ * the default is {@value #DEFAULT_EXPIRATION_TICK}</li>
+ * </ul>
+ * The asynchronous bucket managers run on the {@link ForkJoinPool#commonPool()}.
+ */
+public class MemoryKeyValueConfiguration implements KeyValueConfiguration<MemoryBucketManagerFactory>,
+        KeyValueConfigurationAsync<MemoryBucketManagerFactory> {
+
+    public static final String MAX_ENTRIES = "memory.max.entries";
+
+    public static final String CONCURRENCY = "memory.concurrency";
+
+    public static final String EXPIRATION_TICK = "memory.expiration.tick";
+
+    static final int DEFAULT_CONCURRENCY = 16;
+
+    static final long DEFAULT_EXPIRATION_TICK = 100L;
+
+    @Override
+    public MemoryBucketManagerFactory get() {
+        return get(Settings.builder().build());
+    }
+
+    @Override
+    public MemoryBucketManagerFactory get(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        long maxEntries = getLong(settings, MAX_ENTRIES, 0L);
+        long concurrency = getLong(settings, CONCURRENCY, DEFAULT_CONCURRENCY);
+        long tick = getLong(settings, EXPIRATION_TICK, DEFAULT_EXPIRATION_TICK);
+        if (concurrency < 1 || concurrency > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + CONCURRENCY + " must be a positive integer: " + concurrency);
+        }
+        if (tick < 1) {
+            throw new IllegalArgumentException("The " + EXPIRATION_TICK + " must be positive: " + tick);
+        }
+        return new MemoryBucketManagerFactory(ForkJoinPool.commonPool(), (int) concurrency,
+                Math.max(maxEntries, 0L), TimeUnit.MILLISECONDS.toNanos(tick), System::nanoTime);
+    }
+
+    @Override
+    public MemoryBucketManagerFactory getAsync() {
+        return get();
+    }
+
+    @Override
+    public MemoryBucketManagerFactory getAsync(Settings settings) {
+        return get(settings);
+    }
+
+    private static long getLong(Settings settings, String key, long defaultValue) {
+        Object value = settings.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return Number.class.cast(value).longValue();
+        }
+        return Long.parseLong(value.toString().trim());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel: {@value #LEVELS} wheels of {@value #SLOTS} slots, where a slot of the first wheel
+ * lasts one tick and a slot of each next wheel lasts as much as a whole turn of the previous one.
+ * Scheduling and cancelling an entry are O(1), and advancing the clock expires the slots of the elapsed ticks,
+ * moving the entries of the outer wheels to the inner ones when their turn comes.
+ * An entry later than the span of the wheels waits in the last wheel and is rescheduled when it is reached.
+ * The entries expire within one tick after their deadline. This class is not thread-safe.
+ */
+final class TimingWheel {
+
+    static final int SLOTS = 64;
+
+    static final int LEVELS = 4;
+
+    private static final int BITS = Integer.numberOfTrailingZeros(SLOTS);
+
+    private static final long SPAN = 1L << (BITS * LEVELS);
+
+    private final MemoryEntry[][] wheels = new MemoryEntry[LEVELS][SLOTS];
+
+    private final long tickNanos;
+
+    private final long origin;
+
+    private long tick;
+
+    private int size;
+
+    TimingWheel(long tickNanos, long origin) {
+        this.tickNanos = tickNanos;
+        this.origin = origin;
+        for (MemoryEntry[] wheel : wheels) {
+            for (int index = 0; index < SLOTS; index++) {
+                MemoryEntry head = new MemoryEntry(null, null, MemoryEntry.NO_EXPIRATION);
+                head.previous = head;
+                head.next = head;
+                wheel[index] = head;
+            }
+        }
+    }
+
+    /**
+     * @return the number of scheduled entries
+     */
+    int size() {
+        return size;
+    }
+
+    void schedule(MemoryEntry entry) {
+        long expiration = Math.max(ticks(entry.getExpiresAt()), tick);
+        long delay = expiration - tick;
+        if (delay >= SPAN) {
+            expiration = tick + SPAN - 1;
+            delay = SPAN - 1;
+        }
+        int level = 0;
+        while (delay >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((expiration >>> (BITS * level)) & (SLOTS - 1));
+        MemoryEntry head = wheels[level][index];
+        entry.previous = head.previous;
+        entry.next = head;
+        head.previous.next = entry;
+        head.previous = entry;
+        size++;
+    }
+
+    void cancel(MemoryEntry entry) {
+        if (entry.isScheduled()) {
+            entry.previous.next = entry.next;
+            entry.next.previous = entry.previous;
+            entry.previous = null;
+            entry.next = null;
+            size--;
+        }
+    }
+
+    /**
+     * Expires the entries of every tick elapsed until now.
+     *
+     * @param now     the current time in nanoseconds
+     * @param expired the action to the expired entries, they are already cancelled
+     */
+    void advance(long now, Consumer<MemoryEntry> expired) {
+        long target = ticks(now);
+        if (size == 0) {
+            tick = Math.max(tick, target);
+            return;
+        }
+        while (tick < target) {
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) ((tick >>> (BITS * level)) & (SLOTS - 1)), now, expired);
+                }
+            }
+            MemoryEntry head = wheels[0][(int) (tick & (SLOTS - 1))];
+            while (head.next != head) {
+                MemoryEntry entry = head.next;
+                cancel(entry);
+                expired.accept(entry);
+            }
+            tick++;
+        }
+    }
+
+    private void cascade(int level, int index, long now, Consumer<MemoryEntry> expired) {
+        MemoryEntry head = wheels[level][index];
+        while (head.next != head) {
+            MemoryEntry entry = head.next;
+            cancel(entry);
+            if (entry.isExpired(now)) {
+                expired.accept(entry);
+            } else {
+                schedule(entry);
+            }
+        }
+    }
+
+    private long ticks(long time) {
+        return (time - origin) / tickNanos;
+    }
+}
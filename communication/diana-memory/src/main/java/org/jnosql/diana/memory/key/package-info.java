@@ -0,0 +1,22 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+/**
+ * An in-memory key-value database that implements the key-value communication API, useful to load test
+ * the key-value templates and as a local cache. Each bucket is split in stripes, and a hierarchical timing wheel
+ * per stripe removes the expired entries without a timer per key.
+ */
+package org.jnosql.diana.memory.key;
@@ -0,0 +1,133 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryDocumentCollectionManagerAsyncTest {
+
+    private static final String COLLECTION = "person";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private MemoryDocumentCollectionManagerAsync manager;
+
+    @BeforeEach
+    public void setUp() {
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentCollectionManagerFactory(Runnable::run,
+                clock::get);
+        manager = factory.getAsync("database");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> manager.insert((DocumentEntity) null));
+        assertThrows(NullPointerException.class, () -> manager.insert(person(), (Duration) null));
+        assertThrows(NullPointerException.class, () -> manager.select(null, l -> {
+        }));
+        assertThrows(NullPointerException.class, () -> manager.count(COLLECTION, null));
+    }
+
+    @Test
+    public void shouldInsertSelectAndDelete() {
+        AtomicReference<DocumentEntity> inserted = new AtomicReference<>();
+        manager.insert(person(), inserted::set);
+        assertEquals("Ada", inserted.get().find("name").get().get());
+
+        AtomicReference<List<DocumentEntity>> entities = new AtomicReference<>();
+        manager.select(select().from(COLLECTION).where("name").eq("Ada").build(), entities::set);
+        assertEquals(1, entities.get().size());
+
+        AtomicReference<Long> count = new AtomicReference<>();
+        manager.delete(delete().from(COLLECTION).build());
+        manager.count(COLLECTION, count::set);
+        assertEquals(0L, count.get().longValue());
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.insert(person(), Duration.ofSeconds(1L));
+        clock.addAndGet(Duration.ofSeconds(1L).toNanos());
+
+        AtomicReference<Long> count = new AtomicReference<>();
+        manager.count(COLLECTION, count::set);
+        assertEquals(0L, count.get().longValue());
+    }
+
+    @Test
+    public void shouldRunOnTheExecutor() throws Exception {
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentConfiguration().getAsync();
+        MemoryDocumentCollectionManagerAsync manager = factory.getAsync("database");
+
+        DocumentEntity entity = manager.insertStage(person()).toCompletableFuture().get(1, TimeUnit.MINUTES);
+        assertTrue(entity.find("_id").isPresent());
+        assertEquals(1L, manager.countStage(COLLECTION).toCompletableFuture().get(1, TimeUnit.MINUTES).longValue());
+        assertEquals(1L, factory.get("database").count(COLLECTION));
+    }
+
+    @Test
+    public void shouldCompleteTheStageExceptionallyWhenTheOperationFails() {
+        IllegalStateException error = new IllegalStateException("The collection is not available");
+        DocumentQuery query = Mockito.mock(DocumentQuery.class);
+        Mockito.when(query.getDocumentCollection()).thenThrow(error);
+
+        CompletableFuture<List<DocumentEntity>> stage = manager.selectStage(query).toCompletableFuture();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, stage::get);
+        assertSame(error, exception.getCause());
+    }
+
+    @Test
+    public void shouldReportTheRejectedExecution() {
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentCollectionManagerFactory(r -> {
+            throw new RejectedExecutionException();
+        }, clock::get);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        factory.getAsync("database").insert(person(), e -> {
+        }, error::set);
+
+        assertTrue(error.get() instanceof RejectedExecutionException);
+    }
+
+    private static DocumentEntity person() {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION);
+        entity.add(Document.of("name", "Ada"));
+        return entity;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.document;
+
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryDocumentCollectionManagerTest {
+
+    private static final String COLLECTION = "person";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private MemoryDocumentCollectionManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentCollectionManagerFactory(Runnable::run,
+                clock::get);
+        manager = factory.get("database");
+        manager.insert(person(1, "Otavio", 30, "Salvador"));
+        manager.insert(person(2, "Ada", 36, "London"));
+        manager.insert(person(3, "Poliana", 25, "Salvador"));
+        manager.insert(person(4, "Otaviano", 40L, "Lisbon"));
+        manager.insert(person(5, "Maria", 25.0, "Lisbon"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenEntityIsNull() {
+        assertThrows(NullPointerException.class, () -> manager.insert((DocumentEntity) null));
+        assertThrows(NullPointerException.class, () -> manager.insert((DocumentEntity) null, Duration.ofSeconds(1L)));
+        assertThrows(NullPointerException.class, () -> manager.update((DocumentEntity) null));
+    }
+
+    @Test
+    public void shouldGenerateId() {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION);
+        entity.add(Document.of("name", "Ada"));
+        DocumentEntity inserted = manager.insert(entity);
+
+        Optional<Document> id = inserted.find("_id");
+        assertTrue(id.isPresent());
+        DocumentQuery query = select().from(COLLECTION).where("_id").eq(id.get().get()).build();
+        assertEquals(1, manager.select(query).size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateWithoutId() {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION);
+        entity.add(Document.of("name", "Ada"));
+        assertThrows(IllegalArgumentException.class, () -> manager.update(entity));
+    }
+
+    @Test
+    public void shouldKeepTheStoredEntityIsolated() {
+        DocumentEntity entity = person(6, "Ana", 20, "Salvador");
+        manager.insert(entity);
+        entity.add(Document.of("name", "Changed"));
+
+        DocumentEntity found = manager.select(select().from(COLLECTION).where("_id").eq(6).build()).get(0);
+        found.add(Document.of("name", "Changed"));
+
+        assertEquals("Ana", manager.select(select().from(COLLECTION).where("_id").eq(6).build())
+                .get(0).find("name").get().get());
+    }
+
+    @Test
+    public void shouldUpdate() {
+        manager.update(person(1, "Otavio Santana", 31, "Salvador"));
+
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("name").eq("Otavio").build()));
+        assertEquals(Arrays.asList("Otavio Santana"),
+                names(select().from(COLLECTION).where("age").eq(31).build()));
+        assertEquals(5L, manager.count(COLLECTION));
+    }
+
+    @Test
+    public void shouldSelectAllInInsertionOrder() {
+        assertEquals(Arrays.asList("Otavio", "Ada", "Poliana", "Otaviano", "Maria"),
+                names(select().from(COLLECTION).build()));
+    }
+
+    @Test
+    public void shouldSelectEqualsAcrossNumberTypes() {
+        assertEquals(Arrays.asList("Poliana", "Maria"), names(select().from(COLLECTION).where("age").eq(25L).build()));
+        assertEquals(Arrays.asList("Otaviano"), names(select().from(COLLECTION).where("age").eq(40).build()));
+    }
+
+    @Test
+    public void shouldSelectRange() {
+        assertEquals(Arrays.asList("Ada", "Otaviano"), names(select().from(COLLECTION).where("age").gt(30).build()));
+        assertEquals(Arrays.asList("Otavio", "Ada", "Otaviano"),
+                names(select().from(COLLECTION).where("age").gte(30).build()));
+        assertEquals(Arrays.asList("Poliana", "Maria"), names(select().from(COLLECTION).where("age").lt(30).build()));
+        assertEquals(Arrays.asList("Otavio", "Poliana", "Maria"),
+                names(select().from(COLLECTION).where("age").lte(30).build()));
+        assertEquals(Arrays.asList("Otavio", "Ada"),
+                names(select().from(COLLECTION).where("age").between(26, 36).build()));
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("age").between(36, 26).build()));
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("age").gt("30").build()));
+    }
+
+    @Test
+    public void shouldSelectIn() {
+        assertEquals(Arrays.asList("Otavio", "Poliana", "Otaviano", "Maria"),
+                names(select().from(COLLECTION).where("city").in(Arrays.asList("Salvador", "Lisbon")).build()));
+    }
+
+    @Test
+    public void shouldSelectLike() {
+        assertEquals(Arrays.asList("Otavio", "Otaviano"),
+                names(select().from(COLLECTION).where("name").like("Ota%").build()));
+        assertEquals(Arrays.asList("Poliana", "Otaviano"),
+                names(select().from(COLLECTION).where("name").like("%an%").build()));
+        assertEquals(Arrays.asList("Ada"), names(select().from(COLLECTION).where("name").like("A_a").build()));
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("name").like("Ota.*").build()));
+    }
+
+    @Test
+    public void shouldSelectAndOrNot() {
+        assertEquals(Arrays.asList("Poliana"), names(select().from(COLLECTION).where("city").eq("Salvador")
+                .and("age").lt(30).build()));
+        assertEquals(Arrays.asList("Ada", "Poliana", "Maria"), names(select().from(COLLECTION).where("city")
+                .eq("London").or("age").eq(25).build()));
+        assertEquals(Arrays.asList("Ada", "Otaviano", "Maria"), names(select().from(COLLECTION).where("city")
+                .not().eq("Salvador").build()));
+        assertEquals(Arrays.asList("Ada", "Maria"), names(select().from(COLLECTION).where("city")
+                .not().eq("Salvador").and("name").not().like("Ota%").build()));
+    }
+
+    @Test
+    public void shouldSelectSubdocument() {
+        DocumentEntity entity = person(6, "Ana", 20, "Salvador");
+        entity.add(Document.of("address", Arrays.asList(Document.of("street", "Rua 1"),
+                Document.of("zipcode", "40000"))));
+        manager.insert(entity);
+        assertEquals(Arrays.asList("Ana"), names(select().from(COLLECTION).where("address.zipcode")
+                .eq("40000").build()));
+    }
+
+    @Test
+    public void shouldSortSkipAndLimit() {
+        assertEquals(Arrays.asList("Otaviano", "Ada", "Otavio", "Poliana", "Maria"),
+                names(select().from(COLLECTION).orderBy("age").desc().build()));
+        assertEquals(Arrays.asList("Poliana", "Otavio", "Ada", "Otaviano", "Maria"),
+                names(select().from(COLLECTION).orderBy("city").desc().orderBy("name").desc().build()));
+        assertEquals(Arrays.asList("Otavio", "Ada"),
+                names(select().from(COLLECTION).where("age").gte(30).orderBy("age").asc().limit(2).build()));
+        assertEquals(Arrays.asList("Ada", "Otaviano"),
+                names(select().from(COLLECTION).where("age").gte(30).skip(1).limit(2).build()));
+    }
+
+    @Test
+    public void shouldProject() {
+        DocumentEntity entity = manager.select(select("name").from(COLLECTION).where("_id").eq(2).build()).get(0);
+        assertEquals(1, entity.size());
+        assertEquals("Ada", entity.find("name").get().get());
+    }
+
+    @Test
+    public void shouldDelete() {
+        manager.delete(delete().from(COLLECTION).where("city").eq("Salvador").build());
+        assertEquals(Arrays.asList("Ada", "Otaviano", "Maria"), names(select().from(COLLECTION).build()));
+        assertEquals(3L, manager.count(COLLECTION));
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("city").eq("Salvador").build()));
+    }
+
+    @Test
+    public void shouldDeleteDocuments() {
+        DocumentDeleteQuery query = delete("city").from(COLLECTION).where("_id").eq(1).build();
+        manager.delete(query);
+        DocumentEntity entity = manager.select(select().from(COLLECTION).where("_id").eq(1).build()).get(0);
+        assertFalse(entity.find("city").isPresent());
+        assertEquals(Arrays.asList("Poliana"), names(select().from(COLLECTION).where("city").eq("Salvador").build()));
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.insert(person(6, "Ana", 20, "Salvador"), Duration.ofSeconds(10L));
+        assertEquals(6L, manager.count(COLLECTION));
+
+        clock.addAndGet(Duration.ofSeconds(10L).toNanos());
+        assertEquals(5L, manager.count(COLLECTION));
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("_id").eq(6).build()));
+
+        manager.insert(person(6, "Ana", 20, "Salvador"));
+        assertEquals(Arrays.asList("Ana"), names(select().from(COLLECTION).where("_id").eq(6).build()));
+        clock.addAndGet(Duration.ofSeconds(20L).toNanos());
+        assertEquals(6L, manager.count(COLLECTION));
+    }
+
+    @Test
+    public void shouldKeepTtlOnUpdate() {
+        manager.insert(person(6, "Ana", 20, "Salvador"), Duration.ofSeconds(10L));
+        manager.update(person(6, "Ana Maria", 20, "Salvador"));
+        clock.addAndGet(Duration.ofSeconds(10L).toNanos());
+        assertEquals(Arrays.asList(), names(select().from(COLLECTION).where("name").eq("Ana Maria").build()));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenCollectionDoesNotExist() {
+        assertTrue(manager.select(select().from("unknown").build()).isEmpty());
+        assertEquals(0L, manager.count("unknown"));
+        manager.delete(delete().from("unknown").build());
+    }
+
+    @Test
+    public void shouldExecuteQuery() {
+        assertEquals(Arrays.asList("Ada", "Otaviano"), manager.query("select * from person where age > 30")
+                .stream().map(e -> e.find("name").get().get()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldReadAndWriteConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 4).mapToObj(thread -> executor.submit(() -> {
+                for (int index = 0; index < 500; index++) {
+                    long id = 100 + thread * 1_000 + index;
+                    manager.insert(person(id, "Person " + id, index % 50, "City " + thread));
+                    manager.select(select().from(COLLECTION).where("age").gte(25).build());
+                }
+            })).collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2_005L, manager.count(COLLECTION));
+        assertEquals(500, manager.select(select().from(COLLECTION).where("city").eq("City 3").build()).size());
+    }
+
+    private List<Object> names(DocumentQuery query) {
+        return manager.select(query).stream().map(e -> e.find("name").get().get()).collect(Collectors.toList());
+    }
+
+    private static DocumentEntity person(long id, String name, Number age, String city) {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION);
+        entity.add(Document.of("_id", id));
+        entity.add(Document.of("name", name));
+        entity.add(Document.of("age", age));
+        entity.add(Document.of("city", city));
+        return entity;
+    }
+}
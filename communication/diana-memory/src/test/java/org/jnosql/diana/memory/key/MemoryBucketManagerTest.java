@@ -0,0 +1,212 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.jnosql.diana.api.Settings;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.BucketManagerAsync;
+import org.jnosql.diana.api.key.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryBucketManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private MemoryBucketManagerFactory factory;
+
+    private MemoryBucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new MemoryBucketManagerFactory(Runnable::run, 4, 0L, TimeUnit.MILLISECONDS.toNanos(100L), clock::get);
+        manager = factory.getBucketManager("bucket");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> manager.put(null, "value"));
+        assertThrows(NullPointerException.class, () -> manager.put("key", null));
+        assertThrows(NullPointerException.class, () -> manager.put(KeyValueEntity.of("key", "value"), null));
+        assertThrows(NullPointerException.class, () -> manager.get((String) null));
+        assertThrows(NullPointerException.class, () -> manager.remove((String) null));
+        assertThrows(NullPointerException.class, () -> factory.getBucketManager(null));
+    }
+
+    @Test
+    public void shouldPutAndGet() {
+        manager.put("otavio", "Otavio");
+        manager.put(KeyValueEntity.of("ada", 36));
+
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(36, manager.get("ada").map(v -> v.get(Integer.class)).orElse(null).intValue());
+        assertFalse(manager.get("unknown").isPresent());
+        assertEquals("Otavio", factory.getBucketManager("bucket").get("otavio").map(Value::get).orElse(null));
+        assertFalse(factory.getBucketManager("other").get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldGetAndRemoveIterable() {
+        manager.put(Arrays.asList(KeyValueEntity.of("a", 1), KeyValueEntity.of("b", 2), KeyValueEntity.of("c", 3)));
+
+        assertEquals(Arrays.asList(1, 3), values(manager.get(Arrays.asList("a", "unknown", "c"))));
+
+        manager.remove(Arrays.asList("a", "b"));
+        assertEquals(Arrays.asList(3), values(manager.get(Arrays.asList("a", "b", "c"))));
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.put(KeyValueEntity.of("a", 1), Duration.ofSeconds(1L));
+        manager.put(Arrays.asList(KeyValueEntity.of("b", 2), KeyValueEntity.of("c", 3)), Duration.ofSeconds(2L));
+        manager.put("d", 4);
+
+        clock.addAndGet(Duration.ofSeconds(1L).toNanos());
+        assertFalse(manager.get("a").isPresent());
+        assertTrue(manager.get("b").isPresent());
+
+        clock.addAndGet(Duration.ofSeconds(1L).toNanos());
+        assertEquals(Arrays.asList(4), values(manager.get(Arrays.asList("a", "b", "c", "d"))));
+    }
+
+    @Test
+    public void shouldRemoveExpiredEntriesWithoutReadingThem() {
+        MemoryBucket bucket = new MemoryBucket(1, 0L, TimeUnit.MILLISECONDS.toNanos(100L), clock::get);
+        IntStream.range(0, 1_000).forEach(i -> bucket.put(i, Value.of(i), Duration.ofMinutes(i % 10 + 1L).toNanos()));
+        bucket.put("forever", Value.of("forever"), MemoryEntry.NO_EXPIRATION);
+
+        clock.addAndGet(Duration.ofMinutes(5L).toNanos());
+        assertEquals(501L, bucket.size());
+        clock.addAndGet(Duration.ofMinutes(5L).toNanos());
+        assertEquals(1L, bucket.size());
+    }
+
+    @Test
+    public void shouldReplaceTtl() {
+        manager.put(KeyValueEntity.of("a", 1), Duration.ofSeconds(1L));
+        manager.put("a", 2);
+
+        clock.addAndGet(Duration.ofSeconds(10L).toNanos());
+        assertEquals(2, manager.get("a").map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsed() {
+        MemoryBucketManagerFactory factory = new MemoryBucketManagerFactory(Runnable::run, 1, 2L,
+                TimeUnit.MILLISECONDS.toNanos(100L), clock::get);
+        BucketManager manager = factory.getBucketManager("bucket");
+        manager.put("a", 1);
+        manager.put("b", 2);
+        manager.get("a");
+        manager.put("c", 3);
+
+        assertTrue(manager.get("a").isPresent());
+        assertFalse(manager.get("b").isPresent());
+        assertTrue(manager.get("c").isPresent());
+    }
+
+    @Test
+    public void shouldBoundTheEntries() {
+        MemoryBucket bucket = new MemoryBucket(8, 100L, TimeUnit.MILLISECONDS.toNanos(100L), clock::get);
+        IntStream.range(0, 10_000).forEach(i -> bucket.put("key" + i, Value.of(i), MemoryEntry.NO_EXPIRATION));
+        assertEquals(100L, bucket.size());
+    }
+
+    @Test
+    public void shouldPutAndGetConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 4).mapToObj(thread -> executor.submit(() -> {
+                for (int index = 0; index < 1_000; index++) {
+                    String key = thread + ":" + index;
+                    manager.put(KeyValueEntity.of(key, index), Duration.ofSeconds(index % 2 == 0 ? 1L : 10L));
+                    assertEquals(index, manager.get(key).map(v -> v.get(Integer.class)).orElse(-1).intValue());
+                }
+            })).collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        clock.addAndGet(Duration.ofSeconds(1L).toNanos());
+        assertTrue(manager.get("3:999").isPresent());
+        assertFalse(manager.get("3:998").isPresent());
+    }
+
+    @Test
+    public void shouldShareTheEntriesWithTheAsyncManager() {
+        BucketManagerAsync async = factory.getBucketManagerAsync("bucket");
+        async.put("a", 1).toCompletableFuture().join();
+        manager.put("b", 2);
+
+        assertEquals(Optional.of(1), manager.get("a").map(Value::get));
+        assertEquals(Optional.of(2), async.get("b").toCompletableFuture().join().map(Value::get));
+        assertEquals(2, values(async.get(Arrays.asList("a", "b", "c")).toCompletableFuture().join()).size());
+        async.remove("a").toCompletableFuture().join();
+        assertFalse(manager.get("a").isPresent());
+    }
+
+    @Test
+    public void shouldReturnStructures() {
+        List<String> list = factory.getList("names", String.class);
+        list.add("Ada");
+        assertSame(list, factory.getList("names", String.class));
+        assertTrue(factory.getSet("names", String.class).isEmpty());
+        factory.getMap("names", String.class, Integer.class).put("Ada", 36);
+        assertEquals(36, factory.getMap("names", String.class, Integer.class).get("Ada").intValue());
+        assertTrue(factory.getQueue("names", String.class).offer("Ada"));
+    }
+
+    @Test
+    public void shouldReadSettings() {
+        Settings settings = Settings.builder().put(MemoryKeyValueConfiguration.MAX_ENTRIES, "1")
+                .put(MemoryKeyValueConfiguration.EXPIRATION_TICK, 10).build();
+        MemoryBucketManager manager = new MemoryKeyValueConfiguration().get(settings).getBucketManager("bucket");
+        manager.put("a", 1);
+        manager.put("b", 2);
+        assertFalse(manager.get("a").isPresent());
+        assertEquals(Optional.of(2), manager.get("b").map(Value::get));
+
+        assertThrows(IllegalArgumentException.class, () -> new MemoryKeyValueConfiguration()
+                .get(Settings.builder().put(MemoryKeyValueConfiguration.CONCURRENCY, 0).build()));
+    }
+
+    private static List<Object> values(Iterable<Value> values) {
+        return StreamSupport.stream(values.spliterator(), false).map(Value::get).collect(Collectors.toList());
+    }
+}
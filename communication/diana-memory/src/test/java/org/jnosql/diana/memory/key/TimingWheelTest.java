@@ -0,0 +1,97 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.memory.key;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private final List<Object> expired = new ArrayList<>();
+
+    @Test
+    public void shouldExpireWithinOneTick() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        wheel.schedule(entry("a", 25L));
+        wheel.schedule(entry("b", 35L));
+
+        wheel.advance(ms(29L), e -> expired.add(e.getKey()));
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(ms(30L), e -> expired.add(e.getKey()));
+        assertEquals(1, expired.size());
+        assertEquals("a", expired.get(0));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void shouldCascadeFromTheOuterWheels() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        long[] deadlines = {70L, 640L, 660L, 5_000L, 41_000L, 2_700_000L, 200_000_000L};
+        for (long deadline : deadlines) {
+            wheel.schedule(entry(deadline, deadline));
+        }
+        for (long deadline : deadlines) {
+            wheel.advance(ms(deadline - 1L), e -> expired.add(e.getKey()));
+            assertFalse(expired.contains(deadline), "expired too soon " + deadline);
+            wheel.advance(ms(deadline + 10L), e -> expired.add(e.getKey()));
+            assertTrue(expired.contains(deadline), "not expired " + deadline);
+        }
+        assertEquals(deadlines.length, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void shouldCancel() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        MemoryEntry entry = entry("a", 25L);
+        wheel.schedule(entry);
+        wheel.cancel(entry);
+        wheel.cancel(entry);
+
+        wheel.advance(ms(100L), e -> expired.add(e.getKey()));
+        assertTrue(expired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void shouldExpireOverdueEntry() {
+        TimingWheel wheel = new TimingWheel(TICK, 0L);
+        wheel.advance(ms(1_000L), e -> expired.add(e.getKey()));
+        wheel.schedule(entry("a", 500L));
+
+        wheel.advance(ms(1_010L), e -> expired.add(e.getKey()));
+        assertEquals(1, expired.size());
+    }
+
+    private static MemoryEntry entry(Object key, long deadline) {
+        return new MemoryEntry(key, null, ms(deadline));
+    }
+
+    private static long ms(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrDeleteQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.DeleteQuery;
 import org.jnosql.query.DeleteQuerySupplier;
 
@@ -22,16 +23,20 @@ import java.util.Objects;
  */
 public final class CachedDeleteQuerySupplier implements DeleteQuerySupplier {
 
-    private final CacheQuery<DeleteQuery> cached;
-
-
-    public CachedDeleteQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrDeleteQuerySupplier().apply(q));
-    }
+    private static final QueryCache<DeleteQuery> CACHE = QueryCache.of();
 
     @Override
     public DeleteQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrDeleteQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedDeleteQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<DeleteQuery> getCache() {
+        return CACHE;
     }
 }
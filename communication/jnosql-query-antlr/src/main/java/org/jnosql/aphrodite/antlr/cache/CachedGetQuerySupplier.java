@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrGetQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.GetQuery;
 import org.jnosql.query.GetQuerySupplier;
 
@@ -23,16 +24,20 @@ import java.util.Objects;
  */
 public final class CachedGetQuerySupplier implements GetQuerySupplier {
 
-    private final CacheQuery<GetQuery> cached;
-
-
-    public CachedGetQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrGetQuerySupplier().apply(q));
-    }
+    private static final QueryCache<GetQuery> CACHE = QueryCache.of();
 
     @Override
     public GetQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrGetQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedGetQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<GetQuery> getCache() {
+        return CACHE;
     }
 }
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrInsertQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.InsertQuery;
 import org.jnosql.query.InsertQuerySupplier;
 
@@ -22,15 +23,20 @@ import java.util.Objects;
  */
 public final class CachedInsertQuerySupplier implements InsertQuerySupplier {
 
-    private final CacheQuery<InsertQuery> cached;
-
-    public CachedInsertQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrInsertQuerySupplier().apply(q));
-    }
+    private static final QueryCache<InsertQuery> CACHE = QueryCache.of();
 
     @Override
     public InsertQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrInsertQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedInsertQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<InsertQuery> getCache() {
+        return CACHE;
     }
 }
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrPutQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.PutQuery;
 import org.jnosql.query.PutQuerySupplier;
 
@@ -22,16 +23,20 @@ import java.util.Objects;
  */
 public final class CachedPutQuerySupplier implements PutQuerySupplier {
 
-    private final CacheQuery<PutQuery> cached;
-
-
-    public CachedPutQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrPutQuerySupplier().apply(q));
-    }
+    private static final QueryCache<PutQuery> CACHE = QueryCache.of();
 
     @Override
     public PutQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrPutQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedPutQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<PutQuery> getCache() {
+        return CACHE;
     }
 }
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrRemoveQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.RemoveQuery;
 import org.jnosql.query.RemoveQuerySupplier;
 
@@ -22,16 +23,20 @@ import java.util.Objects;
  */
 public final class CachedRemoveQuerySupplier implements RemoveQuerySupplier {
 
-    private final CacheQuery<RemoveQuery> cached;
-
-
-    public CachedRemoveQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrRemoveQuerySupplier().apply(q));
-    }
+    private static final QueryCache<RemoveQuery> CACHE = QueryCache.of();
 
     @Override
     public RemoveQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrRemoveQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedRemoveQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<RemoveQuery> getCache() {
+        return CACHE;
     }
 }
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrSelectQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.SelectQuerySupplier;
 
@@ -22,16 +23,20 @@ import java.util.Objects;
  */
 public final class CachedSelectQuerySupplier implements SelectQuerySupplier {
 
-    private final CacheQuery<SelectQuery> cached;
-
-
-    public CachedSelectQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrSelectQuerySupplier().apply(q));
-    }
+    private static final QueryCache<SelectQuery> CACHE = QueryCache.of();
 
     @Override
     public SelectQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrSelectQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedSelectQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<SelectQuery> getCache() {
+        return CACHE;
     }
 }
@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrUpdateQuerySupplier;
+import org.jnosql.diana.api.QueryCache;
 import org.jnosql.query.UpdateQuery;
 import org.jnosql.query.UpdateQuerySupplier;
 
@@ -22,16 +23,20 @@ import java.util.Objects;
  */
 public final class CachedUpdateQuerySupplier implements UpdateQuerySupplier {
 
-    private final CacheQuery<UpdateQuery> cached;
-
-
-    public CachedUpdateQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrUpdateQuerySupplier().apply(q));
-    }
+    private static final QueryCache<UpdateQuery> CACHE = QueryCache.of();
 
     @Override
     public UpdateQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        return CACHE.get(query, q -> new AntlrUpdateQuerySupplier().apply(q));
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachedUpdateQuerySupplier}, with its hit, miss and eviction counters
+     *
+     * @return the {@link QueryCache} instance
+     */
+    public static QueryCache<UpdateQuery> getCache() {
+        return CACHE;
     }
 }
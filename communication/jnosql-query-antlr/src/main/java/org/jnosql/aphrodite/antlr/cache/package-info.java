@@ -12,6 +12,7 @@
 
 /**
  *  This package contains the wrapper to the Antlr supplier implementation; this wrapper
- *  cache keeps the values converter to 5 minutes at least after that time the result will be expired.
+ *  keeps the values converted on a bounded {@link org.jnosql.diana.api.QueryCache}, the least recently used
+ *  queries are evicted when the cache is full.
  */
 package org.jnosql.aphrodite.antlr.cache;
\ No newline at end of file
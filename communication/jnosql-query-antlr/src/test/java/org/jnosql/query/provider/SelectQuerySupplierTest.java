@@ -24,4 +24,17 @@ public class SelectQuerySupplierTest {
         Assertions.assertNotNull(supplier);
         Assertions.assertTrue(supplier instanceof CachedSelectQuerySupplier);
     }
+
+    @Test
+    public void shouldShareTheCacheBetweenSuppliers() {
+        String query = "select * from God where age = 10 and name = \"shared cache\"";
+        long misses = CachedSelectQuerySupplier.getCache().getMissCount();
+        long hits = CachedSelectQuerySupplier.getCache().getHitCount();
+
+        new CachedSelectQuerySupplier().apply(query);
+        new CachedSelectQuerySupplier().apply(query);
+
+        Assertions.assertEquals(misses + 1, CachedSelectQuerySupplier.getCache().getMissCount());
+        Assertions.assertEquals(hits + 1, CachedSelectQuerySupplier.getCache().getHitCount());
+    }
 }
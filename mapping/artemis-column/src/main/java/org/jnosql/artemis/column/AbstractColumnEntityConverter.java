@@ -24,13 +24,11 @@ import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -43,6 +41,8 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final boolean overridesFeedObject = overridesFeedObject(getClass());
+
 
     protected abstract ClassMappings getClassMappings();
 
@@ -90,15 +90,6 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         return DefaultColumnFieldValue.of(value, field);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
-            FieldMapping field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field, this);
-        };
-    }
-
     protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
         ClassMapping mapping = getClassMappings().get(entityClass);
         T instance = mapping.newInstance();
@@ -107,17 +98,68 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
         final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
-
+        final Map<String, Column> columnsByName = groupByName(columns);
+        final Consumer<String> feedObject = overridesFeedObject
+                ? feedObject(instance, columns, fieldsGroupByName) : null;
+        fieldsGroupByName.forEach((name, field) -> {
+            Column column = columnsByName.get(name);
+            if (column == null && !isElementType(field)) {
+                return;
+            }
+            if (feedObject == null) {
+                feedField(instance, columns, Optional.ofNullable(column), field);
+            } else {
+                feedObject.accept(name);
+            }
+        });
         return instance;
     }
 
+    /**
+     * Returns a consumer that converts the field with the given name into the instance.
+     * The conversion indexes the columns by name once and calls this method only when a subclass overrides it.
+     *
+     * @param instance          the entity instance
+     * @param columns           the columns
+     * @param fieldsGroupByName the fields grouped by name
+     * @param <T>               the entity type
+     * @return the consumer of the field name
+     */
+    protected <T> Consumer<String> feedObject(T instance, List<Column> columns,
+                                              Map<String, FieldMapping> fieldsGroupByName) {
+        final Map<String, Column> columnsByName = groupByName(columns);
+        return k -> feedField(instance, columns, Optional.ofNullable(columnsByName.get(k)), fieldsGroupByName.get(k));
+    }
+
+    private <T> void feedField(T instance, List<Column> columns, Optional<Column> column, FieldMapping field) {
+        ColumnFieldConverter fieldConverter = converterFactory.get(field);
+        fieldConverter.convert(instance, columns, column, field, this);
+    }
+
+    private static Map<String, Column> groupByName(List<Column> columns) {
+        Map<String, Column> columnsByName = new HashMap<>(columns.size() * 2);
+        for (Column column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
+        return columnsByName;
+    }
+
+    private static boolean overridesFeedObject(Class<?> converterClass) {
+        Class<?> type = converterClass;
+        while (!AbstractColumnEntityConverter.class.equals(type)) {
+            try {
+                type.getDeclaredMethod("feedObject", Object.class, List.class, Map.class);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                type = type.getSuperclass();
+            }
+        }
+        return false;
+    }
+
+    private static boolean isElementType(FieldMapping field) {
+        FieldType type = field.getType();
+        return EMBEDDED.equals(type) || SUBENTITY.equals(type);
+    }
+
 }
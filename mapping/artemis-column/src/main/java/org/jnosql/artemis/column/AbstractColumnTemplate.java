@@ -23,6 +23,7 @@ import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.BulkOptions;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
@@ -38,6 +39,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -92,12 +94,36 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     }
 
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        return insert(entities, BulkOptions.defaultOptions());
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, BulkOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return getFlow().flowAll(entities, options, e -> getManager().insert(e, options));
+    }
+
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
         return getFlow().flow(entity, update);
     }
 
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        return update(entities, BulkOptions.defaultOptions());
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities, BulkOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return getFlow().flowAll(entities, options, e -> getManager().update(e, options));
+    }
+
 
     @Override
     public void delete(ColumnDeleteQuery query) {
@@ -113,6 +139,25 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     }
 
 
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        getEventManager().firePreQuery(query);
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        return getManager().stream(query).map(function);
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query, int fetchSize) {
+        requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero: " + fetchSize);
+        }
+        getEventManager().firePreQuery(query);
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        return getManager().stream(query, fetchSize).map(function);
+    }
+
     @Override
     public <T> Page<T> select(ColumnQueryPagination query) {
         List<T> entities = executeQuery(query);
@@ -28,6 +28,8 @@ import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.api.column.ColumnQueryParserAsync;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
+import org.jnosql.diana.api.reactive.Publishers;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
@@ -134,6 +136,12 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         getManager().select(query, dianaCallBack);
     }
 
+    @Override
+    public <T> Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.map(getManager().selectPublisher(query), e -> (T) getConverter().toEntity(e));
+    }
+
     @Override
     public <T, K> void find(Class<T> entityClass, K id, Consumer<Optional<T>> callback) {
 
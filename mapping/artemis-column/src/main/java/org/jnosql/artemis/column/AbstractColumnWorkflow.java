@@ -14,12 +14,22 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.stream.Collectors.toSet;
+
 /**
  * The {@link ColumnWorkflow} template method
  */
@@ -31,59 +41,92 @@ public abstract class AbstractColumnWorkflow implements ColumnWorkflow {
     protected abstract ColumnEntityConverter getConverter();
 
     public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        ColumnEventPersistManager eventManager = getColumnEventPersistManager();
+        ColumnEntityConverter converter = getConverter();
+
+        eventManager.firePreEntity(entity);
+        eventManager.firePreColumnEntity(entity);
+        ColumnEntity column = converter.toColumn(entity);
+        eventManager.firePreColumn(column);
+
+        ColumnEntity columnUpdated = action.apply(column);
+
+        eventManager.firePostColumn(columnUpdated);
+        T entityUpdated = converter.toEntity(entity, columnUpdated);
+        eventManager.firePostEntity(entityUpdated);
+        eventManager.firePostColumnEntity(entityUpdated);
+        return entityUpdated;
+    }
 
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+    /**
+     * Converts and fires the events of the entities one chunk of {@link BulkOptions#getChunkSize()} at a time,
+     * so the database alteration runs once per chunk. The post events are fired to each entity that succeeded.
+     */
+    @Override
+    public <T> Iterable<T> flowAll(Iterable<T> entities, BulkOptions options,
+                                   Function<List<ColumnEntity>, BulkResult<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<T> entitiesUpdated = new ArrayList<>();
+        List<BulkFailure<T>> failures = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        int offset = 0;
+        Iterator<T> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            chunk.clear();
+            while (iterator.hasNext() && chunk.size() < options.getChunkSize()) {
+                chunk.add(Objects.requireNonNull(iterator.next(), "entity is required"));
+            }
+            flowChunk(chunk, offset, options, action, entitiesUpdated, failures);
+            offset += chunk.size();
+        }
+        if (!failures.isEmpty()) {
+            throw new BulkException("The bulk operation failed on " + failures.size() + " of " + offset
+                    + " entities", failures);
+        }
+        return entitiesUpdated;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getColumnEventPersistManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreColumnEntity = t -> {
-            getColumnEventPersistManager().firePreColumnEntity(t);
-            return t;
-        };
-
-        Function<T, ColumnEntity> converterColumn = t -> getConverter().toColumn(t);
-
-        UnaryOperator<ColumnEntity> firePreColumn = t -> {
-            getColumnEventPersistManager().firePreColumn(t);
-            return t;
-        };
-
-        UnaryOperator<ColumnEntity> firePostColumn = t -> {
-            getColumnEventPersistManager().firePostColumn(t);
-            return t;
-        };
-
-        Function<ColumnEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getColumnEventPersistManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostColumnEntity = t -> {
-            getColumnEventPersistManager().firePostColumnEntity(t);
-            return t;
-        };
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreColumnEntity)
-                .andThen(converterColumn)
-                .andThen(firePreColumn)
-                .andThen(action)
-                .andThen(firePostColumn)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostColumnEntity);
+    private <T> void flowChunk(List<T> chunk, int offset, BulkOptions options,
+                               Function<List<ColumnEntity>, BulkResult<ColumnEntity>> action,
+                               List<T> entitiesUpdated, List<BulkFailure<T>> failures) {
+        ColumnEventPersistManager eventManager = getColumnEventPersistManager();
+        ColumnEntityConverter converter = getConverter();
+
+        List<ColumnEntity> columns = new ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            eventManager.firePreEntity(entity);
+            eventManager.firePreColumnEntity(entity);
+            ColumnEntity column = converter.toColumn(entity);
+            eventManager.firePreColumn(column);
+            columns.add(column);
+        }
+
+        BulkResult<ColumnEntity> result = action.apply(columns);
+        Set<Integer> failed = result.getFailures().stream().map(BulkFailure::getIndex).collect(toSet());
+        Iterator<ColumnEntity> results = result.getResults().iterator();
+        for (int index = 0; index < chunk.size() && results.hasNext(); index++) {
+            if (failed.contains(index)) {
+                continue;
+            }
+            ColumnEntity column = results.next();
+            eventManager.firePostColumn(column);
+            T entity = converter.toEntity(chunk.get(index), column);
+            eventManager.firePostEntity(entity);
+            eventManager.firePostColumnEntity(entity);
+            entitiesUpdated.add(entity);
+        }
+
+        for (BulkFailure<ColumnEntity> failure : result.getFailures()) {
+            if (options.isOrdered()) {
+                throw failure.getCause();
+            }
+            failures.add(BulkFailure.of(offset + failure.getIndex(), chunk.get(failure.getIndex()),
+                    failure.getCause()));
+        }
     }
 }
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
@@ -43,7 +44,13 @@ class ColumnFieldConverters {
         private final CollectionEmbeddableConverter embeddableConverter = new CollectionEmbeddableConverter();
         private final SubEntityConverter subEntityConverter = new SubEntityConverter();
 
+        private final Map<FieldMapping, ColumnFieldConverter> converters = new ConcurrentHashMap<>();
+
         ColumnFieldConverter get(FieldMapping field) {
+            return converters.computeIfAbsent(field, this::create);
+        }
+
+        private ColumnFieldConverter create(FieldMapping field) {
             if (EMBEDDED.equals(field.getType())) {
                 return embeddedFieldConverter;
             } else if (SUBENTITY.equals(field.getType())) {
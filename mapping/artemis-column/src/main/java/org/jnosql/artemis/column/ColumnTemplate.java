@@ -17,6 +17,7 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.diana.api.BulkOptions;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -73,6 +75,24 @@ public interface ColumnTemplate {
         return StreamSupport.stream(entities.spliterator(), false).map(this::insert).collect(Collectors.toList());
     }
 
+    /**
+     * Saves entities as a bulk operation following the {@link BulkOptions}, by default it's just
+     * {@link ColumnTemplate#insert(Iterable)}, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @param <T>      the instance type
+     * @return the entities saved
+     * @throws NullPointerException               when either entities or options are null
+     * @throws org.jnosql.diana.api.BulkException when the bulk is unordered and at least one entity fails,
+     *                                            an ordered bulk stops at the first failure and throws its exception
+     */
+    default <T> Iterable<T> insert(Iterable<T> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return insert(entities);
+    }
+
     /**
      * Inserts entities collection entity with time to live, by default it's just run for each saving using
      * {@link ColumnTemplate#insert(Object, Duration)},
@@ -117,6 +137,24 @@ public interface ColumnTemplate {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * Updates entities as a bulk operation following the {@link BulkOptions}, by default it's just
+     * {@link ColumnTemplate#update(Iterable)}, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @param <T>      the instance type
+     * @return the entities updated
+     * @throws NullPointerException               when either entities or options are null
+     * @throws org.jnosql.diana.api.BulkException when the bulk is unordered and at least one entity fails,
+     *                                            an ordered bulk stops at the first failure and throws its exception
+     */
+    default <T> Iterable<T> update(Iterable<T> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return update(entities);
+    }
+
     /**
      * Deletes an entity
      *
@@ -136,6 +174,40 @@ public interface ColumnTemplate {
      */
     <T> List<T> select(ColumnQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream}, the entities are converted while the stream is consumed,
+     * by default it's just the stream of {@link ColumnTemplate#select(ColumnQuery)}.
+     * The stream should be closed to release the resources held by the database cursor.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query as a lazy {@link Stream}
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> stream(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.<T>select(query).stream();
+    }
+
+    /**
+     * Finds entities from query as a {@link Stream} using the fetch size as a hint to the database cursor,
+     * by default it ignores the hint and uses {@link ColumnTemplate#stream(ColumnQuery)}.
+     *
+     * @param query     - query to figure out entities
+     * @param fetchSize the number of rows fetched per round trip
+     * @param <T>       the instance type
+     * @return entities found by query as a lazy {@link Stream}
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when fetchSize is negative or zero
+     */
+    default <T> Stream<T> stream(ColumnQuery query, int fetchSize) {
+        Objects.requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be greater than zero: " + fetchSize);
+        }
+        return stream(query);
+    }
+
     /**
      * Finds entities from query using pagination
      *
@@ -21,12 +21,17 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnQuery;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.ObserverUtil.hasObserver;
+
 /**
  * The default implementation of {@link ColumnEventPersistManager}
+ * The event types without observers are resolved once, at startup, and never fired.
  */
 @ApplicationScoped
 class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
@@ -55,43 +60,90 @@ class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
     @Inject
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean columnEntityPrePersistObserved;
+
+    private boolean columnEntityPostPersistObserved;
+
+    private boolean entityPrePersistObserved;
+
+    private boolean entityPostPersitObserved;
+
+    private boolean entityColumnPrePersistObserved;
+
+    private boolean entityColumnPostPersistObserved;
+
+    private boolean columnQueryExecuteObserved;
+
+    private boolean columnDeleteQueryExecuteObserved;
+
+    @PostConstruct
+    void init() {
+        columnEntityPrePersistObserved = hasObserver(beanManager, ColumnEntityPrePersist.class);
+        columnEntityPostPersistObserved = hasObserver(beanManager, ColumnEntityPostPersist.class);
+        entityPrePersistObserved = hasObserver(beanManager, EntityPrePersist.class);
+        entityPostPersitObserved = hasObserver(beanManager, EntityPostPersit.class);
+        entityColumnPrePersistObserved = hasObserver(beanManager, EntityColumnPrePersist.class);
+        entityColumnPostPersistObserved = hasObserver(beanManager, EntityColumnPostPersist.class);
+        columnQueryExecuteObserved = hasObserver(beanManager, ColumnQueryExecute.class);
+        columnDeleteQueryExecuteObserved = hasObserver(beanManager, ColumnDeleteQueryExecute.class);
+    }
+
     @Override
     public void firePreColumn(ColumnEntity entity) {
-        columnEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        if (columnEntityPrePersistObserved) {
+            columnEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostColumn(ColumnEntity entity) {
-        columnEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        if (columnEntityPostPersistObserved) {
+            columnEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (entityPostPersitObserved) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreColumnEntity(T entity) {
-        entityColumnPrePersist.fire(EntityColumnPrePersist.of(entity));
+        if (entityColumnPrePersistObserved) {
+            entityColumnPrePersist.fire(EntityColumnPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostColumnEntity(T entity) {
-        entityColumnPostPersist.fire(EntityColumnPostPersist.of(entity));
+        if (entityColumnPostPersistObserved) {
+            entityColumnPostPersist.fire(EntityColumnPostPersist.of(entity));
+        }
     }
 
     @Override
     public void firePreQuery(ColumnQuery query) {
-        columnQueryExecute.fire(ColumnQueryExecute.of(query));
+        if (columnQueryExecuteObserved) {
+            columnQueryExecute.fire(ColumnQueryExecute.of(query));
+        }
     }
 
     @Override
     public void firePreDeleteQuery(ColumnDeleteQuery query) {
-        columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
+        if (columnDeleteQueryExecuteObserved) {
+            columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
+        }
     }
 }
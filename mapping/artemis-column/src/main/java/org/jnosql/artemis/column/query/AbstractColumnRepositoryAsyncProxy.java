@@ -20,11 +20,14 @@ import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
@@ -50,11 +53,21 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 ColumnQuery query = getQuery(method, args);
+                if (isCompletionStage(method)) {
+                    return CompletionStages.<List<Object>>of(c -> getTemplate().select(query, c));
+                }
                 return executeQuery(getCallback(args), query);
             case FIND_ALL:
-                return executeQuery(getCallback(args), select().from(getClassMapping().getName()).build());
+                ColumnQuery queryAll = select().from(getClassMapping().getName()).build();
+                if (isCompletionStage(method)) {
+                    return CompletionStages.<List<Object>>of(c -> getTemplate().select(queryAll, c));
+                }
+                return executeQuery(getCallback(args), queryAll);
             case DELETE_BY:
                 ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
+                if (isCompletionStage(method)) {
+                    return CompletionStages.<Void>of(c -> getTemplate().delete(deleteQuery, c));
+                }
                 return executeDelete(getCallback(args), deleteQuery);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
@@ -66,8 +79,7 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
                         .withAsyncConsumer(getTemplate()::query)
                         .withPrepareConverter(q -> getTemplate().prepare(q))
                         .build();
-                nativeQuery.execute();
-                return Void.class;
+                return nativeQuery.execute();
             default:
                 return Void.class;
         }
@@ -84,6 +96,10 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
         return Void.class;
     }
 
+    private boolean isCompletionStage(Method method) {
+        return CompletionStage.class.equals(method.getReturnType());
+    }
+
     private Object getCallback(Object[] args) {
         if(args == null || args.length == 0) {
             return null;
@@ -35,7 +35,9 @@ import org.jnosql.query.SelectQuery;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class BaseColumnRepository {
 
@@ -43,14 +45,22 @@ abstract class BaseColumnRepository {
 
     protected abstract ClassMapping getClassMapping();
 
+    /**
+     * The method name is parsed just once to each {@link Method}, the parsed query is immutable, thus
+     * on each call it's converted and bound with the arguments.
+     */
+    private final Map<Method, SelectQuery> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, DeleteQuery> deleteQueries = new ConcurrentHashMap<>();
+
     private ColumnObserverParser parser;
 
     private ParamsBinder paramsBinder;
 
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
+        SelectQuery selectQuery = selectQueries.computeIfAbsent(method,
+                m -> SelectMethodFactory.get().apply(m, getClassMapping().getName()));
         SelectQueryConverter converter = SelectQueryConverter.get();
         ColumnQueryParams queryParams = converter.apply(selectQuery, getParser());
         ColumnQuery query = queryParams.getQuery();
@@ -60,8 +70,8 @@ abstract class BaseColumnRepository {
     }
 
     protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
+        DeleteQuery deleteQuery = deleteQueries.computeIfAbsent(method,
+                m -> DeleteMethodFactory.get().apply(m, getClassMapping().getName()));
         DeleteQueryConverter converter = DeleteQueryConverter.get();
         ColumnDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
         ColumnDeleteQuery query = queryParams.getQuery();
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Address;
 import org.jnosql.artemis.model.AppointmentBook;
@@ -29,6 +30,8 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
@@ -48,6 +51,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -66,6 +70,12 @@ public class DefaultColumnEntityConverterTest {
     @Inject
     private DefaultColumnEntityConverter converter;
 
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
     private Column[] columns;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -425,6 +435,35 @@ public class DefaultColumnEntityConverterTest {
         Assertions.assertEquals(contents, entity.find("contents").get().get());
     }
 
+    @Test
+    public void shouldCallFeedObjectWhenItIsOverridden() {
+        List<String> names = new ArrayList<>();
+        AbstractColumnEntityConverter overridden = new AbstractColumnEntityConverter() {
+            @Override
+            protected ClassMappings getClassMappings() {
+                return classMappings;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+
+            @Override
+            protected <T> Consumer<String> feedObject(T instance, List<Column> columns,
+                                                      Map<String, FieldMapping> fieldsGroupByName) {
+                return super.feedObject(instance, columns, fieldsGroupByName).andThen(names::add);
+            }
+        };
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        Stream.of(columns).forEach(entity::add);
+
+        Actor actor = overridden.toEntity(Actor.class, entity);
+
+        assertEquals("Otavio", actor.getName());
+        assertThat(names, containsInAnyOrder("_id", "age", "name", "phones", "movieCharacter", "movieRating"));
+    }
+
     private Object getValue(Optional<Column> column) {
         return column.map(Column::getValue).map(Value::get).orElse(null);
     }
@@ -19,6 +19,7 @@ import org.jnosql.artemis.EntityPrePersist;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -27,11 +28,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
+import java.util.Collections;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultColumnEventPersistManagerTest {
@@ -65,6 +72,18 @@ public class DefaultColumnEventPersistManagerTest {
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
 
+    @Mock
+    private BeanManager beanManager;
+
+    @Mock
+    private ObserverMethod<Object> observer;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(Collections.singleton(observer)).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+    }
+
     @Test
     public void shouldFirePreColumn() {
         ColumnEntity entity = ColumnEntity.of("columnFamily");
@@ -153,8 +172,15 @@ public class DefaultColumnEventPersistManagerTest {
         assertEquals(query, captor.getValue().getQuery());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        subject.firePreColumn(ColumnEntity.of("columnFamily"));
+        verifyZeroInteractions(columnEntityPrePersistEvent);
+    }
 
     class Jedi {
         private String name;
     }
-}
\ No newline at end of file
+}
@@ -28,15 +28,19 @@ import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
+import org.jnosql.diana.api.reactive.Publishers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -55,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(CDIExtension.class)
@@ -269,6 +274,39 @@ public class DefaultColumnTemplateAsyncTest {
         await().untilTrue(condition);
     }
 
+    @Test
+    public void shouldSelectPublisher() {
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        ColumnEntity entity = ColumnEntity.of("Person", asList(columns));
+        Mockito.when(managerMock.selectPublisher(query)).thenReturn(Publishers.of(() -> asList(entity, entity).iterator()));
+
+        List<Person> people = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        subject.<Person>selectPublisher(query).subscribe(new Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                people.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(people.isEmpty());
+        subscription.get().request(1);
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
+    }
+
     @Test
     public void shouldReturnSingleResult() {
 
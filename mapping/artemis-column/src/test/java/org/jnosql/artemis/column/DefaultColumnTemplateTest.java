@@ -22,6 +22,10 @@ import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
@@ -43,8 +47,10 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -185,11 +191,81 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(Arrays.asList(columnEntity, columnEntity), emptyList()));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock).insert(any(Iterable.class), Mockito.eq(BulkOptions.defaultOptions()));
+        verify(columnEventPersistManager, times(2)).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldInsertEntitiesWithBulkOptions() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(10);
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        subject.insert(singletonList(person), options);
+        verify(managerMock).insert(any(Iterable.class), Mockito.eq(options));
+    }
+
+    @Test
+    public void shouldInsertEntitiesByChunk() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.ordered(2);
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(Arrays.asList(entity, entity), emptyList()))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person, person), options);
+        assertEquals(3, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock, times(2)).insert(any(Iterable.class), Mockito.eq(options));
+        verify(columnEventPersistManager, times(3)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenInsertEntitiesFails() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(singletonList(entity),
+                        singletonList(BulkFailure.of(1, entity, new IllegalStateException()))));
 
-        subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> subject.insert(Arrays.asList(person, person)));
+        verify(columnEventPersistManager).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenInsertEntitiesFailsUnordered() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(1);
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(emptyList(),
+                        singletonList(BulkFailure.of(0, entity, new IllegalStateException()))))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        BulkException exception = Assertions.assertThrows(BulkException.class,
+                () -> subject.insert(Arrays.asList(person, person), options));
+        assertEquals(1, exception.getFailures().size());
+        assertEquals(0, exception.getFailures().get(0).getIndex());
+        assertEquals(person, exception.getFailures().get(0).getItem());
+        verify(managerMock, times(2)).insert(any(Iterable.class), Mockito.eq(options));
+        verify(columnEventPersistManager).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -198,11 +274,64 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(Arrays.asList(columnEntity, columnEntity), emptyList()));
+
+        Iterable<Person> people = subject.update(Arrays.asList(person, person));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock).update(any(Iterable.class), Mockito.eq(BulkOptions.defaultOptions()));
+        verify(columnEventPersistManager, times(2)).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldUpdateEntitiesWithBulkOptions() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(10);
 
-        subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        Mockito.when(managerMock
+                .update(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        subject.update(singletonList(person), options);
+        verify(managerMock).update(any(Iterable.class), Mockito.eq(options));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateEntitiesFails() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .update(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(singletonList(entity),
+                        singletonList(BulkFailure.of(1, entity, new IllegalStateException()))));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> subject.update(Arrays.asList(person, person)));
+        verify(columnEventPersistManager).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateEntitiesFailsUnordered() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(1);
+
+        Mockito.when(managerMock
+                .update(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(emptyList(),
+                        singletonList(BulkFailure.of(0, entity, new IllegalStateException()))))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        BulkException exception = Assertions.assertThrows(BulkException.class,
+                () -> subject.update(Arrays.asList(person, person), options));
+        assertEquals(1, exception.getFailures().size());
+        assertEquals(0, exception.getFailures().get(0).getIndex());
+        assertEquals(person, exception.getFailures().get(0).getItem());
+        verify(managerMock, times(2)).update(any(Iterable.class), Mockito.eq(options));
+        verify(columnEventPersistManager).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -220,6 +349,46 @@ public class DefaultColumnTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStream() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Mockito.when(managerMock.stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(columnEntity).onClose(() -> closed.set(true)));
+
+        ColumnQuery query = select().from("Person").build();
+        try (Stream<Person> people = subject.stream(query)) {
+            List<Person> result = people.collect(Collectors.toList());
+            assertEquals(1, result.size());
+            assertEquals("Name", result.get(0).getName());
+        }
+        assertTrue(closed.get());
+        verify(managerMock).stream(query);
+        verify(columnEventPersistManager).firePreQuery(query);
+    }
+
+    @Test
+    public void shouldStreamWithFetchSize() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.stream(any(ColumnQuery.class), Mockito.eq(100)))
+                .thenReturn(Stream.of(columnEntity));
+
+        ColumnQuery query = select().from("Person").build();
+        List<Person> result = subject.<Person>stream(query, 100).collect(Collectors.toList());
+        assertEquals(1, result.size());
+        verify(managerMock).stream(query, 100);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFetchSizeIsInvalid() {
+        ColumnQuery query = select().from("Person").build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> subject.stream(query, 0));
+        verify(columnEventPersistManager, Mockito.never()).firePreQuery(query);
+        verify(managerMock, Mockito.never()).stream(query, 0);
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
@@ -184,6 +184,23 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindNewValuesWhenMethodIsCalledAgain() {
+
+        when(template.singleResult(Mockito.any(ColumnQuery.class))).thenReturn(Optional.empty());
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, Mockito.times(2)).singleResult(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        ColumnCondition first = queries.get(0).getCondition().get();
+        ColumnCondition second = queries.get(1).getCondition().get();
+        assertEquals(Column.of("name", "Ada"), first.getColumn());
+        assertEquals(Column.of("name", "Poliana"), second.getColumn());
+    }
+
     @Test
     public void shouldFindByNameANDAge() {
         Person ada = Person.builder()
@@ -20,7 +20,7 @@ package org.jnosql.artemis;
 public interface Converters {
 
     /**
-     * Return a new instance from the converter
+     * Return the instance from the converter, the same instance is returned to the same converter class
      *
      * @param converterClass the converter class
      * @return a converter instance
@@ -15,16 +15,23 @@
 package org.jnosql.artemis;
 
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * The Default implementation to {@link Converters}
+ * The Default implementation to {@link Converters}. Each converter class is resolved once, either as a CDI bean or
+ * through {@link InstanceProducer}, and then the same instance is returned; the creational contexts of the beans
+ * are released when this registry is destroyed.
  */
 @ApplicationScoped
 class DefaultConverters implements Converters {
@@ -35,10 +42,27 @@ class DefaultConverters implements Converters {
     @Inject
     private InstanceProducer instanceProducer;
 
+    private final Map<Class<? extends AttributeConverter>, AttributeConverter> converters = new ConcurrentHashMap<>();
+
+    private final Queue<CreationalContext<?>> contexts = new ConcurrentLinkedQueue<>();
+
     @Override
     public AttributeConverter get(Class<? extends AttributeConverter> converterClass) {
         Objects.requireNonNull(converterClass, "The converterClass is required");
-        return getInstance(converterClass);
+        AttributeConverter converter = converters.get(converterClass);
+        if (converter == null) {
+            converter = converters.computeIfAbsent(converterClass, this::getInstance);
+        }
+        return converter;
+    }
+
+    @PreDestroy
+    void destroy() {
+        converters.clear();
+        CreationalContext<?> context;
+        while ((context = contexts.poll()) != null) {
+            context.release();
+        }
     }
 
     private <T> T getInstance(Class<T> clazz) {
@@ -46,6 +70,7 @@ class DefaultConverters implements Converters {
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
+            contexts.add(ctx);
             return (T) beanManager.getReference(bean, clazz, ctx);
         } else {
             return instanceProducer.create(clazz);
@@ -14,7 +14,11 @@
  */
 package org.jnosql.artemis;
 
+import org.jnosql.diana.api.CompletionStages;
+
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -23,6 +27,8 @@ import java.util.function.Consumer;
  * over entities of the repository. The mechanism strips the prefixes is defined by:
  * <p>findBy: to select any information T</p>
  * <p>deleteBy: To delete any information T</p>
+ * <p>The query methods receive a {@link Consumer} as the last parameter as callback or return a
+ * {@link CompletionStage} instead.</p>
  * Artemis has some keywords on method:
  * <p><b>And</b></p>
  * <p><b>Or</b></p>
@@ -99,5 +105,37 @@ public interface RepositoryAsync<T, K> {
      * @param callback the callback
      */
     void count(Consumer<Long> callback);
-}
 
+    /**
+     * Finds an entity given the id returning a {@link CompletionStage}
+     *
+     * @param id the id
+     * @return the stage with the entity found
+     * @throws NullPointerException when id is null
+     */
+    default CompletionStage<Optional<T>> findByIdStage(K id) {
+        Objects.requireNonNull(id, "id is required");
+        return CompletionStages.of(c -> findById(id, c));
+    }
+
+    /**
+     * Returns whether an entity with the given id exists as a {@link CompletionStage}
+     *
+     * @param id the id
+     * @return the stage with the result
+     * @throws NullPointerException when id is null
+     */
+    default CompletionStage<Boolean> existsByIdStage(K id) {
+        Objects.requireNonNull(id, "id is required");
+        return CompletionStages.of(c -> existsById(id, c));
+    }
+
+    /**
+     * Returns the number of entities available as a {@link CompletionStage}
+     *
+     * @return the stage with the number of entities
+     */
+    default CompletionStage<Long> countStage() {
+        return CompletionStages.of(this::count);
+    }
+}
@@ -15,16 +15,29 @@
 package org.jnosql.artemis.reflection;
 
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.Embeddable;
 import org.jnosql.artemis.Entity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import static java.util.stream.Collectors.toList;
 
 import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
 
@@ -32,14 +45,26 @@ import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
  * This extension will load all Classes and put in a map.
  * Where the key is {@link Class#getName()} and the value is {@link ClassMapping}
+ * The classes are collected while the types are processed and converted at the {@link AfterBeanDiscovery}
+ * in parallel, so the types added by other extensions during the type discovery are converted too.
+ * The number of threads is defined by the system property artemis.reflection.parallelism,
+ * by default it is the number of available processors.
  */
 @ApplicationScoped
 public class ClassMappingExtension implements Extension {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingExtension.class.getName());
+
+    private static final String PARALLELISM = "artemis.reflection.parallelism";
+
     private final Map<String, ClassMapping> mappings = new ConcurrentHashMap<>();
 
     private final Map<Class<?>, ClassMapping> classes = new ConcurrentHashMap<>();
 
+    private final Set<Class<?>> entities = ConcurrentHashMap.newKeySet();
+
+    private final Set<Class<?>> embeddables = ConcurrentHashMap.newKeySet();
+
     private final ClassConverter classConverter;
 
     {
@@ -56,16 +81,101 @@ public class ClassMappingExtension implements Extension {
 
         AnnotatedType<T> annotatedType = target.getAnnotatedType();
         if (annotatedType.isAnnotationPresent(Entity.class)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
-            mappings.put(classMapping.getName(), classMapping);
-            classes.put(javaClass, classMapping);
+            entities.add(annotatedType.getJavaClass());
         } else if (isSubElement(annotatedType)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
-            classes.put(javaClass, classMapping);
+            embeddables.add(annotatedType.getJavaClass());
+        }
+
+    }
+
+    /**
+     * Event observer that converts the classes found to {@link ClassMapping}
+     *
+     * @param afterBeanDiscovery the event
+     */
+    public void loadMappings(@Observes final AfterBeanDiscovery afterBeanDiscovery) {
+        long start = System.currentTimeMillis();
+
+        List<Class<?>> types = new ArrayList<>(entities);
+        types.addAll(embeddables);
+        types.sort(Comparator.comparing(Class::getName));
+
+        int parallelism = Math.max(1, Math.min(getParallelism(), types.size()));
+        List<ClassMapping> classMappings = create(types, parallelism);
+
+        for (int index = 0; index < types.size(); index++) {
+            Class<?> type = types.get(index);
+            ClassMapping classMapping = classMappings.get(index);
+            classes.put(type, classMapping);
+            if (entities.contains(type)) {
+                mappings.put(classMapping.getName(), classMapping);
+            }
         }
+        entities.clear();
+        embeddables.clear();
 
+        long end = System.currentTimeMillis() - start;
+        LOGGER.info(String.format("Scanned %d classes using %d threads with time %d ms",
+                types.size(), parallelism, end));
+    }
+
+    private List<ClassMapping> create(List<Class<?>> types, int parallelism) {
+        if (parallelism == 1) {
+            return types.stream().map(classConverter::create).collect(toList());
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<Callable<ClassMapping>> tasks = types.stream()
+                .<Callable<ClassMapping>>map(type -> () -> create(type, classLoader))
+                .collect(toList());
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ClassMapping> classMappings = new ArrayList<>(types.size());
+            for (Future<ClassMapping> future : pool.invokeAll(tasks)) {
+                classMappings.add(future.get());
+            }
+            return classMappings;
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new ArtemisException("The scanning of the entities was interrupted", exp);
+        } catch (ExecutionException exp) {
+            Throwable cause = exp.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ArtemisException("Error when tries to scan the entities", cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ClassMapping create(Class<?> type, ClassLoader classLoader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return classConverter.create(type);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private int getParallelism() {
+        String parallelism = System.getProperty(PARALLELISM);
+        if (parallelism == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            return Integer.parseInt(parallelism.trim());
+        } catch (NumberFormatException exp) {
+            LOGGER.warning(String.format("The value %s to %s is not a number, using the number of processors",
+                    parallelism, PARALLELISM));
+            return Runtime.getRuntime().availableProcessors();
+        }
     }
 
     private <T> boolean isSubElement(AnnotatedType<T> annotatedType) {
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import javax.tools.ToolProvider;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.function.Supplier;
@@ -26,6 +28,10 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private static final String DISABLE_COMPILER = "artemis.reclection.disableCompiler";
 
+    private static final String METHOD_HANDLE = "artemis.reflection.methodHandle";
+
+    private static final String CACHE_DIRECTORY = "artemis.reflection.cacheDirectory";
+
     private static final String LOG_MESSAGE = "It will use the compiler optimizations to access the class instead" +
             " of reflections. To disable it set artemis.reclection.disableCompiler as true.";
 
@@ -35,18 +41,36 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private final ClassOperation reflection = new ReflectionClassOperation(reflections);
 
-    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
-            .class.getClassLoader());
-
-    private final ClassOperation compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+    private final ClassOperation methodHandle = new MethodHandleClassOperation(reflection);
 
+    private volatile ClassOperation operation;
 
     public Reflections getReflections() {
         return reflections;
     }
 
+    /**
+     * Returns the {@link ClassOperation} created on the first call, so the compiler and the accessors it has
+     * already generated are shared by every caller.
+     *
+     * @return the {@link ClassOperation} instance
+     */
     @Override
     public ClassOperation get() {
+        ClassOperation current = operation;
+        if (current == null) {
+            synchronized (this) {
+                current = operation;
+                if (current == null) {
+                    current = create();
+                    operation = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private ClassOperation create() {
 
         LOGGER.info("Logging the operation factory");
         ServiceLoader<ClassOperation> serviceLoader = ServiceLoader.load(ClassOperation.class);
@@ -65,9 +89,36 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
                 LOGGER.fine(LOG_MESSAGE);
                 return reflection;
             }
-            return compiler;
+            if (Boolean.valueOf(System.getProperty(METHOD_HANDLE))) {
+                LOGGER.info("Using the method handle operation, " + METHOD_HANDLE + " is true");
+                return methodHandle;
+            }
+            if (!isCompilerAvailable()) {
+                LOGGER.info("There is not a Java compiler available, using the method handle operation");
+                return methodHandle;
+            }
+            JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory.class.getClassLoader(),
+                    getCache());
+            return new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
         }
 
 
     }
+
+    private JavaCompilerCache getCache() {
+        String directory = System.getProperty(CACHE_DIRECTORY);
+        if (directory == null || directory.trim().isEmpty()) {
+            return null;
+        }
+        LOGGER.info("Using the directory " + directory + " as cache to the compiled accessors");
+        return new JavaCompilerCache(Paths.get(directory));
+    }
+
+    private boolean isCompilerAvailable() {
+        try {
+            return ToolProvider.getSystemJavaCompiler() != null;
+        } catch (LinkageError error) {
+            return false;
+        }
+    }
 }
@@ -18,6 +18,7 @@ package org.jnosql.artemis.reflection;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,6 +39,8 @@ class DefaultClassMappings implements ClassMappings {
 
     private Map<String, ClassMapping> findByClassName;
 
+    private Map<String, ClassMapping> findByName;
+
 
     @Inject
     private ClassConverter classConverter;
@@ -51,6 +54,7 @@ class DefaultClassMappings implements ClassMappings {
         classes = new ConcurrentHashMap<>();
         findBySimpleName = new ConcurrentHashMap<>();
         findByClassName = new ConcurrentHashMap<>();
+        findByName = new ConcurrentHashMap<>();
 
         classes.putAll(extension.getClasses());
         mappings.putAll(extension.getMappings());
@@ -58,6 +62,7 @@ class DefaultClassMappings implements ClassMappings {
             Class<?> entityClass = r.getClassInstance();
             findBySimpleName.put(entityClass.getSimpleName(), r);
             findByClassName.put(entityClass.getName(), r);
+            findByName.putIfAbsent(normalize(r.getName()), r);
         });
     }
 
@@ -66,6 +71,7 @@ class DefaultClassMappings implements ClassMappings {
         mappings.put(classEntity.getName(), classMapping);
         findBySimpleName.put(classEntity.getSimpleName(), classMapping);
         findByClassName.put(classEntity.getName(), classMapping);
+        findByName.put(normalize(classMapping.getName()), classMapping);
     }
 
     @Override
@@ -81,10 +87,12 @@ class DefaultClassMappings implements ClassMappings {
 
     @Override
     public ClassMapping findByName(String name) {
-        return mappings.keySet().stream()
-                .map(k -> mappings.get(k))
-                .filter(r -> r.getName().equalsIgnoreCase(name)).findFirst()
-                .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
+        Objects.requireNonNull(name, "name is required");
+        ClassMapping classMapping = findByName.get(normalize(name));
+        if (classMapping == null) {
+            throw new ClassInformationNotFoundException("There is not entity found with the name: " + name);
+        }
+        return classMapping;
     }
 
     @Override
@@ -99,6 +107,10 @@ class DefaultClassMappings implements ClassMappings {
         return Optional.ofNullable(findByClassName.get(name));
     }
 
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
     @Override
     public String toString() {
         return  "DefaultClassMappings{" + "mappings-size=" + mappings.size() +
@@ -16,10 +16,12 @@ package org.jnosql.artemis.reflection;
 
 
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.diana.api.CompletionStages;
 
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -57,7 +59,14 @@ public final class DynamicAsyncQueryMethodReturn<T> implements MethodDynamicExec
     public Object execute() {
         String value = RepositoryReflectionUtils.INSTANCE.getQuery(method);
         Map<String, Object> params = RepositoryReflectionUtils.INSTANCE.getParams(method, args);
-        Consumer<List<T>> consumer = getConsumer(args);
+        if (CompletionStage.class.equals(method.getReturnType())) {
+            return CompletionStages.<List<T>>of(c -> execute(value, params, c));
+        }
+        execute(value, params, getConsumer(args));
+        return Void.class;
+    }
+
+    private void execute(String value, Map<String, Object> params, Consumer<List<T>> consumer) {
         if (params.isEmpty()) {
             asyncConsumer.accept(value, consumer);
         } else {
@@ -65,7 +74,6 @@ public final class DynamicAsyncQueryMethodReturn<T> implements MethodDynamicExec
             params.forEach(prepare::bind);
             prepare.getResultList(consumer);
         }
-        return Void.class;
     }
 
     private <T> Consumer<List<T>> getConsumer(Object[] args) {
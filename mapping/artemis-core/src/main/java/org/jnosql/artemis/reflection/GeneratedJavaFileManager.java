@@ -19,11 +19,15 @@ import javax.tools.ForwardingJavaFileManager;
 import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 final class GeneratedJavaFileManager extends ForwardingJavaFileManager<JavaFileManager> {
 
     private final JavaCompilerClassLoader classLoader;
 
+    private final Map<String, JavaCompiledStream> outputs = new LinkedHashMap<>();
+
     public GeneratedJavaFileManager(JavaFileManager fileManager, JavaCompilerClassLoader classLoader) {
         super(fileManager);
         this.classLoader = classLoader;
@@ -36,9 +40,21 @@ final class GeneratedJavaFileManager extends ForwardingJavaFileManager<JavaFileM
         }
         JavaCompiledStream fileObject = new JavaCompiledStream(qualifiedName);
         classLoader.addJavaFileObject(qualifiedName, fileObject);
+        outputs.put(qualifiedName, fileObject);
         return fileObject;
     }
 
+    /**
+     * Returns the bytecode of every class written by the compiler through this file manager
+     *
+     * @return the bytecode grouped by the class name
+     */
+    public Map<String, byte[]> getClassBytes() {
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        outputs.forEach((name, fileObject) -> classes.put(name, fileObject.getClassBytes()));
+        return classes;
+    }
+
     @Override
     public ClassLoader getClassLoader(Location location) {
         return classLoader;
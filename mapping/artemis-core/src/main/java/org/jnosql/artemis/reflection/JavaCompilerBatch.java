@@ -0,0 +1,122 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Compiles every accessor of a class in a single compilation task the first time one of them is requested,
+ * instead of starting the compiler once to each getter, setter and constructor.
+ * The sources that were not in that task, e.g. fields that are not mapped, are compiled on their own.
+ */
+final class JavaCompilerBatch {
+
+    private final ConcurrentMap<Class<?>, FutureTask<Map<String, Class<?>>>> classes = new ConcurrentHashMap<>();
+
+    private final JavaCompilerFacade compilerFacade;
+
+    private final Reflections reflections;
+
+    JavaCompilerBatch(JavaCompilerFacade compilerFacade, Reflections reflections) {
+        this.compilerFacade = compilerFacade;
+        this.reflections = reflections;
+    }
+
+    /**
+     * Returns the compiled class to the source, compiling all the accessors to the declaring class when it is
+     * the first source requested to it.
+     *
+     * @param declaringClass the class that the source accesses
+     * @param source         the source
+     * @param <T>            the source result type
+     * @return the compiled class otherwise {@link Optional#empty()} when it does not compile
+     */
+    <T> Optional<Class<? extends T>> apply(Class<?> declaringClass, JavaSource<T> source) {
+        Map<String, Class<?>> compiled = getCompiled(declaringClass);
+        Class<?> compiledClass = compiled.get(source.getName());
+        if (compiledClass == null) {
+            return compilerFacade.apply(source);
+        }
+        return Optional.of((Class<? extends T>) compiledClass);
+    }
+
+    /**
+     * Compiles the accessors to the declaring class outside of the map, so the compilation does not hold a lock
+     * of the map, and the other requests to the same class wait for that compilation.
+     */
+    private Map<String, Class<?>> getCompiled(Class<?> declaringClass) {
+        FutureTask<Map<String, Class<?>>> task = classes.get(declaringClass);
+        if (task == null) {
+            FutureTask<Map<String, Class<?>>> newTask = new FutureTask<>(() -> compile(declaringClass));
+            task = classes.putIfAbsent(declaringClass, newTask);
+            if (task == null) {
+                task = newTask;
+                newTask.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyMap();
+        } catch (ExecutionException exp) {
+            classes.remove(declaringClass, task);
+            Throwable cause = exp.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompilerAccessException(cause.getMessage(), cause);
+        }
+    }
+
+    private Map<String, Class<?>> compile(Class<?> declaringClass) {
+        List<JavaSource<?>> sources = new ArrayList<>();
+        for (Field field : reflections.getFields(declaringClass)) {
+            if (declaringClass.equals(field.getDeclaringClass())) {
+                JavaCompilerFieldReaderFactory.source(field).ifPresent(sources::add);
+                JavaCompilerFieldWriterFactory.source(field).ifPresent(sources::add);
+            }
+        }
+        if (hasPublicDefaultConstructor(declaringClass)) {
+            sources.add(JavaCompilerInstanceSupplierFactory.source(declaringClass));
+        }
+        return compilerFacade.apply(declaringClass, sources);
+    }
+
+    private boolean hasPublicDefaultConstructor(Class<?> declaringClass) {
+        for (Constructor<?> constructor : declaringClass.getConstructors()) {
+            if (constructor.getParameterCount() == 0 && Modifier.isPublic(constructor.getModifiers())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A directory that keeps the bytecode generated by {@link JavaCompilerFacade}, so a new JVM loads it instead
+ * of compiling the same accessors again. Each entry is a sub directory named by a key that is a hash of
+ * the Java version, the bytecode of the declaring class and its superclasses but {@link Object},
+ * and the generated sources, thereby either a change in an entity or in a template creates a new entry.
+ * Any IO error is logged and works as a cache miss.
+ */
+final class JavaCompilerCache {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaCompilerCache.class.getName());
+
+    private static final String CLASS_EXTENSION = ".class";
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final int BUFFER = 1024;
+
+    private final Path directory;
+
+    JavaCompilerCache(Path directory) {
+        this.directory = requireNonNull(directory, "directory is required");
+    }
+
+    /**
+     * Creates the key to the sources that access the declaring class
+     *
+     * @param declaringClass the declaring class
+     * @param sources        the sources
+     * @return the key otherwise {@link Optional#empty()} when the bytecode of the declaring class
+     * or one of its superclasses is not available
+     */
+    Optional<String> getKey(Class<?> declaringClass, List<? extends JavaSource<?>> sources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+            digest.update(System.getProperty("java.specification.version").getBytes(StandardCharsets.UTF_8));
+            if (!update(digest, declaringClass)) {
+                return Optional.empty();
+            }
+            for (Class<?> superClass = declaringClass.getSuperclass(); superClass != null
+                    && !Object.class.equals(superClass); superClass = superClass.getSuperclass()) {
+                if (!update(digest, superClass)) {
+                    return Optional.empty();
+                }
+            }
+            for (JavaSource<?> source : sources) {
+                digest.update(source.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(source.getJavaSource().getBytes(StandardCharsets.UTF_8));
+            }
+            return Optional.of(toHex(digest.digest()));
+        } catch (NoSuchAlgorithmException | IOException exp) {
+            LOGGER.log(Level.FINE, "It cannot create the cache key to the class " + declaringClass.getName(), exp);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the bytecode stored to the key
+     *
+     * @param key the key
+     * @return the bytecode grouped by the class name otherwise {@link Optional#empty()}
+     */
+    Optional<Map<String, byte[]>> get(String key) {
+        Path entry = directory.resolve(key);
+        if (!Files.isDirectory(entry)) {
+            return Optional.empty();
+        }
+        Map<String, byte[]> classes = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(entry, "*" + CLASS_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String name = fileName.substring(0, fileName.length() - CLASS_EXTENSION.length());
+                classes.put(name, Files.readAllBytes(file));
+            }
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINE, "It cannot read the cache entry " + entry, exp);
+            return Optional.empty();
+        }
+        if (classes.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(classes);
+    }
+
+    /**
+     * Stores the bytecode to the key. It writes a temporary directory that is moved to the key at the end,
+     * so a concurrent reader either sees the whole entry or nothing.
+     *
+     * @param key     the key
+     * @param classes the bytecode grouped by the class name
+     */
+    void put(String key, Map<String, byte[]> classes) {
+        Path entry = directory.resolve(key);
+        if (Files.isDirectory(entry)) {
+            return;
+        }
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempDirectory(directory, key);
+            for (Map.Entry<String, byte[]> clazz : classes.entrySet()) {
+                Files.write(temporary.resolve(clazz.getKey() + CLASS_EXTENSION), clazz.getValue());
+            }
+            Files.move(temporary, entry, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException exp) {
+            LOGGER.log(Level.FINEST, "The cache entry " + entry + " was stored by another process", exp);
+            delete(temporary);
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINE, "It cannot write the cache entry " + entry, exp);
+            delete(temporary);
+        }
+    }
+
+    private boolean update(MessageDigest digest, Class<?> clazz) throws IOException {
+        String resource = '/' + clazz.getName().replace('.', '/') + CLASS_EXTENSION;
+        try (InputStream stream = clazz.getResourceAsStream(resource)) {
+            if (stream == null) {
+                return false;
+            }
+            byte[] data = new byte[BUFFER];
+            int read;
+            while ((read = stream.read(data, 0, data.length)) != -1) {
+                digest.update(data, 0, read);
+            }
+            return true;
+        }
+    }
+
+    private void delete(Path temporary) {
+        if (temporary == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(temporary)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException exp) {
+            LOGGER.log(Level.FINEST, "It cannot delete the temporary directory " + temporary, exp);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16))
+                    .append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
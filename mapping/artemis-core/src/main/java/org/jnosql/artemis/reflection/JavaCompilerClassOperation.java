@@ -24,11 +24,12 @@ final class JavaCompilerClassOperation implements ClassOperation {
 
 
     JavaCompilerClassOperation(ClassOperation fallback, Reflections reflections, JavaCompilerFacade compilerFacade) {
-        this.instanceSupplierFactory = new JavaCompilerInstanceSupplierFactory(compilerFacade, reflections,
+        JavaCompilerBatch compilerBatch = new JavaCompilerBatch(compilerFacade, reflections);
+        this.instanceSupplierFactory = new JavaCompilerInstanceSupplierFactory(compilerBatch, reflections,
                 fallback.getInstanceSupplierFactory());
-        this.fieldWriterFactory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections,
+        this.fieldWriterFactory = new JavaCompilerFieldWriterFactory(compilerBatch, reflections,
                 fallback.getFieldWriterFactory());
-        this.fieldReaderFactory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections,
+        this.fieldReaderFactory = new JavaCompilerFieldReaderFactory(compilerBatch, reflections,
                 fallback.getFieldReaderFactory());
     }
 
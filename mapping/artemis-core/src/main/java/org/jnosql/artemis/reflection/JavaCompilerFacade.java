@@ -22,7 +22,12 @@ import javax.tools.JavaFileManager;
 import javax.tools.ToolProvider;
 import java.io.IOException;
 import java.security.PrivilegedAction;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,19 +47,32 @@ final class JavaCompilerFacade {
     private final JavaCompilerClassLoader classLoader;
     private final JavaCompiler compiler;
     private final DiagnosticCollector<javax.tools.JavaFileObject> diagnosticCollector;
+    private final JavaCompilerCache cache;
 
     public JavaCompilerFacade(ClassLoader loader) {
+        this(loader, null);
+    }
+
+    /**
+     * Creates a facade that keeps the bytecode of the classes compiled together in the cache
+     *
+     * @param loader the parent class loader
+     * @param cache  the cache, it might be null
+     */
+    public JavaCompilerFacade(ClassLoader loader, JavaCompilerCache cache) {
         this.compiler = Optional.ofNullable(ToolProvider.getSystemJavaCompiler())
                 .orElseThrow(() -> new IllegalStateException("Cannot find the system Java compiler"));
 
         PrivilegedAction<JavaCompilerClassLoader> action = () -> new JavaCompilerClassLoader(loader);
         this.classLoader = doPrivileged(action);
         this.diagnosticCollector = new DiagnosticCollector<>();
+        this.cache = cache;
     }
 
     public <T> Optional<Class<? extends T>> apply(JavaSource<T> source) {
         try {
-            return Optional.of(compile(source));
+            Map<String, Class<?>> classes = compile(Collections.singletonList(source));
+            return Optional.of((Class<? extends T>) classes.get(source.getName()));
         } catch (CompilerAccessException exp) {
             if (LOGGER.isLoggable(Level.FINEST)) {
                 LOGGER.log(Level.FINEST, "Error when tries to optimizes the accessor", exp);
@@ -63,24 +81,112 @@ final class JavaCompilerFacade {
         }
     }
 
-    private synchronized <T> Class<? extends T> compile(JavaSource<T> source) {
-        JavaFileObject fileObject = new JavaFileObject(source.getSimpleName(), source.getJavaSource());
+    /**
+     * Compiles all the sources in a single compilation task. When it fails, it compiles each source on its own,
+     * so only the sources that don't compile are left out.
+     *
+     * @param sources the sources
+     * @return the classes compiled grouped by {@link JavaSource#getName()}
+     */
+    public Map<String, Class<?>> apply(List<? extends JavaSource<?>> sources) {
+        if (sources.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return compile(sources);
+        } catch (CompilerAccessException exp) {
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.log(Level.FINEST, "Error when tries to optimizes the accessors together, "
+                        + "compiling them one by one", exp);
+            }
+            Map<String, Class<?>> classes = new HashMap<>();
+            for (JavaSource<?> source : sources) {
+                apply(source).ifPresent(c -> classes.put(source.getName(), c));
+            }
+            return classes;
+        }
+    }
+
+    /**
+     * Compiles all the sources that access the declaring class in a single compilation task.
+     * When there is a cache, it loads the bytecode from it instead of compiling when the declaring class
+     * and the sources have not changed since they were stored.
+     *
+     * @param declaringClass the class that the sources access
+     * @param sources        the sources
+     * @return the classes compiled grouped by {@link JavaSource#getName()}
+     */
+    public Map<String, Class<?>> apply(Class<?> declaringClass, List<? extends JavaSource<?>> sources) {
+        if (cache == null || sources.isEmpty()) {
+            return apply(sources);
+        }
+        Optional<String> key = cache.getKey(declaringClass, sources);
+        if (!key.isPresent()) {
+            return apply(sources);
+        }
+        Optional<Map<String, byte[]>> cached = cache.get(key.get());
+        if (cached.isPresent()) {
+            try {
+                return load(cached.get(), sources);
+            } catch (CompilerAccessException | LinkageError exp) {
+                LOGGER.log(Level.FINE, "The cached accessors to the class " + declaringClass.getName()
+                        + " cannot be loaded, compiling them again", exp);
+            }
+        }
+        try {
+            Map<String, byte[]> classBytes = generate(sources);
+            Map<String, Class<?>> classes = load(classBytes, sources);
+            cache.put(key.get(), classBytes);
+            return classes;
+        } catch (CompilerAccessException exp) {
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.log(Level.FINEST, "Error when tries to optimizes the accessors together, "
+                        + "compiling them one by one", exp);
+            }
+            return apply(sources);
+        }
+    }
+
+    private synchronized Map<String, Class<?>> compile(List<? extends JavaSource<?>> sources) {
+        return load(generate(sources), sources);
+    }
+
+    private synchronized Map<String, Class<?>> load(Map<String, byte[]> classBytes,
+                                                    List<? extends JavaSource<?>> sources) {
+        classBytes.forEach((name, bytes) -> classLoader.addJavaFileObject(name, new JavaCompiledStream(name, bytes)));
+        Map<String, Class<?>> classes = new HashMap<>();
+        for (JavaSource<?> source : sources) {
+            classes.put(source.getName(), load(source));
+        }
+        return classes;
+    }
+
+    private synchronized Map<String, byte[]> generate(List<? extends JavaSource<?>> sources) {
+        Map<JavaFileObject, JavaSource<?>> fileObjects = new LinkedHashMap<>();
+        for (JavaSource<?> source : sources) {
+            fileObjects.put(new JavaFileObject(source.getSimpleName(), source.getJavaSource()), source);
+        }
 
         JavaFileManager standardFileManager = compiler.getStandardFileManager(diagnosticCollector, null, null);
 
         try (GeneratedJavaFileManager javaFileManager = new GeneratedJavaFileManager(standardFileManager, classLoader)) {
             CompilationTask task = compiler.getTask(null, javaFileManager, diagnosticCollector,
-                    null, null, Collections.singletonList(fileObject));
+                    null, null, fileObjects.keySet());
 
             if (!task.call()) {
-                return createCompilerErrorMessage(source);
+                throw createCompilerErrorMessage(fileObjects);
             }
+            return javaFileManager.getClassBytes();
         } catch (IOException e) {
-            throw new CompilerAccessException("The generated class (" + source.getSimpleName() + ") failed to compile because the "
-                    + JavaFileManager.class.getSimpleName() + " didn't close.", e);
+            throw new CompilerAccessException("The generated classes (" + getSimpleNames(sources)
+                    + ") failed to compile because the " + JavaFileManager.class.getSimpleName()
+                    + " didn't close.", e);
         }
+    }
+
+    private Class<?> load(JavaSource<?> source) {
         try {
-            Class<T> compiledClass = (Class<T>) classLoader.loadClass(source.getName());
+            Class<?> compiledClass = classLoader.loadClass(source.getName());
             if (!source.getType().isAssignableFrom(compiledClass)) {
                 throw new CompilerAccessException("The generated compiledClass (" + compiledClass
                         + ") cannot be assigned to the superclass/interface (" + source.getType() + ").");
@@ -90,20 +196,27 @@ final class JavaCompilerFacade {
             throw new CompilerAccessException("The generated class (" + source.getSimpleName()
                     + ") compiled, but failed to load.", e);
         }
-
     }
 
-    private <T> Class<? extends T> createCompilerErrorMessage(JavaSource<T> source) {
+    private CompilerAccessException createCompilerErrorMessage(Map<JavaFileObject, JavaSource<?>> fileObjects) {
         String compilationMessages = diagnosticCollector.getDiagnostics().stream()
                 .map(d -> d.getKind() + ":[" + d.getLineNumber() + "," + d.getColumnNumber() + "] "
                         + d.getMessage(null)
-                        + "\n        " + (d
-                        .getLineNumber() <= 0 ? "" : BREAK_LINE.splitAsStream(source.getJavaSource())
-                        .skip(d.getLineNumber() - 1).findFirst().orElse("")))
+                        + "\n        " + getLine(fileObjects.get(d.getSource()), d.getLineNumber()))
                 .collect(Collectors.joining("\n"));
-        throw new CompilerAccessException("The generated class (" + source.getSimpleName() + ") failed to compile.\n"
-                + compilationMessages);
+        return new CompilerAccessException("The generated classes (" + getSimpleNames(fileObjects.values())
+                + ") failed to compile.\n" + compilationMessages);
     }
 
+    private String getLine(JavaSource<?> source, long lineNumber) {
+        if (source == null || lineNumber <= 0) {
+            return "";
+        }
+        return BREAK_LINE.splitAsStream(source.getJavaSource()).skip(lineNumber - 1).findFirst().orElse("");
+    }
+
+    private String getSimpleNames(Collection<? extends JavaSource<?>> sources) {
+        return sources.stream().map(JavaSource::getSimpleName).collect(Collectors.joining(", "));
+    }
 
 }
\ No newline at end of file
@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,14 +35,14 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
 
     private static final String TEMPLATE = TemplateReader.INSTANCE.apply(TEMPLATE_FILE);
 
-    private final JavaCompilerFacade compilerFacade;
+    private final JavaCompilerBatch compilerBatch;
 
     private final Reflections reflections;
 
     private final FieldReaderFactory fallback;
 
-    JavaCompilerFieldReaderFactory(JavaCompilerFacade compilerFacade, Reflections reflections, FieldReaderFactory fallback) {
-        this.compilerFacade = compilerFacade;
+    JavaCompilerFieldReaderFactory(JavaCompilerBatch compilerBatch, Reflections reflections, FieldReaderFactory fallback) {
+        this.compilerBatch = compilerBatch;
         this.reflections = reflections;
         this.fallback = fallback;
     }
@@ -53,28 +52,34 @@ final class JavaCompilerFieldReaderFactory implements FieldReaderFactory {
     public FieldReader apply(Field field) {
 
         Class<?> declaringClass = field.getDeclaringClass();
-        Optional<String> methodName = getMethodName(declaringClass, field);
 
-        return methodName.map(compile(declaringClass))
+        return source(field)
+                .flatMap(s -> compilerBatch.apply(declaringClass, s))
+                .<FieldReader>map(reflections::newInstance)
                 .orElseGet(() -> fallback.apply(field));
 
     }
 
-    private Function<String, FieldReader> compile(Class<?> declaringClass) {
-        return method -> {
+    /**
+     * Creates the source code to the {@link FieldReader} when the field has a public getter
+     *
+     * @param field the field
+     * @return the source code otherwise {@link Optional#empty()}
+     */
+    static Optional<JavaSource<FieldReader>> source(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        return getMethodName(declaringClass, field).map(method -> {
             String packageName = declaringClass.getPackage().getName();
 
             String simpleName = declaringClass.getSimpleName() + "$" + method;
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$" + method;
             String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance, method);
-            FieldReaderJavaSource source = new FieldReaderJavaSource(name, simpleName, javaSource);
-            Optional<Class<? extends FieldReader>> reader = compilerFacade.apply(source);
-            return reader.map(reflections::newInstance).orElse(null);
-        };
+            return new FieldReaderJavaSource(name, simpleName, javaSource);
+        });
     }
 
-    private Optional<String> getMethodName(Class<?> declaringClass, Field field) {
+    private static Optional<String> getMethodName(Class<?> declaringClass, Field field) {
         try {
             Method readMethod = new PropertyDescriptor(field.getName(), declaringClass).getReadMethod();
             if (Modifier.isPublic(readMethod.getModifiers())) {
@@ -19,7 +19,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,14 +35,14 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
 
     private static final String TEMPLATE = TemplateReader.INSTANCE.apply(TEMPLATE_FILE);
 
-    private final JavaCompilerFacade compilerFacade;
+    private final JavaCompilerBatch compilerBatch;
 
     private final Reflections reflections;
 
     private final FieldWriterFactory fallback;
 
-    JavaCompilerFieldWriterFactory(JavaCompilerFacade compilerFacade, Reflections reflections, FieldWriterFactory fallback) {
-        this.compilerFacade = compilerFacade;
+    JavaCompilerFieldWriterFactory(JavaCompilerBatch compilerBatch, Reflections reflections, FieldWriterFactory fallback) {
+        this.compilerBatch = compilerBatch;
         this.reflections = reflections;
         this.fallback = fallback;
     }
@@ -53,29 +52,35 @@ final class JavaCompilerFieldWriterFactory implements FieldWriterFactory {
     public FieldWriter apply(Field field) {
 
         Class<?> declaringClass = field.getDeclaringClass();
-        Optional<String> methodName = getMethodName(declaringClass, field);
 
-        return methodName.map(compile(declaringClass, field.getType()))
+        return source(field)
+                .flatMap(s -> compilerBatch.apply(declaringClass, s))
+                .<FieldWriter>map(reflections::newInstance)
                 .orElseGet(() -> fallback.apply(field));
     }
 
-    private Function<String, FieldWriter> compile(Class<?> declaringClass, Class<?> type) {
-        return method -> {
+    /**
+     * Creates the source code to the {@link FieldWriter} when the field has a public setter
+     *
+     * @param field the field
+     * @return the source code otherwise {@link Optional#empty()}
+     */
+    static Optional<JavaSource<FieldWriter>> source(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        return getMethodName(declaringClass, field).map(method -> {
             String packageName = declaringClass.getPackage().getName();
             String simpleName = declaringClass.getSimpleName() + "$" + method;
             String newInstance = declaringClass.getName();
             String name = declaringClass.getName() + "$" + method;
-            String typeCast = type.getName();
+            String typeCast = field.getType().getName();
             String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName,
                     newInstance, method, typeCast);
 
-            FieldWriterJavaSource source = new FieldWriterJavaSource(name, simpleName, javaSource);
-            Optional<Class<? extends FieldWriter>> reader =  compilerFacade.apply(source);
-            return reader.map(reflections::newInstance).orElse(null);
-        };
+            return new FieldWriterJavaSource(name, simpleName, javaSource);
+        });
     }
 
-    private Optional<String> getMethodName(Class<?> declaringClass, Field field) {
+    private static Optional<String> getMethodName(Class<?> declaringClass, Field field) {
         try {
             Method writeMethod = new PropertyDescriptor(field.getName(), declaringClass).getWriteMethod();
             if (Modifier.isPublic(writeMethod.getModifiers())) {
@@ -30,14 +30,14 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
 
     private static final String TEMPLATE = TemplateReader.INSTANCE.apply(TEMPLATE_FILE);
 
-    private final JavaCompilerFacade compilerFacade;
+    private final JavaCompilerBatch compilerBatch;
 
     private final Reflections reflections;
 
     private final InstanceSupplierFactory fallback;
 
-    JavaCompilerInstanceSupplierFactory(JavaCompilerFacade compilerFacade, Reflections reflections, InstanceSupplierFactory fallback) {
-        this.compilerFacade = compilerFacade;
+    JavaCompilerInstanceSupplierFactory(JavaCompilerBatch compilerBatch, Reflections reflections, InstanceSupplierFactory fallback) {
+        this.compilerBatch = compilerBatch;
         this.reflections = reflections;
         this.fallback = fallback;
     }
@@ -46,14 +46,8 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
     public InstanceSupplier apply(Constructor<?> constructor) {
         Class<?> declaringClass = constructor.getDeclaringClass();
         if (Modifier.isPublic(constructor.getModifiers())) {
-            String packageName = declaringClass.getPackage().getName();
-            String simpleName = declaringClass.getSimpleName() + "$InstanceSupplier";
-            String newInstance = declaringClass.getName();
-            String name = declaringClass.getName() + "$InstanceSupplier";
-            String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance);
-            InstanceJavaSource source = new InstanceJavaSource(name, simpleName, javaSource);
-            Optional<Class<? extends InstanceSupplier>> supplier = compilerFacade.apply(source);
-            Optional<InstanceSupplier> instanceSupplier = supplier.map(reflections::newInstance);
+            Optional<InstanceSupplier> instanceSupplier = compilerBatch.apply(declaringClass, source(declaringClass))
+                    .map(reflections::newInstance);
             return instanceSupplier.orElseGet(() -> fallback.apply(constructor));
 
         }
@@ -63,6 +57,21 @@ final class JavaCompilerInstanceSupplierFactory implements InstanceSupplierFacto
         return fallback.apply(constructor);
     }
 
+    /**
+     * Creates the source code to the {@link InstanceSupplier} that uses the public default constructor
+     *
+     * @param declaringClass the class to be instantiated
+     * @return the source code
+     */
+    static JavaSource<InstanceSupplier> source(Class<?> declaringClass) {
+        String packageName = declaringClass.getPackage().getName();
+        String simpleName = declaringClass.getSimpleName() + "$InstanceSupplier";
+        String newInstance = declaringClass.getName();
+        String name = declaringClass.getName() + "$InstanceSupplier";
+        String javaSource = StringFormatter.INSTANCE.format(TEMPLATE, packageName, simpleName, newInstance);
+        return new InstanceJavaSource(name, simpleName, javaSource);
+    }
+
     private static final class InstanceJavaSource implements JavaSource<InstanceSupplier> {
 
         private final String name;
@@ -0,0 +1,114 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldReaderFactory} implementation that uses the getter accessor through a lambda created by
+ * {@link java.lang.invoke.LambdaMetafactory}, otherwise a {@link MethodHandle} to the field, and it will use a
+ * fallback by reflection when the field is not accessible.
+ */
+final class MethodHandleFieldReaderFactory implements FieldReaderFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldReaderFactory.class.getName());
+
+    private static final MethodType SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandleLambdas LAMBDAS = MethodHandleLambdas.INSTANCE;
+
+    private final FieldReaderFactory fallback;
+
+    MethodHandleFieldReaderFactory(FieldReaderFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldReader apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        Optional<FieldReader> reader = getter(field);
+        if (!reader.isPresent()) {
+            reader = fieldHandle(field);
+        }
+        return reader.orElseGet(() -> fallback.apply(field));
+    }
+
+    private Optional<FieldReader> getter(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!LAMBDAS.isLambdaCapable(declaringClass)) {
+            return Optional.empty();
+        }
+        try {
+            Method readMethod = new PropertyDescriptor(field.getName(), declaringClass).getReadMethod();
+            if (readMethod != null && Modifier.isPublic(readMethod.getModifiers())) {
+                MethodHandle handle = LAMBDAS.getLookup().unreflect(readMethod);
+                return LAMBDAS.lambda(FieldReader.class, "read", SAM_TYPE, handle,
+                        MethodType.methodType(Object.class, declaringClass));
+            }
+        } catch (Exception exception) {
+            LOGGER.log(Level.FINE, "A getter method does not exist to the field: " + field.getName()
+                    + " within class " + declaringClass.getName() + " using the field handle", exception);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<FieldReader> fieldHandle(Field field) {
+        try {
+            MethodHandle handle = LAMBDAS.getLookup().unreflectGetter(field).asType(SAM_TYPE);
+            return Optional.of(new MethodHandleFieldReader(handle, field));
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINE, "The field " + field.getName() + " within class "
+                    + field.getDeclaringClass().getName() + " is not accessible, using the fallback with reflection",
+                    exception);
+            return Optional.empty();
+        }
+    }
+
+    private static final class MethodHandleFieldReader implements FieldReader {
+
+        private final MethodHandle handle;
+
+        private final Field field;
+
+        private MethodHandleFieldReader(MethodHandle handle, Field field) {
+            this.handle = handle;
+            this.field = field;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new ArtemisException("Error when reads the field " + field.getName(), throwable);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldWriterFactory} implementation that uses the setter accessor through a lambda created by
+ * {@link java.lang.invoke.LambdaMetafactory}, otherwise a {@link MethodHandle} to the field, and it will use a
+ * fallback by reflection when the field is either not accessible or final.
+ */
+final class MethodHandleFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldWriterFactory.class.getName());
+
+    private static final MethodType SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandleLambdas LAMBDAS = MethodHandleLambdas.INSTANCE;
+
+    private final FieldWriterFactory fallback;
+
+    MethodHandleFieldWriterFactory(FieldWriterFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        Optional<FieldWriter> writer = setter(field);
+        if (!writer.isPresent()) {
+            writer = fieldHandle(field);
+        }
+        return writer.orElseGet(() -> fallback.apply(field));
+    }
+
+    private Optional<FieldWriter> setter(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!LAMBDAS.isLambdaCapable(declaringClass)) {
+            return Optional.empty();
+        }
+        try {
+            Method writeMethod = new PropertyDescriptor(field.getName(), declaringClass).getWriteMethod();
+            if (writeMethod != null && Modifier.isPublic(writeMethod.getModifiers())) {
+                MethodHandle handle = LAMBDAS.getLookup().unreflect(writeMethod);
+                Class<?> parameter = LAMBDAS.wrap(writeMethod.getParameterTypes()[0]);
+                return LAMBDAS.lambda(FieldWriter.class, "write", SAM_TYPE, handle,
+                        MethodType.methodType(void.class, declaringClass, parameter));
+            }
+        } catch (Exception exception) {
+            LOGGER.log(Level.FINE, "A setter method does not exist to the field: " + field.getName()
+                    + " within class " + declaringClass.getName() + " using the field handle", exception);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<FieldWriter> fieldHandle(Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandle handle = LAMBDAS.getLookup().unreflectSetter(field).asType(SAM_TYPE);
+            return Optional.of(new MethodHandleFieldWriter(handle, field));
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINE, "The field " + field.getName() + " within class "
+                    + field.getDeclaringClass().getName() + " is not accessible, using the fallback with reflection",
+                    exception);
+            return Optional.empty();
+        }
+    }
+
+    private static final class MethodHandleFieldWriter implements FieldWriter {
+
+        private final MethodHandle handle;
+
+        private final Field field;
+
+        private MethodHandleFieldWriter(MethodHandle handle, Field field) {
+            this.handle = handle;
+            this.field = field;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new ArtemisException("Error when writes the field " + field.getName(), throwable);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that calls the constructor through a lambda created by
+ * {@link java.lang.invoke.LambdaMetafactory} when it is public, otherwise through a {@link MethodHandle}, and it will
+ * use a fallback by reflection when the constructor is not accessible.
+ */
+final class MethodHandleInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInstanceSupplierFactory.class.getName());
+
+    private static final MethodType SAM_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodHandleLambdas LAMBDAS = MethodHandleLambdas.INSTANCE;
+
+    private final InstanceSupplierFactory fallback;
+
+    MethodHandleInstanceSupplierFactory(InstanceSupplierFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        try {
+            MethodHandle handle = LAMBDAS.getLookup().unreflectConstructor(constructor);
+            Optional<InstanceSupplier> supplier = Optional.empty();
+            if (Modifier.isPublic(constructor.getModifiers()) && LAMBDAS.isLambdaCapable(declaringClass)) {
+                supplier = LAMBDAS.lambda(InstanceSupplier.class, "get", SAM_TYPE, handle,
+                        MethodType.methodType(declaringClass));
+            }
+            return supplier.orElseGet(() -> new MethodHandleInstanceSupplier(handle.asType(SAM_TYPE),
+                    declaringClass));
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINE, "The constructor to the class " + declaringClass.getName()
+                    + " is not accessible, using the fallback with reflection", exception);
+            return fallback.apply(constructor);
+        }
+    }
+
+    private static final class MethodHandleInstanceSupplier implements InstanceSupplier {
+
+        private final MethodHandle handle;
+
+        private final Class<?> type;
+
+        private MethodHandleInstanceSupplier(MethodHandle handle, Class<?> type) {
+            this.handle = handle;
+            this.type = type;
+        }
+
+        @Override
+        public Object get() {
+            try {
+                return (Object) handle.invokeExact();
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new ArtemisException("Error when creates an instance of " + type.getName(), throwable);
+            }
+        }
+    }
+}
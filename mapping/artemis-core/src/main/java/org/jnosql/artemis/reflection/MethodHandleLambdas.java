@@ -0,0 +1,97 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the accessors from {@link MethodHandle}, either spinning a lambda with {@link LambdaMetafactory}, that
+ * the JIT treats as a direct call, or wrapping the handle itself.
+ */
+enum MethodHandleLambdas {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleLambdas.class.getName());
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    MethodHandles.Lookup getLookup() {
+        return lookup;
+    }
+
+    /**
+     * Spins a lambda that implements the functional interface calling the implementation handle
+     *
+     * @param functional      the functional interface
+     * @param method          the functional method name
+     * @param samType         the erased signature of the functional method
+     * @param implementation  the handle to a method or constructor
+     * @param instantiated    the signature of the functional method to the implementation
+     * @param <T>             the functional type
+     * @return the lambda or {@link Optional#empty()} when it cannot be created
+     */
+    <T> Optional<T> lambda(Class<T> functional, String method, MethodType samType, MethodHandle implementation,
+                           MethodType instantiated) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, method, MethodType.methodType(functional),
+                    samType, implementation, instantiated);
+            return Optional.of(functional.cast(site.getTarget().invoke()));
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINE, "It cannot create a lambda to " + implementation, exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks if a lambda defined from this class can call the members of the type: the type and its enclosing
+     * types are public and visible from the class loader of Artemis.
+     *
+     * @param type the type
+     * @return true when a lambda can call the type directly
+     */
+    boolean isLambdaCapable(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodHandleLambdas.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the wrapper type to a primitive, otherwise the type itself
+     *
+     * @param type the type
+     * @return the wrapper type
+     */
+    Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+}
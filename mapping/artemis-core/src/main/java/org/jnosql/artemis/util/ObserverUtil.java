@@ -0,0 +1,64 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.util;
+
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+
+/**
+ * Utilitarian class to check, at startup, whether a CDI event has observers, so the event managers can skip
+ * building and firing the events that nobody listens to.
+ */
+public final class ObserverUtil {
+
+    private ObserverUtil() {
+    }
+
+    /**
+     * Checks if there is at least one observer method to the event type
+     *
+     * @param beanManager the bean manager
+     * @param event       the event interface
+     * @return true if there is an observer to the event type
+     * @throws NullPointerException     when either beanManager or event is null
+     * @throws IllegalArgumentException when event is not an interface
+     */
+    public static boolean hasObserver(BeanManager beanManager, Class<?> event) {
+        Objects.requireNonNull(beanManager, "beanManager is required");
+        Objects.requireNonNull(event, "event is required");
+        if (!event.isInterface()) {
+            throw new IllegalArgumentException("The event must be an interface: " + event.getName());
+        }
+        return !beanManager.resolveObserverMethods(probe(event)).isEmpty();
+    }
+
+    private static Object probe(Class<?> event) {
+        return Proxy.newProxyInstance(event.getClassLoader(), new Class<?>[]{event}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Probe of " + event.getName();
+                default:
+                    return null;
+            }
+        });
+    }
+}
@@ -47,4 +47,9 @@ class DefaultConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnTheSameInstance() {
+        Assertions.assertSame(converters.get(MyConverter.class), converters.get(MyConverter.class));
+        Assertions.assertSame(converters.get(VetedConverter.class), converters.get(VetedConverter.class));
+    }
+}
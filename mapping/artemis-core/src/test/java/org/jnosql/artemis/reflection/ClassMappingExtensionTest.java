@@ -0,0 +1,61 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+@ExtendWith(CDIExtension.class)
+class ClassMappingExtensionTest {
+
+    @Inject
+    private ClassMappingExtension extension;
+
+    @Test
+    public void shouldLoadEntities() {
+        ClassMapping person = extension.getClasses().get(Person.class);
+        Assertions.assertNotNull(person);
+        Assertions.assertSame(person, extension.getMappings().get(person.getName()));
+        Assertions.assertNotNull(extension.getClasses().get(Worker.class));
+    }
+
+    @Test
+    public void shouldLoadEmbeddableOnlyAsClass() {
+        ClassMapping job = extension.getClasses().get(Job.class);
+        Assertions.assertNotNull(job);
+        Assertions.assertFalse(extension.getMappings().values().contains(job));
+    }
+
+    @Test
+    public void shouldLoadTheSameMappingAsTheConverter() {
+        ClassConverter converter = new ClassConverter(new DefaultReflections());
+        ClassMapping expected = converter.create(Person.class);
+        ClassMapping person = extension.getClasses().get(Person.class);
+
+        Assertions.assertEquals(expected.getName(), person.getName());
+        Assertions.assertEquals(expected.getFieldsName(), person.getFieldsName());
+        Assertions.assertEquals(expected.getFieldsGroupByName().keySet(), person.getFieldsGroupByName().keySet());
+        Assertions.assertEquals(expected.getColumnField("phones"), person.getColumnField("phones"));
+    }
+}
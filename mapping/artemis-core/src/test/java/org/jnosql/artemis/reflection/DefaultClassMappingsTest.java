@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+
+@ExtendWith(CDIExtension.class)
+class DefaultClassMappingsTest {
+
+    @Inject
+    private ClassMappings mappings;
+
+    @Test
+    public void shouldFindByName() {
+        ClassMapping classMapping = mappings.findByName("movie");
+        Assertions.assertEquals(Movie.class, classMapping.getClassInstance());
+    }
+
+    @Test
+    public void shouldFindByNameIgnoringCase() {
+        Assertions.assertSame(mappings.findByName("Person"), mappings.findByName("PERSON"));
+        Assertions.assertEquals(Person.class, mappings.findByName("person").getClassInstance());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNotEntity() {
+        Assertions.assertThrows(ClassInformationNotFoundException.class, () -> mappings.findByName("not_found"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> mappings.findByName(null));
+    }
+}
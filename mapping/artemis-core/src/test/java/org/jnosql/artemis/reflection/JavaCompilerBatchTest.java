@@ -0,0 +1,143 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Address;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class JavaCompilerBatchTest {
+
+    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(
+            JavaCompilerBeanPropertyReaderFactory.class.getClassLoader());
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final JavaCompilerBatch compilerBatch = new JavaCompilerBatch(compilerFacade, reflections);
+
+    @Test
+    public void shouldCompileTheAccessorsTogether() throws NoSuchFieldException {
+        JavaSource<FieldReader> street = getReaderSource(Address.class.getDeclaredField("street"));
+        JavaSource<FieldReader> city = getReaderSource(Address.class.getDeclaredField("city"));
+        JavaSource<InstanceSupplier> supplier = JavaCompilerInstanceSupplierFactory.source(Address.class);
+
+        Class<? extends FieldReader> streetReader = compilerBatch.apply(Address.class, street).get();
+        Class<? extends FieldReader> cityReader = compilerBatch.apply(Address.class, city).get();
+        Class<? extends InstanceSupplier> instanceSupplier = compilerBatch.apply(Address.class, supplier).get();
+
+        Assertions.assertEquals(street.getName(), streetReader.getName());
+        Assertions.assertEquals(city.getName(), cityReader.getName());
+        Assertions.assertSame(cityReader, compilerBatch.apply(Address.class, city).get());
+        Assertions.assertTrue(reflections.newInstance(instanceSupplier).get() instanceof Address);
+    }
+
+    @Test
+    public void shouldCompileSourceOutOfTheBatch() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        JavaSource<FieldReader> bar = getReaderSource(Foo.class.getDeclaredField("bar"));
+
+        Optional<Class<? extends FieldReader>> reader = compilerBatch.apply(Foo.class, bar);
+
+        Assertions.assertTrue(reader.isPresent());
+        Assertions.assertEquals("bar", reflections.newInstance(reader.get()).read(foo));
+    }
+
+    @Test
+    public void shouldCompileEachSourceWhenOneFails() throws NoSuchFieldException {
+        JavaSource<FieldReader> bar = getReaderSource(Foo.class.getDeclaredField("bar"));
+        JavaSource<InstanceSupplier> invalid = new InvalidJavaSource();
+
+        Map<String, Class<?>> classes = compilerFacade.apply(Arrays.asList(bar, invalid));
+
+        Assertions.assertEquals(1, classes.size());
+        Assertions.assertNotNull(classes.get(bar.getName()));
+    }
+
+    @Test
+    public void shouldNotBlockOtherClassesWhileCompiling() throws Exception {
+        CountDownLatch compiling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Reflections blocking = Mockito.spy(new DefaultReflections());
+        Mockito.doAnswer(invocation -> {
+            compiling.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).when(blocking).getFields(Address.class);
+        JavaCompilerBatch batch = new JavaCompilerBatch(compilerFacade, blocking);
+        JavaSource<FieldReader> street = getReaderSource(Address.class.getDeclaredField("street"));
+        JavaSource<FieldReader> bar = getReaderSource(Foo.class.getDeclaredField("bar"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Class<? extends FieldReader>>> first = executor.submit(() ->
+                    batch.apply(Address.class, street));
+            Future<Optional<Class<? extends FieldReader>>> second = executor.submit(() ->
+                    batch.apply(Address.class, street));
+            Assertions.assertTrue(compiling.await(1, TimeUnit.MINUTES));
+
+            Assertions.assertTrue(batch.apply(Foo.class, bar).isPresent());
+            Assertions.assertFalse(first.isDone());
+
+            release.countDown();
+            Assertions.assertSame(first.get(1, TimeUnit.MINUTES).get(), second.get(1, TimeUnit.MINUTES).get());
+            Mockito.verify(blocking).getFields(Address.class);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private JavaSource<FieldReader> getReaderSource(Field field) {
+        return JavaCompilerFieldReaderFactory.source(field)
+                .orElseThrow(() -> new AssertionError("The field " + field.getName() + " has not a public getter"));
+    }
+
+    private static class InvalidJavaSource implements JavaSource<InstanceSupplier> {
+
+        @Override
+        public String getSimpleName() {
+            return "Invalid";
+        }
+
+        @Override
+        public String getName() {
+            return "org.jnosql.artemis.reflection.Invalid";
+        }
+
+        @Override
+        public String getJavaSource() {
+            return "package org.jnosql.artemis.reflection; public class Invalid implements InstanceSupplier {}";
+        }
+
+        @Override
+        public Class<InstanceSupplier> getType() {
+            return InstanceSupplier.class;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Address;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class JavaCompilerCacheTest {
+
+    private Path directory;
+
+    private JavaCompilerCache cache;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("artemis-cache");
+        cache = new JavaCompilerCache(directory);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenDirectoryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> new JavaCompilerCache(null));
+    }
+
+    @Test
+    public void shouldCreateTheSameKey() {
+        List<JavaSource<InstanceSupplier>> sources = getSources(Address.class);
+        Assertions.assertEquals(cache.getKey(Address.class, sources), cache.getKey(Address.class, sources));
+    }
+
+    @Test
+    public void shouldCreateDifferentKeyWhenSourceChanges() {
+        Optional<String> address = cache.getKey(Address.class, getSources(Address.class));
+        Optional<String> person = cache.getKey(Address.class, getSources(Person.class));
+        Assertions.assertTrue(address.isPresent());
+        Assertions.assertNotEquals(address, person);
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNotEntry() {
+        Assertions.assertFalse(cache.get("not_found").isPresent());
+    }
+
+    @Test
+    public void shouldPutAndGet() {
+        byte[] bytes = {1, 2, 3};
+        cache.put("key", Collections.singletonMap("org.jnosql.Sample$getName", bytes));
+
+        Map<String, byte[]> classes = cache.get("key").get();
+        Assertions.assertEquals(1, classes.size());
+        Assertions.assertArrayEquals(bytes, classes.get("org.jnosql.Sample$getName"));
+    }
+
+    @Test
+    public void shouldLoadTheClassesFromTheCache() throws IOException {
+        List<JavaSource<InstanceSupplier>> sources = getSources(Address.class);
+        String name = sources.get(0).getName();
+
+        JavaCompilerFacade compiler = new JavaCompilerFacade(JavaCompilerCacheTest.class.getClassLoader(), cache);
+        Class<?> compiled = compiler.apply(Address.class, sources).get(name);
+
+        JavaCompilerFacade loader = new JavaCompilerFacade(JavaCompilerCacheTest.class.getClassLoader(), cache);
+        Class<?> cached = loader.apply(Address.class, sources).get(name);
+
+        try (Stream<Path> entries = Files.list(directory)) {
+            Assertions.assertEquals(1L, entries.count());
+        }
+        Assertions.assertNotSame(compiled, cached);
+        Assertions.assertEquals(name, cached.getName());
+        Object instance = ((InstanceSupplier) new DefaultReflections().newInstance(cached)).get();
+        Assertions.assertTrue(instance instanceof Address);
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenTheSuperclassIsNotAvailable() throws ReflectiveOperationException {
+        HiddenParentClassLoader loader = new HiddenParentClassLoader(JavaCompilerCacheTest.class.getClassLoader());
+        Class<?> child = loader.loadClass(Child.class.getName());
+
+        Assertions.assertEquals(loader, child.getSuperclass().getClassLoader());
+        Assertions.assertFalse(cache.getKey(child, getSources(Address.class)).isPresent());
+        Assertions.assertTrue(cache.getKey(Child.class, getSources(Address.class)).isPresent());
+    }
+
+    private List<JavaSource<InstanceSupplier>> getSources(Class<?> entity) {
+        return Collections.singletonList(JavaCompilerInstanceSupplierFactory.source(entity));
+    }
+
+    public static class Parent {
+    }
+
+    public static class Child extends Parent {
+    }
+
+    /**
+     * Defines {@link Parent} and {@link Child} again, but hides the bytecode of {@link Parent}
+     */
+    private static class HiddenParentClassLoader extends ClassLoader {
+
+        private HiddenParentClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!Parent.class.getName().equals(name) && !Child.class.getName().equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    byte[] bytecode = read(toResource(name));
+                    clazz = defineClass(name, bytecode, 0, bytecode.length);
+                }
+                return clazz;
+            }
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (toResource(Parent.class.getName()).equals(name)) {
+                return null;
+            }
+            return super.getResourceAsStream(name);
+        }
+
+        private byte[] read(String resource) throws ClassNotFoundException {
+            try (InputStream stream = getParent().getResourceAsStream(resource)) {
+                ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    bytecode.write(buffer, 0, read);
+                }
+                return bytecode.toByteArray();
+            } catch (IOException exp) {
+                throw new ClassNotFoundException(resource, exp);
+            }
+        }
+
+        private static String toResource(String name) {
+            return name.replace('.', '/') + ".class";
+        }
+    }
+}
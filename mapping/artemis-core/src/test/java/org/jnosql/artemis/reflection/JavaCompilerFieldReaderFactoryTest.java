@@ -26,9 +26,11 @@ class JavaCompilerFieldReaderFactoryTest {
 
     private final Reflections reflections = new DefaultReflections();
 
+    private final JavaCompilerBatch compilerBatch = new JavaCompilerBatch(compilerFacade, reflections);
+
     private FieldReaderFactory fallback = new ReflectionFieldReaderFactory(reflections);
 
-    private FieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerFacade, reflections, fallback);
+    private FieldReaderFactory factory = new JavaCompilerFieldReaderFactory(compilerBatch, reflections, fallback);
 
 
     @Test
@@ -26,9 +26,11 @@ class JavaCompilerFieldWriterFactoryTest {
 
     private final Reflections reflections = new DefaultReflections();
 
+    private final JavaCompilerBatch compilerBatch = new JavaCompilerBatch(compilerFacade, reflections);
+
     private FieldWriterFactory fallback = new ReflectionFieldWriterFactory(reflections);
 
-    private FieldWriterFactory factory = new JavaCompilerFieldWriterFactory(compilerFacade, reflections, fallback);
+    private FieldWriterFactory factory = new JavaCompilerFieldWriterFactory(compilerBatch, reflections, fallback);
 
 
     @Test
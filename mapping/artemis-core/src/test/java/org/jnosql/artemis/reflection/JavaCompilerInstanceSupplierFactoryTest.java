@@ -26,11 +26,13 @@ class JavaCompilerInstanceSupplierFactoryTest {
 
     private final Reflections reflections = new DefaultReflections();
 
+    private final JavaCompilerBatch compilerBatch = new JavaCompilerBatch(compilerFacade, reflections);
+
     private InstanceSupplierFactory fallback = new ReflectionInstanceSupplierFactory(reflections);
 
     @Test
     public void shouldCreateInstanceSupplier() {
-        JavaCompilerInstanceSupplierFactory factory = new JavaCompilerInstanceSupplierFactory(compilerFacade, reflections, fallback);
+        JavaCompilerInstanceSupplierFactory factory = new JavaCompilerInstanceSupplierFactory(compilerBatch, reflections, fallback);
         InstanceSupplier instanceSupplier = factory.apply(Foo.class.getConstructors()[0]);
         Assertions.assertNotNull(instanceSupplier);
         Object value = instanceSupplier.get();
@@ -39,7 +41,7 @@ class JavaCompilerInstanceSupplierFactoryTest {
 
     @Test
     public void shouldUseFallbackWhenConstructorIsNotPublic() {
-        JavaCompilerInstanceSupplierFactory factory = new JavaCompilerInstanceSupplierFactory(compilerFacade, reflections, fallback);
+        JavaCompilerInstanceSupplierFactory factory = new JavaCompilerInstanceSupplierFactory(compilerBatch, reflections, fallback);
         Constructor<?> constructor = Faa.class.getDeclaredConstructors()[0];
         constructor.setAccessible(true);
 
@@ -0,0 +1,83 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+class MethodHandleFieldReaderFactoryTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private FieldReaderFactory fallback = new ReflectionFieldReaderFactory(reflections);
+
+    private FieldReaderFactory factory = new MethodHandleFieldReaderFactory(fallback);
+
+    @Test
+    public void shouldReturnErrorWhenFieldIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> factory.apply(null));
+    }
+
+    @Test
+    public void shouldCreateFieldReaderFromGetter() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        FieldReader fieldReader = factory.apply(Foo.class.getDeclaredField("bar"));
+        Assertions.assertTrue(fieldReader.getClass().isSynthetic());
+        Assertions.assertEquals("bar", fieldReader.read(foo));
+    }
+
+    @Test
+    public void shouldBoxPrimitiveGetter() throws NoSuchFieldException {
+        Counter counter = new Counter();
+        counter.setValue(10L);
+        FieldReader fieldReader = factory.apply(Counter.class.getDeclaredField("value"));
+        Assertions.assertTrue(fieldReader.getClass().isSynthetic());
+        Assertions.assertEquals(10L, fieldReader.read(counter));
+    }
+
+    @Test
+    public void shouldReadFieldWhenGetterIsNotPublic() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar3");
+        field.setAccessible(true);
+        FieldReader fieldReader = factory.apply(field);
+        Assertions.assertFalse(fieldReader.getClass().isSynthetic());
+        Assertions.assertEquals("bar3", fieldReader.read(foo));
+    }
+
+    @Test
+    public void shouldReadFieldWhenThereIsNotGetter() throws NoSuchFieldException {
+        Counter counter = new Counter();
+        FieldReader step = factory.apply(Counter.class.getDeclaredField("step"));
+        Field name = Counter.class.getDeclaredField("name");
+        name.setAccessible(true);
+        Assertions.assertEquals(1, step.read(counter));
+        Assertions.assertEquals("counter", factory.apply(name).read(counter));
+    }
+
+    @Test
+    public void shouldUseFallBackWhenFieldIsNotAccessible() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar2");
+        FieldReader fieldReader = factory.apply(field);
+        field.setAccessible(true);
+        Assertions.assertEquals("bar2", fieldReader.read(foo));
+    }
+}
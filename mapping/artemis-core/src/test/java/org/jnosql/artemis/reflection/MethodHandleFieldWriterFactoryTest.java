@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+class MethodHandleFieldWriterFactoryTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private FieldWriterFactory fallback = new ReflectionFieldWriterFactory(reflections);
+
+    private FieldWriterFactory factory = new MethodHandleFieldWriterFactory(fallback);
+
+    @Test
+    public void shouldReturnErrorWhenFieldIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> factory.apply(null));
+    }
+
+    @Test
+    public void shouldCreateFieldWriterFromSetter() throws NoSuchFieldException {
+        Foo foo = new Foo();
+        FieldWriter writer = factory.apply(Foo.class.getDeclaredField("bar"));
+        Assertions.assertTrue(writer.getClass().isSynthetic());
+        writer.write(foo, "bar");
+        Assertions.assertEquals("bar", foo.getBar());
+    }
+
+    @Test
+    public void shouldUnboxPrimitiveSetter() throws NoSuchFieldException {
+        Counter counter = new Counter();
+        FieldWriter writer = factory.apply(Counter.class.getDeclaredField("value"));
+        Assertions.assertTrue(writer.getClass().isSynthetic());
+        writer.write(counter, 10L);
+        Assertions.assertEquals(10L, counter.getValue());
+    }
+
+    @Test
+    public void shouldWriteFieldWhenSetterIsNotPublic() throws ReflectiveOperationException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredField("bar3");
+        field.setAccessible(true);
+        FieldWriter writer = factory.apply(field);
+        Assertions.assertFalse(writer.getClass().isSynthetic());
+        writer.write(foo, "update");
+        Assertions.assertEquals("update", field.get(foo));
+    }
+
+    @Test
+    public void shouldWriteFieldWhenThereIsNotSetter() throws NoSuchFieldException {
+        Counter counter = new Counter();
+        factory.apply(Counter.class.getDeclaredField("step")).write(counter, 2);
+        Assertions.assertEquals(2, counter.step);
+    }
+
+    @Test
+    public void shouldUseFallBackWhenFieldIsFinal() throws NoSuchFieldException {
+        Field field = Counter.class.getDeclaredField("name");
+        field.setAccessible(true);
+        FieldWriter reflection = (bean, value) -> { };
+        FieldWriter writer = new MethodHandleFieldWriterFactory(f -> reflection).apply(field);
+        Assertions.assertSame(reflection, writer);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.reflection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+
+class MethodHandleInstanceSupplierFactoryTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private InstanceSupplierFactory fallback = new ReflectionInstanceSupplierFactory(reflections);
+
+    private InstanceSupplierFactory factory = new MethodHandleInstanceSupplierFactory(fallback);
+
+    @Test
+    public void shouldReturnErrorWhenConstructorIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> factory.apply(null));
+    }
+
+    @Test
+    public void shouldCreateInstanceSupplier() {
+        InstanceSupplier instanceSupplier = factory.apply(Foo.class.getConstructors()[0]);
+        Assertions.assertTrue(instanceSupplier.getClass().isSynthetic());
+        Assertions.assertTrue(instanceSupplier.get() instanceof Foo);
+    }
+
+    @Test
+    public void shouldUseHandleWhenConstructorIsNotPublic() {
+        Constructor<?> constructor = Faa.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+
+        InstanceSupplier instanceSupplier = factory.apply(constructor);
+        Assertions.assertFalse(instanceSupplier.getClass().isSynthetic());
+        Assertions.assertTrue(instanceSupplier.get() instanceof Faa);
+    }
+
+    @Test
+    public void shouldUseFallbackWhenConstructorIsNotAccessible() throws NoSuchMethodException {
+        Constructor<Holder> constructor = Holder.class.getDeclaredConstructor();
+        InstanceSupplier reflection = () -> null;
+        InstanceSupplier instanceSupplier = new MethodHandleInstanceSupplierFactory(c -> reflection).apply(constructor);
+        Assertions.assertSame(reflection, instanceSupplier);
+    }
+
+    private static class Holder {
+
+        private Holder() {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.CDIExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(CDIExtension.class)
+public class ObserverUtilTest {
+
+    @Inject
+    private BeanManager beanManager;
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> ObserverUtil.hasObserver(null, ObservedEvent.class));
+        assertThrows(NullPointerException.class, () -> ObserverUtil.hasObserver(beanManager, null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenEventIsNotInterface() {
+        assertThrows(IllegalArgumentException.class, () -> ObserverUtil.hasObserver(beanManager, String.class));
+    }
+
+    @Test
+    public void shouldReturnTrueWhenThereIsObserver() {
+        assertTrue(ObserverUtil.hasObserver(beanManager, ObservedEvent.class));
+    }
+
+    @Test
+    public void shouldReturnFalseWhenThereIsNotObserver() {
+        assertFalse(ObserverUtil.hasObserver(beanManager, NotObservedEvent.class));
+    }
+
+    public interface ObservedEvent {
+    }
+
+    public interface NotObservedEvent {
+    }
+
+    public static class ObservedEventObserver {
+
+        void observe(@Observes ObservedEvent event) {
+        }
+    }
+}
@@ -14,12 +14,22 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.stream.Collectors.toSet;
+
 /**
  * The template method to {@link DocumentWorkflow}
  */
@@ -33,61 +43,92 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     @Override
     public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        DocumentEventPersistManager eventManager = getDocumentEventPersistManager();
+        DocumentEntityConverter converter = getConverter();
+
+        eventManager.firePreEntity(entity);
+        eventManager.firePreDocumentEntity(entity);
+        DocumentEntity document = converter.toDocument(entity);
+        eventManager.firePreDocument(document);
+
+        DocumentEntity documentUpdated = action.apply(document);
+
+        eventManager.firePostDocument(documentUpdated);
+        T entityUpdated = converter.toEntity(entity, documentUpdated);
+        eventManager.firePostEntity(entityUpdated);
+        eventManager.firePostDocumentEntity(entityUpdated);
+        return entityUpdated;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getDocumentEventPersistManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreDocumentEntity = t -> {
-            getDocumentEventPersistManager().firePreDocumentEntity(t);
-            return t;
-        };
-
-
-        Function<T, DocumentEntity> converterDocument = t -> getConverter().toDocument(t);
-
-        UnaryOperator<DocumentEntity> firePreDocument = t -> {
-            getDocumentEventPersistManager().firePreDocument(t);
-            return t;
-        };
-
-        UnaryOperator<DocumentEntity> firePostDocument = t -> {
-            getDocumentEventPersistManager().firePostDocument(t);
-            return t;
-        };
-
-        Function<DocumentEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getDocumentEventPersistManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostDocumentEntity = t -> {
-            getDocumentEventPersistManager().firePostDocumentEntity(t);
-            return t;
-        };
-
+    /**
+     * Converts and fires the events of the entities one chunk of {@link BulkOptions#getChunkSize()} at a time,
+     * so the database alteration runs once per chunk. The post events are fired to each entity that succeeded.
+     */
+    @Override
+    public <T> Iterable<T> flowAll(Iterable<T> entities, BulkOptions options,
+                                   Function<List<DocumentEntity>, BulkResult<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<T> entitiesUpdated = new ArrayList<>();
+        List<BulkFailure<T>> failures = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        int offset = 0;
+        Iterator<T> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            chunk.clear();
+            while (iterator.hasNext() && chunk.size() < options.getChunkSize()) {
+                chunk.add(Objects.requireNonNull(iterator.next(), "entity is required"));
+            }
+            flowChunk(chunk, offset, options, action, entitiesUpdated, failures);
+            offset += chunk.size();
+        }
+        if (!failures.isEmpty()) {
+            throw new BulkException("The bulk operation failed on " + failures.size() + " of " + offset
+                    + " entities", failures);
+        }
+        return entitiesUpdated;
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreDocumentEntity)
-                .andThen(converterDocument)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostDocumentEntity);
+    private <T> void flowChunk(List<T> chunk, int offset, BulkOptions options,
+                               Function<List<DocumentEntity>, BulkResult<DocumentEntity>> action,
+                               List<T> entitiesUpdated, List<BulkFailure<T>> failures) {
+        DocumentEventPersistManager eventManager = getDocumentEventPersistManager();
+        DocumentEntityConverter converter = getConverter();
+
+        List<DocumentEntity> documents = new ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            eventManager.firePreEntity(entity);
+            eventManager.firePreDocumentEntity(entity);
+            DocumentEntity document = converter.toDocument(entity);
+            eventManager.firePreDocument(document);
+            documents.add(document);
+        }
+
+        BulkResult<DocumentEntity> result = action.apply(documents);
+        Set<Integer> failed = result.getFailures().stream().map(BulkFailure::getIndex).collect(toSet());
+        Iterator<DocumentEntity> results = result.getResults().iterator();
+        for (int index = 0; index < chunk.size() && results.hasNext(); index++) {
+            if (failed.contains(index)) {
+                continue;
+            }
+            DocumentEntity document = results.next();
+            eventManager.firePostDocument(document);
+            T entity = converter.toEntity(chunk.get(index), document);
+            eventManager.firePostEntity(entity);
+            eventManager.firePostDocumentEntity(entity);
+            entitiesUpdated.add(entity);
+        }
+
+        for (BulkFailure<DocumentEntity> failure : result.getFailures()) {
+            if (options.isOrdered()) {
+                throw failure.getCause();
+            }
+            failures.add(BulkFailure.of(offset + failure.getIndex(), chunk.get(failure.getIndex()),
+                    failure.getCause()));
+        }
     }
 }
\ No newline at end of file
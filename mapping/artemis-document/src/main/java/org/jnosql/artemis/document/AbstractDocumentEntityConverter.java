@@ -24,13 +24,11 @@ import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -47,6 +45,8 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final boolean overridesFeedObject = overridesFeedObject(getClass());
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
@@ -97,28 +97,68 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
         final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
+        final Map<String, Document> documentsByName = groupByName(documents);
+        final Consumer<String> feedObject = overridesFeedObject
+                ? feedObject(instance, documents, fieldsGroupByName) : null;
+        fieldsGroupByName.forEach((name, field) -> {
+            Document document = documentsByName.get(name);
+            if (document == null && !isElementType(field)) {
+                return;
+            }
+            if (feedObject == null) {
+                feedField(instance, documents, Optional.ofNullable(document), field);
+            } else {
+                feedObject.accept(name);
+            }
+        });
+        return instance;
+    }
+
+    /**
+     * Returns a consumer that converts the field with the given name into the instance.
+     * The conversion indexes the documents by name once and calls this method only when a subclass overrides it.
+     *
+     * @param instance          the entity instance
+     * @param documents         the documents
+     * @param fieldsGroupByName the fields grouped by name
+     * @param <T>               the entity type
+     * @return the consumer of the field name
+     */
+    protected <T> Consumer<String> feedObject(T instance, List<Document> documents,
+                                              Map<String, FieldMapping> fieldsGroupByName) {
+        final Map<String, Document> documentsByName = groupByName(documents);
+        return k -> feedField(instance, documents, Optional.ofNullable(documentsByName.get(k)), fieldsGroupByName.get(k));
+    }
 
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
+    private <T> void feedField(T instance, List<Document> documents, Optional<Document> document, FieldMapping field) {
+        DocumentFieldConverter fieldConverter = converterFactory.get(field);
+        fieldConverter.convert(instance, documents, document, field, this);
+    }
 
-        return instance;
+    private static Map<String, Document> groupByName(List<Document> documents) {
+        Map<String, Document> documentsByName = new HashMap<>(documents.size() * 2);
+        for (Document document : documents) {
+            documentsByName.putIfAbsent(document.getName(), document);
+        }
+        return documentsByName;
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
-        return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
+    private static boolean overridesFeedObject(Class<?> converterClass) {
+        Class<?> type = converterClass;
+        while (!AbstractDocumentEntityConverter.class.equals(type)) {
+            try {
+                type.getDeclaredMethod("feedObject", Object.class, List.class, Map.class);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                type = type.getSuperclass();
+            }
+        }
+        return false;
+    }
 
-            FieldMapping field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field, this);
-        };
+    private static boolean isElementType(FieldMapping field) {
+        FieldType type = field.getType();
+        return EMBEDDED.equals(type) || SUBENTITY.equals(type);
     }
 
 
@@ -23,6 +23,7 @@ import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.BulkOptions;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
@@ -38,6 +39,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -93,12 +95,36 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     }
 
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        return insert(entities, BulkOptions.defaultOptions());
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, BulkOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return getWorkflow().flowAll(entities, options, e -> getManager().insert(e, options));
+    }
+
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is required");
         return getWorkflow().flow(entity, update);
     }
 
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        return update(entities, BulkOptions.defaultOptions());
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities, BulkOptions options) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(options, "options is required");
+        return getWorkflow().flowAll(entities, options, e -> getManager().update(e, options));
+    }
+
 
     @Override
     public void delete(DocumentDeleteQuery query) {
@@ -112,6 +138,14 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         return executeQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        return getManager().stream(query).map(function);
+    }
+
     @Override
     public <T> Page<T> select(DocumentQueryPagination query) {
         List<T> entities = executeQuery(query);
@@ -29,6 +29,8 @@ import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.DocumentQueryParserAsync;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
+import org.jnosql.diana.api.reactive.Publishers;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
@@ -137,6 +139,12 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         getManager().select(query, dianaCallBack);
     }
 
+    @Override
+    public <T> Publisher<T> selectPublisher(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.map(getManager().selectPublisher(query), e -> (T) getConverter().toEntity(e));
+    }
+
 
     @Override
     public <T, K> void find(Class<T> entityClass, K id, Consumer<Optional<T>> callBack) {
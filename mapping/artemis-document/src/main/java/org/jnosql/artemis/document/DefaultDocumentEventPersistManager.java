@@ -21,12 +21,17 @@ import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.ObserverUtil.hasObserver;
+
 /**
  * The default implementation of {@link DocumentEventPersistManager}
+ * The event types without observers are resolved once, at startup, and never fired.
  */
 @ApplicationScoped
 class DefaultDocumentEventPersistManager implements DocumentEventPersistManager {
@@ -55,43 +60,90 @@ class DefaultDocumentEventPersistManager implements DocumentEventPersistManager
     @Inject
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean documentEntityPrePersistObserved;
+
+    private boolean documentEntityPostPersistObserved;
+
+    private boolean entityPrePersistObserved;
+
+    private boolean entityPostPersitObserved;
+
+    private boolean entityDocumentPrePersistObserved;
+
+    private boolean entityDocumentPostPersistObserved;
+
+    private boolean documentQueryExecuteObserved;
+
+    private boolean documentDeleteQueryExecuteObserved;
+
+    @PostConstruct
+    void init() {
+        documentEntityPrePersistObserved = hasObserver(beanManager, DocumentEntityPrePersist.class);
+        documentEntityPostPersistObserved = hasObserver(beanManager, DocumentEntityPostPersist.class);
+        entityPrePersistObserved = hasObserver(beanManager, EntityPrePersist.class);
+        entityPostPersitObserved = hasObserver(beanManager, EntityPostPersit.class);
+        entityDocumentPrePersistObserved = hasObserver(beanManager, EntityDocumentPrePersist.class);
+        entityDocumentPostPersistObserved = hasObserver(beanManager, EntityDocumentPostPersist.class);
+        documentQueryExecuteObserved = hasObserver(beanManager, DocumentQueryExecute.class);
+        documentDeleteQueryExecuteObserved = hasObserver(beanManager, DocumentDeleteQueryExecute.class);
+    }
+
     @Override
     public void firePreDocument(DocumentEntity entity) {
-        documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        if (documentEntityPrePersistObserved) {
+            documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostDocument(DocumentEntity entity) {
-        documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        if (documentEntityPostPersistObserved) {
+            documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (entityPostPersitObserved) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreDocumentEntity(T entity) {
-        entityDocumentPrePersist.fire(EntityDocumentPrePersist.of(entity));
+        if (entityDocumentPrePersistObserved) {
+            entityDocumentPrePersist.fire(EntityDocumentPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostDocumentEntity(T entity) {
-        entityDocumentPostPersist.fire(EntityDocumentPostPersist.of(entity));
+        if (entityDocumentPostPersistObserved) {
+            entityDocumentPostPersist.fire(EntityDocumentPostPersist.of(entity));
+        }
     }
 
     @Override
     public void firePreQuery(DocumentQuery query) {
-        documentQueryExecute.fire(DocumentQueryExecute.of(query));
+        if (documentQueryExecuteObserved) {
+            documentQueryExecute.fire(DocumentQueryExecute.of(query));
+        }
     }
 
     @Override
     public void firePreDeleteQuery(DocumentDeleteQuery query) {
-        documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
+        if (documentDeleteQueryExecuteObserved) {
+            documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
+        }
     }
 }
@@ -17,6 +17,7 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.diana.api.BulkOptions;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
@@ -25,6 +26,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -72,6 +74,24 @@ public interface DocumentTemplate {
         return StreamSupport.stream(entities.spliterator(), false).map(this::insert).collect(toList());
     }
 
+    /**
+     * Saves entities as a bulk operation following the {@link BulkOptions}, by default it's just
+     * {@link DocumentTemplate#insert(Iterable)}, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param options  the bulk options
+     * @param <T>      the instance type
+     * @return the entities saved
+     * @throws NullPointerException               when either entities or options are null
+     * @throws org.jnosql.diana.api.BulkException when the bulk is unordered and at least one entity fails,
+     *                                            an ordered bulk stops at the first failure and throws its exception
+     */
+    default <T> Iterable<T> insert(Iterable<T> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return insert(entities);
+    }
+
     /**
      * Saves documents collection entity with time to live, by default it's just run for each saving using
      * {@link DocumentTemplate#insert(Object, Duration)},
@@ -114,6 +134,24 @@ public interface DocumentTemplate {
         return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(toList());
     }
 
+    /**
+     * Updates entities as a bulk operation following the {@link BulkOptions}, by default it's just
+     * {@link DocumentTemplate#update(Iterable)}, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be updated
+     * @param options  the bulk options
+     * @param <T>      the instance type
+     * @return the entities updated
+     * @throws NullPointerException               when either entities or options are null
+     * @throws org.jnosql.diana.api.BulkException when the bulk is unordered and at least one entity fails,
+     *                                            an ordered bulk stops at the first failure and throws its exception
+     */
+    default <T> Iterable<T> update(Iterable<T> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return update(entities);
+    }
+
     /**
      * Deletes an entity
      *
@@ -132,6 +170,21 @@ public interface DocumentTemplate {
      */
     <T> List<T> select(DocumentQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream}, the entities are converted while the stream is consumed,
+     * by default it's just the stream of {@link DocumentTemplate#select(DocumentQuery)}.
+     * The stream should be closed to release the resources held by the database cursor.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query as a lazy {@link Stream}
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> stream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.<T>select(query).stream();
+    }
+
     /**
      * Finds entities from query using pagination
      *
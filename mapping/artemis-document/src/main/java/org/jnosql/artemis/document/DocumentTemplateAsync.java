@@ -16,13 +16,17 @@ package org.jnosql.artemis.document;
 
 
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.reactive.Publishers;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -313,4 +317,194 @@ public interface DocumentTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Saves an entity asynchronously returning a {@link CompletionStage}
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return the stage with the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    default <T> CompletionStage<T> insertStage(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> insert(entity, c));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live returning a {@link CompletionStage}
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @param <T>    the instance type
+     * @return the stage with the entity saved
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    default <T> CompletionStage<T> insertStage(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(c -> insert(entity, ttl, c));
+    }
+
+    /**
+     * Updates an entity asynchronously returning a {@link CompletionStage}
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return the stage with the entity updated
+     * @throws NullPointerException when entity is null
+     */
+    default <T> CompletionStage<T> updateStage(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStages.of(c -> update(entity, c));
+    }
+
+    /**
+     * Deletes an entity asynchronously returning a {@link CompletionStage}
+     *
+     * @param query query to delete an entity
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteStage(DocumentDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> delete(query, c));
+    }
+
+    /**
+     * Deletes by the id asynchronously returning a {@link CompletionStage}
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return the stage completed when the entity is deleted
+     * @throws NullPointerException when either entityClass or id are null
+     */
+    default <T, K> CompletionStage<Void> deleteStage(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStages.of(c -> delete(entityClass, id, c));
+    }
+
+    /**
+     * Finds entities from query asynchronously returning a {@link CompletionStage}
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return the stage with the result of the query
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<List<T>> selectStage(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> select(query, c));
+    }
+
+    /**
+     * Finds entities from query as a {@link Publisher}, the entities are sent following the demand of the
+     * subscriber. By default it runs {@link DocumentTemplateAsync#select(DocumentQuery, Consumer)} at the first request.
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return the {@link Publisher} of the query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Publisher<T> selectPublisher(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.ofAsync(c -> select(query, c));
+    }
+
+    /**
+     * Executes a query asynchronously returning a {@link CompletionStage}
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the result of the query
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<List<T>> queryStage(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(c -> query(query, c));
+    }
+
+    /**
+     * Executes a query to an unique result asynchronously returning a {@link CompletionStage}, when the query
+     * returns more than one result the stage completes exceptionally with {@link NonUniqueResultException}
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the single result
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<Optional<T>> singleResultStage(String query) {
+        return this.<T>queryStage(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        });
+    }
+
+    /**
+     * Executes a query to an unique result asynchronously returning a {@link CompletionStage}, when the query
+     * returns more than one result the stage completes exceptionally with {@link NonUniqueResultException}
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the single result
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<Optional<T>> singleResultStage(DocumentQuery query) {
+        return this.<T>selectStage(query).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        });
+    }
+
+    /**
+     * Finds by the id asynchronously returning a {@link CompletionStage}
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return the stage with the entity found
+     * @throws NullPointerException when either entityClass or id are null
+     */
+    default <T, K> CompletionStage<Optional<T>> findStage(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStages.of(c -> find(entityClass, id, c));
+    }
+
+    /**
+     * Returns the number of elements from document collection asynchronously as a {@link CompletionStage}
+     *
+     * @param documentCollection the document collection
+     * @return the stage with the number of elements
+     * @throws NullPointerException when documentCollection is null
+     */
+    default CompletionStage<Long> countStage(String documentCollection) {
+        requireNonNull(documentCollection, "documentCollection is required");
+        return CompletionStages.of(c -> count(documentCollection, c));
+    }
+
+    /**
+     * Returns the number of elements from the entity asynchronously as a {@link CompletionStage}
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the stage with the number of elements
+     * @throws NullPointerException when entityClass is null
+     */
+    default <T> CompletionStage<Long> countStage(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return CompletionStages.of(c -> count(entityClass, c));
+    }
 }
@@ -15,8 +15,17 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -44,4 +53,55 @@ public interface DocumentWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action);
+
+    /**
+     * Executes the workflow to do a bulk interaction on a database document collection, by default it's just
+     * {@link DocumentWorkflow#flow(Object, UnaryOperator)} to each entity.
+     * When ordered, it stops at the first failure and throws its exception, otherwise it goes on and throws
+     * a {@link BulkException} with every failure at the end.
+     *
+     * @param entities the entities to be saved
+     * @param options  the bulk options
+     * @param action   the bulk alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the the entities response
+     * @throws NullPointerException when there is a null parameter or a null entity
+     * @throws BulkException        when the bulk is unordered and at least one entity fails
+     * @see DocumentTemplate#insert(Iterable, BulkOptions)
+     * DocumentTemplate#update(Iterable, BulkOptions)
+     */
+    default <T> Iterable<T> flowAll(Iterable<T> entities, BulkOptions options,
+                                    Function<List<DocumentEntity>, BulkResult<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(action, "action is required");
+
+        UnaryOperator<DocumentEntity> single = e -> {
+            BulkResult<DocumentEntity> result = action.apply(Collections.singletonList(e));
+            if (result.hasFailures()) {
+                throw result.getFailures().get(0).getCause();
+            }
+            return result.getResults().get(0);
+        };
+        List<T> entitiesUpdated = new ArrayList<>();
+        List<BulkFailure<T>> failures = new ArrayList<>();
+        int index = 0;
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            try {
+                entitiesUpdated.add(flow(entity, single));
+            } catch (RuntimeException exception) {
+                if (options.isOrdered()) {
+                    throw exception;
+                }
+                failures.add(BulkFailure.of(index, entity, exception));
+            }
+            index++;
+        }
+        if (!failures.isEmpty()) {
+            throw new BulkException("The bulk operation failed on " + failures.size() + " of " + index
+                    + " entities", failures);
+        }
+        return entitiesUpdated;
+    }
 }
@@ -20,11 +20,14 @@ import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -50,9 +53,15 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 DocumentQuery query = getQuery(method, args);
+                if (isCompletionStage(method)) {
+                    return CompletionStages.<List<Object>>of(c -> getTemplate().select(query, c));
+                }
                 return executeQuery(getCallBack(args), query);
             case DELETE_BY:
                 DocumentDeleteQuery deleteQuery = getDeleteQuery(method, args);
+                if (isCompletionStage(method)) {
+                    return CompletionStages.<Void>of(c -> getTemplate().delete(deleteQuery, c));
+                }
                 return executeDelete(args, deleteQuery);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
@@ -64,8 +73,7 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
                         .withAsyncConsumer(getTemplate()::query)
                         .withPrepareConverter(q -> getTemplate().prepare(q))
                         .build();
-                nativeQuery.execute();
-                return Void.class;
+                return nativeQuery.execute();
             default:
                 return Void.class;
         }
@@ -82,6 +90,10 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
         return Void.class;
     }
 
+    private boolean isCompletionStage(Method method) {
+        return CompletionStage.class.equals(method.getReturnType());
+    }
+
     private Object getCallBack(Object[] args) {
         return args[args.length - 1];
     }
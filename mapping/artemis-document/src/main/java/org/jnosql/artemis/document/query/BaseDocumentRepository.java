@@ -35,7 +35,9 @@ import org.jnosql.query.SelectQuery;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class BaseDocumentRepository {
 
@@ -44,14 +46,22 @@ abstract class BaseDocumentRepository {
 
     protected abstract ClassMapping getClassMapping();
 
+    /**
+     * The method name is parsed just once to each {@link Method}, the parsed query is immutable, thus
+     * on each call it's converted and bound with the arguments.
+     */
+    private final Map<Method, SelectQuery> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, DeleteQuery> deleteQueries = new ConcurrentHashMap<>();
+
     private DocumentObserverParser parser;
 
     private ParamsBinder paramsBinder;
 
 
     protected DocumentQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
+        SelectQuery selectQuery = selectQueries.computeIfAbsent(method,
+                m -> SelectMethodFactory.get().apply(m, getClassMapping().getName()));
         SelectQueryConverter converter = SelectQueryConverter.get();
         DocumentQueryParams queryParams = converter.apply(selectQuery, getParser());
         DocumentQuery query = queryParams.getQuery();
@@ -73,8 +83,8 @@ abstract class BaseDocumentRepository {
     }
 
     protected DocumentDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
+        DeleteQuery deleteQuery = deleteQueries.computeIfAbsent(method,
+                m -> DeleteMethodFactory.get().apply(m, getClassMapping().getName()));
         DeleteQueryConverter converter = DeleteQueryConverter.get();
         DocumentDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
         DocumentDeleteQuery query = queryParams.getQuery();
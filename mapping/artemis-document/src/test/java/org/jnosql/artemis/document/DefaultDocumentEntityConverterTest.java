@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Address;
 import org.jnosql.artemis.model.AppointmentBook;
@@ -29,6 +30,8 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
@@ -48,6 +51,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -65,6 +69,12 @@ public class DefaultDocumentEntityConverterTest {
     @Inject
     private DefaultDocumentEntityConverter converter;
 
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
     private Document[] documents;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -427,6 +437,35 @@ public class DefaultDocumentEntityConverterTest {
         Assertions.assertEquals(contents, entity.find("contents").get().get());
     }
 
+    @Test
+    public void shouldCallFeedObjectWhenItIsOverridden() {
+        List<String> names = new ArrayList<>();
+        AbstractDocumentEntityConverter overridden = new AbstractDocumentEntityConverter() {
+            @Override
+            protected ClassMappings getClassMappings() {
+                return classMappings;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+
+            @Override
+            protected <T> Consumer<String> feedObject(T instance, List<Document> documents,
+                                                      Map<String, FieldMapping> fieldsGroupByName) {
+                return super.feedObject(instance, documents, fieldsGroupByName).andThen(names::add);
+            }
+        };
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        Stream.of(documents).forEach(entity::add);
+
+        Actor actor = overridden.toEntity(Actor.class, entity);
+
+        assertEquals("Otavio", actor.getName());
+        assertThat(names, containsInAnyOrder("_id", "age", "name", "phones", "movieCharacter", "movieRating"));
+    }
+
     private Object getValue(Optional<Document> document) {
         return document.map(Document::getValue).map(Value::get).orElse(null);
     }
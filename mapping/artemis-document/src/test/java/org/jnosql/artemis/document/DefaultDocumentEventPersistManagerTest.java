@@ -19,6 +19,7 @@ import org.jnosql.artemis.EntityPrePersist;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -27,11 +28,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
+import java.util.Collections;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultDocumentEventPersistManagerTest {
@@ -64,6 +71,18 @@ public class DefaultDocumentEventPersistManagerTest {
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
 
+    @Mock
+    private BeanManager beanManager;
+
+    @Mock
+    private ObserverMethod<Object> observer;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(Collections.singleton(observer)).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+    }
+
     @Test
     public void shouldFirePreDocument() {
         DocumentEntity entity = DocumentEntity.of("collection");
@@ -151,9 +170,15 @@ public class DefaultDocumentEventPersistManagerTest {
         assertEquals(query, captor.getValue().getQuery());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        subject.firePreDocument(DocumentEntity.of("collection"));
+        verifyZeroInteractions(documentEntityPrePersistEvent);
+    }
 
     class Jedi {
         private String name;
     }
-
-}
\ No newline at end of file
+}
@@ -27,15 +27,19 @@ import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.reactive.Publishers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -54,6 +58,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -278,6 +283,39 @@ public class DefaultDocumentTemplateAsyncTest {
         await().untilTrue(condition);
     }
 
+    @Test
+    public void shouldSelectPublisher() {
+        DocumentQuery query = select().from("Person").build();
+        DocumentEntity entity = DocumentEntity.of("Person", asList(documents));
+        when(managerMock.selectPublisher(query)).thenReturn(Publishers.of(() -> asList(entity, entity).iterator()));
+
+        List<Person> people = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        subject.<Person>selectPublisher(query).subscribe(new Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                people.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(people.isEmpty());
+        subscription.get().request(1);
+        assertEquals(1, people.size());
+        assertEquals("Name", people.get(0).getName());
+    }
+
     @Test
     public void shouldReturnSingleResult() {
 
@@ -22,6 +22,10 @@ import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.BulkException;
+import org.jnosql.diana.api.BulkFailure;
+import org.jnosql.diana.api.BulkOptions;
+import org.jnosql.diana.api.BulkResult;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
@@ -42,8 +46,10 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -191,11 +197,81 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(Arrays.asList(documentEntity, documentEntity), emptyList()));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock).insert(any(Iterable.class), Mockito.eq(BulkOptions.defaultOptions()));
+        verify(documentEventPersistManager, times(2)).firePreDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePostDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldInsertEntitiesWithBulkOptions() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(10);
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
 
-        subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        subject.insert(singletonList(person), options);
+        verify(managerMock).insert(any(Iterable.class), Mockito.eq(options));
+    }
+
+    @Test
+    public void shouldInsertEntitiesByChunk() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.ordered(2);
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(Arrays.asList(entity, entity), emptyList()))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person, person), options);
+        assertEquals(3, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock, times(2)).insert(any(Iterable.class), Mockito.eq(options));
+        verify(documentEventPersistManager, times(3)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenInsertEntitiesFails() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(singletonList(entity),
+                        singletonList(BulkFailure.of(1, entity, new IllegalStateException()))));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> subject.insert(Arrays.asList(person, person)));
+        verify(documentEventPersistManager).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenInsertEntitiesFailsUnordered() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(1);
+
+        Mockito.when(managerMock
+                .insert(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(emptyList(),
+                        singletonList(BulkFailure.of(0, entity, new IllegalStateException()))))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        BulkException exception = Assertions.assertThrows(BulkException.class,
+                () -> subject.insert(Arrays.asList(person, person), options));
+        assertEquals(1, exception.getFailures().size());
+        assertEquals(0, exception.getFailures().get(0).getIndex());
+        assertEquals(person, exception.getFailures().get(0).getItem());
+        verify(managerMock, times(2)).insert(any(Iterable.class), Mockito.eq(options));
+        verify(documentEventPersistManager).firePostEntity(any(Person.class));
     }
 
     @Test
@@ -204,13 +280,65 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(Arrays.asList(documentEntity, documentEntity), emptyList()));
+
+        Iterable<Person> people = subject.update(Arrays.asList(person, person));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock).update(any(Iterable.class), Mockito.eq(BulkOptions.defaultOptions()));
+        verify(documentEventPersistManager, times(2)).firePreDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePostDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    public void shouldUpdateEntitiesWithBulkOptions() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(10);
+
+        Mockito.when(managerMock
+                .update(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        subject.update(singletonList(person), options);
+        verify(managerMock).update(any(Iterable.class), Mockito.eq(options));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateEntitiesFails() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .update(any(Iterable.class), any(BulkOptions.class)))
+                .thenReturn(BulkResult.of(singletonList(entity),
+                        singletonList(BulkFailure.of(1, entity, new IllegalStateException()))));
 
-        subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> subject.update(Arrays.asList(person, person)));
+        verify(documentEventPersistManager).firePostEntity(any(Person.class));
     }
 
+    @Test
+    public void shouldReturnErrorWhenUpdateEntitiesFailsUnordered() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        BulkOptions options = BulkOptions.unordered(1);
+
+        Mockito.when(managerMock
+                .update(any(Iterable.class), Mockito.eq(options)))
+                .thenReturn(BulkResult.of(emptyList(),
+                        singletonList(BulkFailure.of(0, entity, new IllegalStateException()))))
+                .thenReturn(BulkResult.of(singletonList(entity), emptyList()));
+
+        BulkException exception = Assertions.assertThrows(BulkException.class,
+                () -> subject.update(Arrays.asList(person, person), options));
+        assertEquals(1, exception.getFailures().size());
+        assertEquals(0, exception.getFailures().get(0).getIndex());
+        assertEquals(person, exception.getFailures().get(0).getItem());
+        verify(managerMock, times(2)).update(any(Iterable.class), Mockito.eq(options));
+        verify(documentEventPersistManager).firePostEntity(any(Person.class));
+    }
 
     @Test
     public void shouldDelete() {
@@ -227,6 +355,25 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStream() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(managerMock.stream(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(documentEntity).onClose(() -> closed.set(true)));
+
+        DocumentQuery query = select().from("Person").build();
+        try (Stream<Person> people = subject.stream(query)) {
+            List<Person> result = people.collect(Collectors.toList());
+            assertEquals(1, result.size());
+            assertEquals("Name", result.get(0).getName());
+        }
+        assertTrue(closed.get());
+        verify(managerMock).stream(query);
+        verify(documentEventPersistManager).firePreQuery(query);
+    }
+
 
     @Test
     public void shouldReturnSingleResult() {
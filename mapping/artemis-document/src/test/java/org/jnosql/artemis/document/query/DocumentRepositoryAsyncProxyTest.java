@@ -43,6 +43,7 @@ import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
@@ -267,8 +268,37 @@ public class DocumentRepositoryAsyncProxyTest {
     }
 
 
+    @Test
+    public void shouldFindByAgeAsCompletionStage() {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        ArgumentCaptor<Consumer> consumerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        Person ada = Person.builder().withName("Ada").build();
+
+        CompletionStage<List<Person>> stage = personRepository.findByAge(10);
+        verify(template).select(captor.capture(), consumerCaptor.capture());
+        DocumentCondition condition = captor.getValue().getCondition().get();
+        assertEquals(Document.of("age", 10), condition.getDocument());
+
+        consumerCaptor.getValue().accept(singletonList(ada));
+        assertEquals(singletonList(ada), stage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldFindByIdAsCompletionStage() {
+        ArgumentCaptor<Consumer> consumerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        Person ada = Person.builder().withName("Ada").withId(10L).build();
+
+        CompletionStage<Optional<Person>> stage = personRepository.findByIdStage(10L);
+        verify(template).find(Mockito.eq(Person.class), Mockito.eq(10L), consumerCaptor.capture());
+
+        consumerCaptor.getValue().accept(Optional.of(ada));
+        assertEquals(Optional.of(ada), stage.toCompletableFuture().join());
+    }
+
     interface PersonAsyncRepository extends RepositoryAsync<Person, Long> {
 
+        CompletionStage<List<Person>> findByAge(Integer age);
+
         void deleteByName(String name);
 
         void deleteByName(String name, Consumer<Void> callback);
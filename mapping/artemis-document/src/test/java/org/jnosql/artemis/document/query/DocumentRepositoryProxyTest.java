@@ -188,6 +188,23 @@ public class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindNewValuesWhenMethodIsCalledAgain() {
+
+        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.empty());
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template, Mockito.times(2)).singleResult(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        DocumentCondition first = queries.get(0).getCondition().get();
+        DocumentCondition second = queries.get(1).getCondition().get();
+        assertEquals(Document.of("name", "Ada"), first.getDocument());
+        assertEquals(Document.of("name", "Poliana"), second.getDocument());
+    }
+
     @Test
     public void shouldFindByNameANDAge() {
         Person ada = Person.builder()
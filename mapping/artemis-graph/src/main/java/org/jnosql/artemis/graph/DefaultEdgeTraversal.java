@@ -20,7 +20,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.util.List;
 import java.util.Optional;
@@ -136,24 +135,19 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Optional<EdgeEntity> getSingleResult() {
-        List<EdgeEntity> result = getResultList();
-
-        if(result.isEmpty()) {
-            return Optional.empty();
-        }else if(result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Edge traversal query returns more than one result");
+        return TraversalStreams.singleResult(stream(), "The Edge traversal query returns more than one result");
     }
 
     @Override
     public List<EdgeEntity> getResultList() {
-        return stream().collect(toList());
+        try (Stream<EdgeEntity> stream = stream()) {
+            return stream.collect(toList());
+        }
     }
 
     @Override
     public Stream<EdgeEntity> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(converter::toEdgeEntity);
+        return TraversalStreams.of(flow.apply(supplier.get())).map(converter::toEdgeEntity);
     }
 
     @Override
@@ -18,10 +18,14 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.ObserverUtil.hasObserver;
+
 @ApplicationScoped
 class DefaultGraphEventPersistManager implements GraphEventPersistManager {
 
@@ -44,33 +48,70 @@ class DefaultGraphEventPersistManager implements GraphEventPersistManager {
     @Inject
     private Event<EntityGraphPostPersist> entityGraphPostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean graphEntityPrePersistObserved;
+
+    private boolean graphEntityPostPersistObserved;
+
+    private boolean entityPrePersistObserved;
+
+    private boolean entityPostPersitObserved;
+
+    private boolean entityGraphPrePersistObserved;
+
+    private boolean entityGraphPostPersistObserved;
+
+    @PostConstruct
+    void init() {
+        graphEntityPrePersistObserved = hasObserver(beanManager, GraphEntityPrePersist.class);
+        graphEntityPostPersistObserved = hasObserver(beanManager, GraphEntityPostPersist.class);
+        entityPrePersistObserved = hasObserver(beanManager, EntityPrePersist.class);
+        entityPostPersitObserved = hasObserver(beanManager, EntityPostPersit.class);
+        entityGraphPrePersistObserved = hasObserver(beanManager, EntityGraphPrePersist.class);
+        entityGraphPostPersistObserved = hasObserver(beanManager, EntityGraphPostPersist.class);
+    }
+
     @Override
     public void firePreGraph(Vertex entity) {
-        graphEntityPrePersistEvent.fire(GraphEntityPrePersist.of(entity));
+        if (graphEntityPrePersistObserved) {
+            graphEntityPrePersistEvent.fire(GraphEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostGraph(Vertex entity) {
-        graphEntityPostPersistEvent.fire(GraphEntityPostPersist.of(entity));
+        if (graphEntityPostPersistObserved) {
+            graphEntityPostPersistEvent.fire(GraphEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (entityPostPersitObserved) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreGraphEntity(T entity) {
-        entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        if (entityGraphPrePersistObserved) {
+            entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostGraphEntity(T entity) {
-        entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        if (entityGraphPostPersistObserved) {
+            entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        }
     }
 }
@@ -18,6 +18,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.diana.api.NonUniqueResultException;
 
+import javax.script.CompiledScript;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,8 @@ final class DefaultPreparedStatement implements PreparedStatement {
 
     private final GraphTraversalSource traversalSource;
 
+    private CompiledScript script;
+
     DefaultPreparedStatement(GremlinExecutor executor, String gremlin, GraphTraversalSource traversalSource) {
         this.executor = executor;
         this.gremlin = gremlin;
@@ -52,7 +55,10 @@ final class DefaultPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> List<T> getResultList() {
-        return executor.executeGremlin(traversalSource, gremlin, params);
+        if (script == null) {
+            script = executor.compile(gremlin);
+        }
+        return executor.executeGremlin(traversalSource, script, gremlin, params);
     }
 
     @Override
@@ -16,7 +16,6 @@ package org.jnosql.artemis.graph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.util.List;
 import java.util.Map;
@@ -45,7 +44,7 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Stream<Map<String, Object>> stream() {
-        return flow.apply(supplier.get()).toList().stream();
+        return TraversalStreams.of(flow.apply(supplier.get()));
     }
 
     @Override
@@ -60,19 +59,14 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Optional<Map<String, Object>> getSingleResult() {
-        List<Map<String, Object>> result = getResultList();
-        if (result.isEmpty()) {
-            return Optional.empty();
-        }
-        if (result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Edge traversal query returns more than one result");
+        return TraversalStreams.singleResult(stream(), "The Edge traversal query returns more than one result");
     }
 
     @Override
     public List<Map<String, Object>> getResultList() {
-        return stream().collect(toList());
+        try (Stream<Map<String, Object>> stream = stream()) {
+            return stream.collect(toList());
+        }
     }
 
     @Override
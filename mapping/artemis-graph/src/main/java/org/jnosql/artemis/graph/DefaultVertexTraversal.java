@@ -22,7 +22,6 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Entity;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.Pagination;
-import org.jnosql.diana.api.NonUniqueResultException;
 
 import java.util.List;
 import java.util.Optional;
@@ -183,20 +182,13 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Stream<T> stream() {
-        return flow.apply(supplier.get()).toList().stream()
+        return TraversalStreams.of(flow.apply(supplier.get()))
                 .map(converter::toEntity);
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
-        List<T> result = getResultList();
-
-        if (result.isEmpty()) {
-            return Optional.empty();
-        } else if (result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Vertex traversal query returns more than one result");
+        return TraversalStreams.singleResult(stream(), "The Vertex traversal query returns more than one result");
     }
 
     @Override
@@ -209,8 +201,9 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> List<T> getResultList() {
-        Stream<T> stream = stream();
-        return stream.collect(Collectors.toList());
+        try (Stream<T> stream = stream()) {
+            return stream.collect(Collectors.toList());
+        }
     }
 
     @Override
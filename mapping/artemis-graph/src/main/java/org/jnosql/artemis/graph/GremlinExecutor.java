@@ -19,21 +19,29 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.diana.api.QueryCache;
 
 import javax.script.Bindings;
-import javax.script.ScriptEngine;
+import javax.script.CompiledScript;
 import javax.script.ScriptException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Runs the gremlin queries. Each query is compiled once into a {@link CompiledScript} that is kept on a bounded
+ * {@link QueryCache}, shared by all executors, then every execution evaluates it with fresh bindings,
+ * so the parameters of a prepared statement change without compiling the query again.
+ */
 final class GremlinExecutor {
 
 
     private final GraphConverter converter;
 
-    private static final ScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+    private static final GremlinGroovyScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+
+    private static final QueryCache<CompiledScript> SCRIPTS = QueryCache.of();
 
     GremlinExecutor(GraphConverter converter) {
         this.converter = converter;
@@ -44,12 +52,17 @@ final class GremlinExecutor {
     }
 
     <T> List<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
+        return executeGremlin(traversalSource, compile(gremlin), gremlin, params);
+    }
+
+    <T> List<T> executeGremlin(GraphTraversalSource traversalSource, CompiledScript script, String gremlin,
+                               Map<String, Object> params) {
         try {
             Bindings bindings = ENGINE.createBindings();
             bindings.put("g", traversalSource);
             params.forEach(bindings::put);
 
-            Object eval = ENGINE.eval(gremlin, bindings);
+            Object eval = script.eval(bindings);
             if (eval instanceof GraphTraversal) {
                 return convertToList(((GraphTraversal) eval).toList());
             }
@@ -62,6 +75,25 @@ final class GremlinExecutor {
         }
     }
 
+    /**
+     * Returns the compiled gremlin query from the cache, compiling it when it's not there
+     *
+     * @param gremlin the gremlin query
+     * @return the {@link CompiledScript}
+     * @throws GremlinQueryException when the query cannot be compiled
+     */
+    CompiledScript compile(String gremlin) {
+        return SCRIPTS.get(gremlin, GremlinExecutor::compileScript);
+    }
+
+    private static CompiledScript compileScript(String gremlin) {
+        try {
+            return ENGINE.compile(gremlin);
+        } catch (ScriptException e) {
+            throw new GremlinQueryException("There is an error when executed the gremlin query: " + gremlin, e);
+        }
+    }
+
     private <T> List<T> convertToList(Iterable<?> iterable) {
         List<T> entities = new ArrayList<>();
 
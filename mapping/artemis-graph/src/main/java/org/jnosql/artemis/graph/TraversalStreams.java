@@ -0,0 +1,77 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.jnosql.diana.api.NonUniqueResultException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Utilitarian class to read a {@link Traversal} as a lazy {@link Stream}: each element is taken from the
+ * traversal only when the stream needs it, instead of loading all of them into a list first,
+ * and closing the stream closes the traversal.
+ */
+final class TraversalStreams {
+
+    private TraversalStreams() {
+    }
+
+    /**
+     * Creates a lazy {@link Stream} from the traversal, that closes the traversal when it is closed
+     *
+     * @param traversal the traversal
+     * @param <E>       the element type
+     * @return the {@link Stream} of the traversal
+     */
+    static <E> Stream<E> of(Traversal<?, E> traversal) {
+        return traversal.toStream().onClose(() -> close(traversal));
+    }
+
+    /**
+     * Reads the single element of the stream, it reads at most two elements and then closes the stream.
+     *
+     * @param stream  the stream
+     * @param message the message when there is more than one element
+     * @param <E>     the element type
+     * @return the element otherwise {@link Optional#empty()}
+     * @throws NonUniqueResultException when there is more than one element
+     */
+    static <E> Optional<E> singleResult(Stream<E> stream, String message) {
+        try (Stream<E> elements = stream) {
+            Iterator<E> iterator = elements.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            E element = iterator.next();
+            if (iterator.hasNext()) {
+                throw new NonUniqueResultException(message);
+            }
+            return Optional.of(element);
+        }
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception e) {
+            throw new GremlinQueryException("There is an error when closed the traversal", e);
+        }
+    }
+}
@@ -27,7 +27,8 @@ public interface ValueMapTraversal {
 
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the results are read from the traversal lazily,
+     * as the stream consumes them; close the stream to release the traversal when it is not fully consumed
      *
      * @return the entity result as {@link Stream}
      */
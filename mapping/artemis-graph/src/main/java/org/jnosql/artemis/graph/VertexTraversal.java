@@ -147,7 +147,8 @@ public interface VertexTraversal extends VertexConditionTraversal {
     <T> Optional<T> next();
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the results are read from the traversal lazily,
+     * as the stream consumes them; close the stream to release the traversal when it is not fully consumed
      *
      * @param <T> the entity type
      * @return the entity result as {@link Stream}
@@ -17,6 +17,7 @@ package org.jnosql.artemis.graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -25,9 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultGraphEventPersistManagerTest {
@@ -56,6 +63,18 @@ public class DefaultGraphEventPersistManagerTest {
     @Mock
     private Vertex vertex;
 
+    @Mock
+    private BeanManager beanManager;
+
+    @Mock
+    private ObserverMethod<Object> observer;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(Collections.singleton(observer)).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+    }
+
     @Test
     public void shouldFirePreGraph() {
         subject.firePreGraph(vertex);
@@ -126,9 +145,15 @@ public class DefaultGraphEventPersistManagerTest {
         assertEquals(jedi, value.getValue());
     }
 
-
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        subject.firePreGraph(vertex);
+        verifyZeroInteractions(graphEntityPrePersistEvent);
+    }
 
     class Jedi {
         private String name;
     }
-}
\ No newline at end of file
+}
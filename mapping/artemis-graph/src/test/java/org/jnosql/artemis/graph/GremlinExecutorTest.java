@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import javax.script.CompiledScript;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -34,6 +35,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(CDIExtension.class)
 class GremlinExecutorTest {
@@ -172,4 +176,32 @@ class GremlinExecutorTest {
         List<String> names = people.stream().map(Person::getName).collect(Collectors.toList());
         assertThat(names, containsInAnyOrder("Bruce Banner"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldCompileTheQueryOnce() {
+        CompiledScript script = executor.compile("g.V().has('name', name).toList()");
+        assertSame(script, new GremlinExecutor(converter).compile("g.V().has('name', name).toList()"));
+
+        List<Person> bruce = executor.executeGremlin(graph.traversal(), script, "g.V().has('name', name).toList()",
+                singletonMap("name", "Bruce Banner"));
+        List<Person> natasha = executor.executeGremlin(graph.traversal(), script, "g.V().has('name', name).toList()",
+                singletonMap("name", "Natasha Romanoff"));
+
+        assertEquals("Bruce Banner", bruce.get(0).getName());
+        assertEquals("Natasha Romanoff", natasha.get(0).getName());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryDoesNotCompile() {
+        assertThrows(GremlinQueryException.class, () -> executor.executeGremlin(graph.traversal(), "g.V(("));
+    }
+
+    @Test
+    public void shouldNotKeepTheParamsOfAPreviousExecution() {
+        executor.executeGremlin(graph.traversal(), "g.V().in(param).toList()", singletonMap("param", "loves"));
+        assertThrows(GremlinQueryException.class, () -> executor.executeGremlin(graph.traversal(),
+                "g.V().in(param).toList()"));
+        assertTrue(executor.executeGremlin(graph.traversal(), "g.V().in(param).toList()",
+                singletonMap("param", "hates")).isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TraversalStreamsTest {
+
+    @Test
+    public void shouldReadTheTraversalLazily() throws Exception {
+        Traversal<Object, String> traversal = Mockito.mock(Traversal.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(true).when(traversal).hasNext();
+        Mockito.doReturn("vertex").when(traversal).next();
+        Mockito.doNothing().when(traversal).close();
+
+        try (Stream<String> stream = TraversalStreams.of(traversal)) {
+            assertEquals(Arrays.asList("vertex", "vertex"), stream.limit(2).collect(toList()));
+        }
+        verify(traversal, times(2)).next();
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnSingleResult() {
+        assertEquals(Optional.of("vertex"), TraversalStreams.singleResult(Stream.of("vertex"), "error"));
+        assertFalse(TraversalStreams.singleResult(Stream.empty(), "error").isPresent());
+    }
+
+    @Test
+    public void shouldReadTwoElementsAtMostToSingleResult() {
+        Iterator<String> iterator = Mockito.mock(Iterator.class);
+        when(iterator.next()).thenReturn("vertex");
+        List<Boolean> closed = new ArrayList<>();
+        Stream<String> stream = Stream.generate(iterator::next).onClose(() -> closed.add(true));
+
+        assertThrows(NonUniqueResultException.class, () -> TraversalStreams.singleResult(stream, "error"));
+        verify(iterator, times(2)).next();
+        assertEquals(Collections.singletonList(true), closed);
+    }
+}
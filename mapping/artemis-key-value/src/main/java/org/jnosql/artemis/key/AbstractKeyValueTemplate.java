@@ -15,7 +15,9 @@
 package org.jnosql.artemis.key;
 
 
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.PreparedStatement;
+import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
@@ -26,8 +28,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
@@ -39,10 +47,24 @@ import static java.util.stream.Collectors.toList;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    static final String CHUNK_SIZE_PROPERTY = "artemis.key.chunkSize";
+
+    static final String PARALLEL_CHUNKS_PROPERTY = "artemis.key.parallelChunks";
+
+    private final int chunkSize = Integer.getInteger(CHUNK_SIZE_PROPERTY, 0);
+
+    private final boolean parallelChunks = Boolean.getBoolean(PARALLEL_CHUNKS_PROPERTY);
+
+    private volatile Executor executor;
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
 
+    protected abstract ClassMappings getClassMappings();
+
+    protected abstract Converters getConverters();
+
 
     protected abstract KeyValueWorkflow getFlow();
 
@@ -85,12 +107,106 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> entityClass) {
         requireNonNull(keys, "keys is required");
         requireNonNull(entityClass, "entity class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(entityClass, e.get()))
-                .collect(Collectors.toList());
+        List<K> keyList = StreamSupport.stream(keys.spliterator(), false).collect(toList());
+        if (keyList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        BucketManager manager = getManager();
+        int chunkSize = getChunkSize();
+        List<Value> values;
+        if (chunkSize <= 0 || keyList.size() <= chunkSize) {
+            values = asList(manager.get(keyList));
+        } else {
+            List<List<K>> chunks = IntStream.range(0, (keyList.size() + chunkSize - 1) / chunkSize)
+                    .mapToObj(i -> keyList.subList(i * chunkSize, Math.min(keyList.size(), (i + 1) * chunkSize)))
+                    .collect(toList());
+            if (isParallelChunks()) {
+                Executor chunkExecutor = getExecutor();
+                List<CompletableFuture<List<Value>>> futures = chunks.stream()
+                        .map(c -> CompletableFuture.supplyAsync(() -> asList(manager.get(c)), chunkExecutor))
+                        .collect(toList());
+                values = futures.stream().map(AbstractKeyValueTemplate::join)
+                        .flatMap(List::stream)
+                        .collect(toList());
+            } else {
+                values = chunks.stream().map(c -> asList(manager.get(c)))
+                        .flatMap(List::stream)
+                        .collect(toList());
+            }
+        }
+        return KeyValueEntities.toEntities(keyList, values, entityClass, getConverter(), getClassMappings(),
+                getConverters());
+    }
+
+    /**
+     * The maximum number of keys that {@link KeyValueTemplate#get(Iterable, Class)} sends in each
+     * {@link BucketManager#get(Iterable)} call, zero or less sends all the keys in one call.
+     * The default is the system property {@value #CHUNK_SIZE_PROPERTY} when the template is created, or zero.
+     *
+     * @return the chunk size
+     */
+    protected int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Whether {@link KeyValueTemplate#get(Iterable, Class)} sends the chunks of keys in parallel,
+     * on {@link AbstractKeyValueTemplate#getExecutor()}, instead of one after another.
+     * The default is the system property {@value #PARALLEL_CHUNKS_PROPERTY} when the template is created, or false.
+     *
+     * @return true to send the chunks in parallel
+     */
+    protected boolean isParallelChunks() {
+        return parallelChunks;
+    }
+
+    /**
+     * The {@link Executor} that runs the parallel chunks of {@link KeyValueTemplate#get(Iterable, Class)}.
+     * Those calls block on I/O, so the default is an executor of this template, created on the first use,
+     * with a daemon thread per available processor that stops when it is idle, instead of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return the executor
+     */
+    protected Executor getExecutor() {
+        Executor current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    int threads = Runtime.getRuntime().availableProcessors();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "artemis-key-value-get");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    pool.allowCoreThreadTimeOut(true);
+                    current = pool;
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static List<Value> asList(Iterable<Value> values) {
+        return StreamSupport.stream(values.spliterator(), false).collect(toList());
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exception;
+        }
     }
 
     @Override
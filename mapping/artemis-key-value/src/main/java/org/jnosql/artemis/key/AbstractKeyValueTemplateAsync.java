@@ -0,0 +1,169 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.CompletionStages;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManagerAsync;
+import org.jnosql.diana.api.key.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * This class provides a skeletal implementation of the {@link KeyValueTemplateAsync} interface,
+ * to minimize the effort required to implement this interface.
+ */
+public abstract class AbstractKeyValueTemplateAsync implements KeyValueTemplateAsync {
+
+    private final int chunkSize = Integer.getInteger(AbstractKeyValueTemplate.CHUNK_SIZE_PROPERTY, 0);
+
+    protected abstract KeyValueEntityConverter getConverter();
+
+    protected abstract BucketManagerAsync getManager();
+
+    protected abstract ClassMappings getClassMappings();
+
+    protected abstract Converters getConverters();
+
+    @Override
+    public <T> CompletionStage<T> put(T entity) {
+        requireNonNull(entity, "entity is required");
+        KeyValueEntity<Object> keyValue = getConverter().toKeyValue(entity);
+        return getManager().put(keyValue).thenApply(v -> entity);
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl class is required");
+        KeyValueEntity<Object> keyValue = getConverter().toKeyValue(entity);
+        return getManager().put(keyValue, ttl).thenApply(v -> entity);
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> get(K key, Class<T> entityClass) {
+        requireNonNull(key, "key is required");
+        requireNonNull(entityClass, "entity class is required");
+
+        return getManager().get(key).thenApply(value ->
+                value.map(v -> getConverter().toEntity(entityClass, KeyValueEntity.of(key, v)))
+                        .filter(Objects::nonNull));
+    }
+
+    @Override
+    public <K, T> CompletionStage<List<T>> get(Iterable<K> keys, Class<T> entityClass) {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(entityClass, "entity class is required");
+        List<K> keyList = StreamSupport.stream(keys.spliterator(), false).collect(toList());
+        if (keyList.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        BucketManagerAsync manager = getManager();
+        int chunkSize = getChunkSize();
+        CompletionStage<List<Value>> values;
+        if (chunkSize <= 0 || keyList.size() <= chunkSize) {
+            values = manager.get(keyList).thenApply(AbstractKeyValueTemplateAsync::asList);
+        } else {
+            List<CompletionStage<Iterable<Value>>> chunks = IntStream
+                    .range(0, (keyList.size() + chunkSize - 1) / chunkSize)
+                    .mapToObj(i -> keyList.subList(i * chunkSize, Math.min(keyList.size(), (i + 1) * chunkSize)))
+                    .map(manager::get)
+                    .collect(toList());
+            values = CompletionStages.all(chunks)
+                    .thenApply(l -> l.stream().map(AbstractKeyValueTemplateAsync::asList)
+                            .flatMap(List::stream).collect(toList()));
+        }
+        return values.thenApply(l -> KeyValueEntities.toEntities(keyList, l, entityClass, getConverter(),
+                getClassMappings(), getConverters()));
+    }
+
+    /**
+     * The maximum number of keys that {@link KeyValueTemplateAsync#get(Iterable, Class)} sends in each
+     * {@link BucketManagerAsync#get(Iterable)} call, zero or less sends all the keys in one call.
+     * The chunks are sent at the same time and the results keep the order of the keys.
+     * The default is the system property {@value AbstractKeyValueTemplate#CHUNK_SIZE_PROPERTY} when the template is created,
+     * or zero.
+     *
+     * @return the chunk size
+     */
+    protected int getChunkSize() {
+        return chunkSize;
+    }
+
+    private static List<Value> asList(Iterable<Value> values) {
+        return StreamSupport.stream(values.spliterator(), false).collect(toList());
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(K key) {
+        requireNonNull(key, "key is required");
+        return getManager().remove(key);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return getManager().remove(keys);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> query(String query, Class<T> entityClass) {
+        requireNonNull(query, "query is required");
+        return getManager().query(query).thenApply(values -> {
+            if (!values.isEmpty()) {
+                requireNonNull(entityClass, "entityClass is required");
+                return values.stream().map(v -> v.get(entityClass)).collect(toList());
+            }
+            return Collections.emptyList();
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> getSingleResult(String query, Class<T> entityClass) {
+        return query(query, entityClass).thenApply(result -> {
+            if (result.isEmpty()) {
+                return Optional.empty();
+            }
+            if (result.size() == 1) {
+                return Optional.ofNullable(result.get(0));
+            }
+            throw new NonUniqueResultException("No Unique result found to the query: " + query);
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> query(String query) {
+        requireNonNull(query, "query is required");
+        return getManager().query(query).thenApply(values -> null);
+    }
+
+}
@@ -17,7 +17,6 @@ package org.jnosql.artemis.key;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 public abstract class AbstractKeyValueWorkflow implements KeyValueWorkflow {
@@ -30,60 +29,22 @@ public abstract class AbstractKeyValueWorkflow implements KeyValueWorkflow {
 
     @Override
     public <T> T flow(T entity, UnaryOperator<KeyValueEntity<?>> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
-    }
-
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity<?>> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getEventPersistManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreKeyValueEntity = t -> {
-            getEventPersistManager().firePreKeyValueEntity(t);
-            return t;
-        };
-
-        Function<T, KeyValueEntity<?>> convertKeyValue = t -> getConverter().toKeyValue(t);
-
-        UnaryOperator<KeyValueEntity<?>> firePreDocument = t -> {
-            getEventPersistManager().firePreKeyValue(t);
-            return t;
-        };
-
-        UnaryOperator<KeyValueEntity<?>> firePostDocument = t -> {
-            getEventPersistManager().firePostKeyValue(t);
-            return t;
-        };
-
-        Function<KeyValueEntity<?>, T> converterEntity = t -> getConverter().toEntity((Class<T>) entity.getClass(), t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getEventPersistManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostKeyValueEntity = t -> {
-            getEventPersistManager().firePostKeyValueEntity(t);
-            return t;
-        };
-
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreKeyValueEntity)
-                .andThen(convertKeyValue)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostKeyValueEntity);
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        KeyValueEventPersistManager eventManager = getEventPersistManager();
+        KeyValueEntityConverter converter = getConverter();
+
+        eventManager.firePreEntity(entity);
+        eventManager.firePreKeyValueEntity(entity);
+        KeyValueEntity<?> keyValue = converter.toKeyValue(entity);
+        eventManager.firePreKeyValue(keyValue);
+
+        KeyValueEntity<?> keyValueUpdated = action.apply(keyValue);
+
+        eventManager.firePostKeyValue(keyValueUpdated);
+        T entityUpdated = converter.toEntity((Class<T>) entity.getClass(), keyValueUpdated);
+        eventManager.firePostEntity(entityUpdated);
+        eventManager.firePostKeyValueEntity(entityUpdated);
+        return entityUpdated;
     }
 }
\ No newline at end of file
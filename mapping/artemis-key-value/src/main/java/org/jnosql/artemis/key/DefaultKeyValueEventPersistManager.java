@@ -19,9 +19,15 @@ import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.ObserverUtil.hasObserver;
+
+@ApplicationScoped
 class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager {
 
     @Inject
@@ -42,34 +48,71 @@ class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager
     @Inject
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean keyValueEntityPrePersistObserved;
+
+    private boolean keyValueEntityPostPersistObserved;
+
+    private boolean entityPrePersistObserved;
+
+    private boolean entityPostPersitObserved;
+
+    private boolean entityKeyValuePrePersistObserved;
+
+    private boolean entityKeyValuePostPersistObserved;
+
+    @PostConstruct
+    void init() {
+        keyValueEntityPrePersistObserved = hasObserver(beanManager, KeyValueEntityPrePersist.class);
+        keyValueEntityPostPersistObserved = hasObserver(beanManager, KeyValueEntityPostPersist.class);
+        entityPrePersistObserved = hasObserver(beanManager, EntityPrePersist.class);
+        entityPostPersitObserved = hasObserver(beanManager, EntityPostPersit.class);
+        entityKeyValuePrePersistObserved = hasObserver(beanManager, EntityKeyValuePrePersist.class);
+        entityKeyValuePostPersistObserved = hasObserver(beanManager, EntityKeyValuePostPersist.class);
+    }
+
 
     @Override
     public void firePreKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        if (keyValueEntityPrePersistObserved) {
+            keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        if (keyValueEntityPostPersistObserved) {
+            keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (entityPostPersitObserved) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreKeyValueEntity(T entity) {
-        entityKeyValuePrePersist.fire(EntityKeyValuePrePersist.of(entity));
+        if (entityKeyValuePrePersistObserved) {
+            entityKeyValuePrePersist.fire(EntityKeyValuePrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostKeyValueEntity(T entity) {
-        entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
+        if (entityKeyValuePostPersistObserved) {
+            entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
+        }
     }
 }
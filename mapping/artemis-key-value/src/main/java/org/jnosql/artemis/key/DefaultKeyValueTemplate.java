@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.key;
 
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.key.BucketManager;
 
 import javax.enterprise.inject.Instance;
@@ -29,11 +31,18 @@ class DefaultKeyValueTemplate extends AbstractKeyValueTemplate {
 
     private KeyValueWorkflow flow;
 
+    private ClassMappings classMappings;
+
+    private Converters converters;
+
     @Inject
-    DefaultKeyValueTemplate(KeyValueEntityConverter converter, Instance<BucketManager> manager, KeyValueWorkflow flow) {
+    DefaultKeyValueTemplate(KeyValueEntityConverter converter, Instance<BucketManager> manager, KeyValueWorkflow flow,
+                            ClassMappings classMappings, Converters converters) {
         this.converter = converter;
         this.manager = manager;
         this.flow = flow;
+        this.classMappings = classMappings;
+        this.converters = converters;
     }
 
     DefaultKeyValueTemplate() {
@@ -53,4 +62,14 @@ class DefaultKeyValueTemplate extends AbstractKeyValueTemplate {
     protected KeyValueWorkflow getFlow() {
         return flow;
     }
+
+    @Override
+    protected ClassMappings getClassMappings() {
+        return classMappings;
+    }
+
+    @Override
+    protected Converters getConverters() {
+        return converters;
+    }
 }
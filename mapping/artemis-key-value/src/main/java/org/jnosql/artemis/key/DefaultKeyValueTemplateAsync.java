@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.key.BucketManagerAsync;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+/**
+ * The default implementation of {@link KeyValueTemplateAsync}
+ */
+class DefaultKeyValueTemplateAsync extends AbstractKeyValueTemplateAsync {
+
+    private KeyValueEntityConverter converter;
+
+    private Instance<BucketManagerAsync> manager;
+
+    private ClassMappings classMappings;
+
+    private Converters converters;
+
+    @Inject
+    DefaultKeyValueTemplateAsync(KeyValueEntityConverter converter, Instance<BucketManagerAsync> manager,
+                                 ClassMappings classMappings, Converters converters) {
+        this.converter = converter;
+        this.manager = manager;
+        this.classMappings = classMappings;
+        this.converters = converters;
+    }
+
+    DefaultKeyValueTemplateAsync() {
+    }
+
+    @Override
+    protected KeyValueEntityConverter getConverter() {
+        return converter;
+    }
+
+    @Override
+    protected BucketManagerAsync getManager() {
+        return manager.get();
+    }
+
+    @Override
+    protected ClassMappings getClassMappings() {
+        return classMappings;
+    }
+
+    @Override
+    protected Converters getConverters() {
+        return converters;
+    }
+}
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.key;
 
 
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.key.BucketManager;
 
 import javax.enterprise.inject.Vetoed;
@@ -27,11 +29,15 @@ class DefaultKeyValueTemplateProducer implements KeyValueTemplateProducer {
     private KeyValueEntityConverter converter;
     @Inject
     private KeyValueWorkflow flow;
+    @Inject
+    private ClassMappings classMappings;
+    @Inject
+    private Converters converters;
 
     @Override
     public KeyValueTemplate get(BucketManager manager) {
         Objects.requireNonNull(manager, "manager is required");
-        return new ProducerKeyValueTemplate(converter, flow, manager);
+        return new ProducerKeyValueTemplate(converter, flow, manager, classMappings, converters);
     }
 
     @Vetoed
@@ -43,10 +49,17 @@ class DefaultKeyValueTemplateProducer implements KeyValueTemplateProducer {
 
         private BucketManager manager;
 
-        ProducerKeyValueTemplate(KeyValueEntityConverter converter, KeyValueWorkflow flow, BucketManager manager) {
+        private ClassMappings classMappings;
+
+        private Converters converters;
+
+        ProducerKeyValueTemplate(KeyValueEntityConverter converter, KeyValueWorkflow flow, BucketManager manager,
+                                 ClassMappings classMappings, Converters converters) {
             this.converter = converter;
             this.flow = flow;
             this.manager = manager;
+            this.classMappings = classMappings;
+            this.converters = converters;
         }
 
         ProducerKeyValueTemplate() {
@@ -66,5 +79,15 @@ class DefaultKeyValueTemplateProducer implements KeyValueTemplateProducer {
         protected KeyValueWorkflow getFlow() {
             return flow;
         }
+
+        @Override
+        protected ClassMappings getClassMappings() {
+            return classMappings;
+        }
+
+        @Override
+        protected Converters getConverters() {
+            return converters;
+        }
     }
 }
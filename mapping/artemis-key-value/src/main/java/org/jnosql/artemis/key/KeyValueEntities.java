@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.KeyValueEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pairs the values of a multi-get with the requested keys through the {@link org.jnosql.artemis.Id} of the entity,
+ * because a provider does not need to return the values in the order of the keys.
+ */
+final class KeyValueEntities {
+
+    private KeyValueEntities() {
+    }
+
+    /**
+     * Converts the values to entities, in the order of the keys, skipping the keys without a value
+     * and the values whose id was not requested.
+     *
+     * @param keys          the requested keys
+     * @param values        the values returned to those keys
+     * @param entityClass   the entity class
+     * @param converter     the converter
+     * @param classMappings the class mappings
+     * @param converters    the converters of the id
+     * @param <K>           the key type
+     * @param <T>           the entity type
+     * @return the entities
+     * @throws IdNotFoundException when the entity class hasn't a field with {@link org.jnosql.artemis.Id}
+     */
+    static <K, T> List<T> toEntities(List<K> keys, Iterable<Value> values, Class<T> entityClass,
+                                     KeyValueEntityConverter converter, ClassMappings classMappings,
+                                     Converters converters) {
+        ClassMapping mapping = classMappings.get(entityClass);
+        FieldMapping id = mapping.getId().orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Map<Object, T> beans = new HashMap<>();
+        for (Value value : values) {
+            T bean = value.get(entityClass);
+            if (Objects.nonNull(bean)) {
+                Object key = id.read(bean);
+                if (Objects.nonNull(key)) {
+                    beans.put(ConverterUtil.getValue(key, converters, id), bean);
+                }
+            }
+        }
+
+        List<T> entities = new ArrayList<>(beans.size());
+        for (K key : keys) {
+            T bean = beans.get(ConverterUtil.getValue(key, converters, id));
+            if (Objects.nonNull(bean)) {
+                entities.add(converter.toEntity(entityClass, KeyValueEntity.of(key, Value.of(bean))));
+            }
+        }
+        return entities;
+    }
+}
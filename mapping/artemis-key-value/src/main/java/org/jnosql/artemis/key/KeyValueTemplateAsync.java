@@ -0,0 +1,171 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.CompletionStages;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+
+/**
+ * This interface that represents the common operation between an entity and KeyValueEntity asynchronously,
+ * each operation returns a {@link CompletionStage} instead of blocking until the database answers.
+ *
+ * @see KeyValueTemplate
+ */
+public interface KeyValueTemplateAsync {
+
+    /**
+     * Saves the entity asynchronously
+     *
+     * @param entity the entity to be insert
+     * @param <T>    the entity type
+     * @return the {@link CompletionStage} of the entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> put(T entity);
+
+    /**
+     * Saves the entity with time to live asynchronously
+     *
+     * @param entity the entity to be insert
+     * @param ttl    the defined time to live
+     * @param <T>    the entity type
+     * @return the {@link CompletionStage} of the entity
+     * @throws NullPointerException          when entity is null
+     * @throws UnsupportedOperationException when expired time is not supported
+     */
+    <T> CompletionStage<T> put(T entity, Duration ttl);
+
+    /**
+     * Saves the {@link Iterable} of entities asynchronously
+     *
+     * @param entities keys to be insert
+     * @param <T>      the entity type
+     * @return the {@link CompletionStage} of the entities
+     * @throws NullPointerException when the iterable is null
+     */
+    default <T> CompletionStage<List<T>> put(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletionStages.all(StreamSupport.stream(entities.spliterator(), false)
+                .map(this::put).collect(toList()));
+    }
+
+    /**
+     * Saves the {@link Iterable} of entities with a defined time to live asynchronously
+     *
+     * @param entities entities to be insert
+     * @param ttl      the time to entity expire
+     * @param <T>      the entity type
+     * @return the {@link CompletionStage} of the entities
+     * @throws NullPointerException          when the iterable is null
+     * @throws UnsupportedOperationException when expired time is not supported
+     */
+    default <T> CompletionStage<List<T>> put(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.all(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> put(e, ttl)).collect(toList()));
+    }
+
+    /**
+     * Finds the Value from a key asynchronously
+     *
+     * @param key         the key
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @param entityClass the entity class to convert the result
+     * @return the {@link CompletionStage} of the {@link Optional}, when is not found will be {@link Optional#empty()}
+     * @throws NullPointerException when the key is null
+     */
+    <K, T> CompletionStage<Optional<T>> get(K key, Class<T> entityClass);
+
+    /**
+     * Finds a list of values from keys asynchronously
+     *
+     * @param keys        the keys to be used in this query
+     * @param entityClass the entity class
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @return the {@link CompletionStage} of the list of result
+     * @throws NullPointerException when either the keys or the entities values are null
+     */
+    <K, T> CompletionStage<List<T>> get(Iterable<K> keys, Class<T> entityClass);
+
+    /**
+     * Executes query in the database asynchronously
+     *
+     * @param query       the query
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the {@link CompletionStage} of the result list, if either <b>put</b> or <b>remove</b> it will be empty
+     * @throws NullPointerException when query is null, if the query is <b>get</b> the entity class is required
+     */
+    <T> CompletionStage<List<T>> query(String query, Class<T> entityClass);
+
+    /**
+     * Executes query in the database then returns as single result asynchronously
+     *
+     * @param query       the query
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the {@link CompletionStage} of the result {@link Optional}, if either <b>put</b> or <b>remove</b>
+     * it will be {@link Optional#empty()}, when there is more than one result the stage completes exceptionally with
+     * {@link org.jnosql.diana.api.NonUniqueResultException}
+     * @throws NullPointerException when query is null, if the query is <b>get</b> the entity class is required
+     */
+    <T> CompletionStage<Optional<T>> getSingleResult(String query, Class<T> entityClass);
+
+    /**
+     * Executes query in the database asynchronously and don't return result, e.g.: when the query is either
+     * <b>remove</b> or <b>put</b>
+     *
+     * @param query the query
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> query(String query);
+
+    /**
+     * Removes an entity from key asynchronously
+     *
+     * @param key the key bo be used
+     * @param <K> the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> remove(K key);
+
+    /**
+     * Removes entities from keys asynchronously
+     *
+     * @param keys the keys to be used
+     * @param <K>  the key type
+     * @return the {@link CompletionStage} of the operation
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> remove(Iterable<K> keys);
+
+}
@@ -0,0 +1,36 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.key.BucketManagerAsync;
+
+/**
+ * The producer of {@link KeyValueTemplateAsync}
+ */
+public interface KeyValueTemplateAsyncProducer {
+
+    /**
+     * creates a {@link KeyValueTemplateAsync}
+     *
+     * @param <T>     the KeyValueTemplateAsync instance
+     * @param manager the manager
+     * @return a new instance
+     * @throws NullPointerException when manager is null
+     */
+    <T extends KeyValueTemplateAsync> T get(BucketManagerAsync manager);
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The template method to key-value {@link RepositoryAsync}
+ */
+public abstract class AbstractKeyValueRepositoryAsync<T, K> implements RepositoryAsync<T, K> {
+
+    private final Class<T> typeClass;
+
+    protected abstract KeyValueTemplateAsync getTemplate();
+
+    public AbstractKeyValueRepositoryAsync(Class<T> typeClass) {
+        this.typeClass = typeClass;
+    }
+
+    @Override
+    public <S extends T> void save(S entity) {
+        requireNonNull(entity, "Entity is required");
+        getTemplate().put(entity);
+    }
+
+    @Override
+    public <S extends T> void save(Iterable<S> entities) {
+        requireNonNull(entities, "entities is required");
+        getTemplate().put(entities);
+    }
+
+    @Override
+    public void deleteById(K id) {
+        requireNonNull(id, "id is required");
+        getTemplate().remove(id);
+    }
+
+    @Override
+    public void findById(K id, Consumer<Optional<T>> callBack) {
+        requireNonNull(callBack, "callBack is required");
+        findByIdStage(id).thenAccept(callBack);
+    }
+
+    @Override
+    public void existsById(K id, Consumer<Boolean> callBack) {
+        requireNonNull(callBack, "callBack is required");
+        existsByIdStage(id).thenAccept(callBack);
+    }
+
+    @Override
+    public CompletionStage<Optional<T>> findByIdStage(K id) {
+        requireNonNull(id, "id is required");
+        return getTemplate().get(id, typeClass);
+    }
+
+    @Override
+    public CompletionStage<Boolean> existsByIdStage(K id) {
+        return findByIdStage(id).thenApply(Optional::isPresent);
+    }
+
+    @Override
+    public void count(Consumer<Long> callback) {
+        throw new UnsupportedOperationException("The key-value type does not support count method");
+    }
+
+    @Override
+    public CompletionStage<Long> countStage() {
+        throw new UnsupportedOperationException("The key-value type does not support count method");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.query.RepositoryType;
+import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * The template method to {@link RepositoryAsync} to key-value
+ *
+ * @param <T> the class type
+ */
+public abstract class AbstractKeyValueRepositoryAsyncProxy<T> implements InvocationHandler {
+
+
+    protected abstract RepositoryAsync getRepository();
+
+    protected abstract KeyValueTemplateAsync getTemplate();
+
+    protected abstract Class<T> getEntityClass();
+
+
+    @Override
+    public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+
+        RepositoryType type = RepositoryType.of(method);
+        switch (type) {
+            case DEFAULT:
+                try {
+                    return method.invoke(getRepository(), args);
+                } catch (InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            case OBJECT_METHOD:
+                return method.invoke(this, args);
+            case JNOSQL_QUERY:
+                Class<T> typeClass = getEntityClass();
+                DynamicAsyncQueryMethodReturn<T> methodReturn = DynamicAsyncQueryMethodReturn.<T>builder()
+                        .withArgs(args)
+                        .withMethod(method)
+                        .withAsyncConsumer((q, c) -> getTemplate().query(q, typeClass).thenAccept(c))
+                        .withPrepareConverter(q -> {
+                            throw new DynamicQueryException("Key Value async repository does not support query "
+                                    + "with parameters: " + q);
+                        })
+                        .build();
+                return methodReturn.execute();
+            default:
+                throw new DynamicQueryException("Key Value repository does not support query method");
+        }
+    }
+}
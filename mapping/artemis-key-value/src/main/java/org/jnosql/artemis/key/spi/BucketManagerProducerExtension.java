@@ -19,10 +19,13 @@ import org.jnosql.artemis.ConfigurationUnit;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.key.query.RepositoryAsyncKeyValueBean;
 import org.jnosql.artemis.key.query.RepositoryKeyValueBean;
 import org.jnosql.artemis.util.RepositoryUnit;
 import org.jnosql.artemis.util.ConfigurationUnitUtils;
 import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.BucketManagerAsync;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
@@ -43,7 +46,9 @@ import java.util.logging.Logger;
 import static org.jnosql.artemis.DatabaseType.KEY_VALUE;
 
 /**
- * Extension to start up {@link org.jnosql.artemis.key.KeyValueTemplate} and {@link org.jnosql.artemis.Repository}
+ * Extension to start up {@link org.jnosql.artemis.key.KeyValueTemplate},
+ * {@link org.jnosql.artemis.key.KeyValueTemplateAsync}, {@link org.jnosql.artemis.Repository} and
+ * {@link org.jnosql.artemis.RepositoryAsync}
  * from the {@link javax.enterprise.inject.Default} and {@link org.jnosql.artemis.Database} qualifier
  */
 public class BucketManagerProducerExtension implements Extension {
@@ -52,14 +57,22 @@ public class BucketManagerProducerExtension implements Extension {
 
     private final Set<DatabaseMetadata> databases = new HashSet<>();
 
+    private final Set<DatabaseMetadata> databasesAsync = new HashSet<>();
+
     private final Collection<Class<?>> crudTypes = new HashSet<>();
 
+    private final Collection<Class<?>> crudAsyncTypes = new HashSet<>();
+
     private final Collection<RepositoryUnit> repositoryUnits = new HashSet<>();
 
     <T, X extends BucketManager> void observes(@Observes final ProcessProducer<T, X> pp) {
         Databases.addDatabase(pp, KEY_VALUE, databases);
     }
 
+    <T, X extends BucketManagerAsync> void observesAsync(@Observes final ProcessProducer<T, X> pp) {
+        Databases.addDatabase(pp, KEY_VALUE, databasesAsync);
+    }
+
     <T extends Repository> void observes(@Observes final ProcessAnnotatedType<T> repo) {
         Class<T> javaClass = repo.getAnnotatedType().getJavaClass();
 
@@ -74,6 +87,20 @@ public class BucketManagerProducerExtension implements Extension {
         }
     }
 
+    <T extends RepositoryAsync> void observesAsync(@Observes final ProcessAnnotatedType<T> repo) {
+        Class<T> javaClass = repo.getAnnotatedType().getJavaClass();
+
+        if (RepositoryAsync.class.equals(javaClass)) {
+            return;
+        }
+
+        if (Arrays.asList(javaClass.getInterfaces()).contains(RepositoryAsync.class)
+                && Modifier.isInterface(javaClass.getModifiers())) {
+            LOGGER.info("Adding a new KeyValueRepositoryAsync as discovered on key-value: " + javaClass);
+            crudAsyncTypes.add(javaClass);
+        }
+    }
+
     <T, R extends Repository<?, ?>> void observes(@Observes ProcessInjectionPoint<T, R> event) {
 
         InjectionPoint injectionPoint = event.getInjectionPoint();
@@ -94,14 +121,19 @@ public class BucketManagerProducerExtension implements Extension {
     }
 
     void onAfterBeanDiscovery(@Observes final AfterBeanDiscovery afterBeanDiscovery, final BeanManager beanManager) {
-        LOGGER.info(String.format("Processing buckets: %d databases crud %d ",
-                databases.size(), crudTypes.size()));
+        LOGGER.info(String.format("Processing buckets: %d databases crud %d and crudAsync %d",
+                databases.size(), crudTypes.size(), crudAsyncTypes.size()));
 
         databases.forEach(type -> {
             final TemplateBean bean = new TemplateBean(beanManager, type.getProvider());
             afterBeanDiscovery.addBean(bean);
         });
 
+        databasesAsync.forEach(type -> {
+            final TemplateAsyncBean bean = new TemplateAsyncBean(beanManager, type.getProvider());
+            afterBeanDiscovery.addBean(bean);
+        });
+
         crudTypes.forEach(type -> {
 
             if (!databases.contains(DatabaseMetadata.DEFAULT_KEY_VALUE)) {
@@ -112,6 +144,16 @@ public class BucketManagerProducerExtension implements Extension {
                     .addBean(new RepositoryKeyValueBean(type, beanManager, database.getProvider())));
         });
 
+        crudAsyncTypes.forEach(type -> {
+
+            if (!databasesAsync.contains(DatabaseMetadata.DEFAULT_KEY_VALUE)) {
+                afterBeanDiscovery.addBean(new RepositoryAsyncKeyValueBean(type, beanManager, ""));
+            }
+
+            databasesAsync.forEach(database -> afterBeanDiscovery
+                    .addBean(new RepositoryAsyncKeyValueBean(type, beanManager, database.getProvider())));
+        });
+
         repositoryUnits.forEach(type -> afterBeanDiscovery.addBean(new RepositoryUnitKeyValueBean(beanManager, type)));
 
     }
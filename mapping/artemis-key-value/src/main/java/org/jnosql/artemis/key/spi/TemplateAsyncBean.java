@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key.spi;
+
+
+import org.jnosql.artemis.DatabaseQualifier;
+import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsyncProducer;
+import org.jnosql.artemis.spi.AbstractBean;
+import org.jnosql.diana.api.key.BucketManagerAsync;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+class TemplateAsyncBean extends AbstractBean<KeyValueTemplateAsync> {
+
+    private final Set<Type> types;
+
+    private final String provider;
+
+    private final Set<Annotation> qualifiers;
+
+    /**
+     * Constructor
+     *
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     */
+    public TemplateAsyncBean(BeanManager beanManager, String provider) {
+        super(beanManager);
+        this.types = Collections.singleton(KeyValueTemplateAsync.class);
+        this.provider = provider;
+        this.qualifiers = Collections.singleton(DatabaseQualifier.ofKeyValue(provider));
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return KeyValueTemplateAsync.class;
+    }
+
+    @Override
+    public KeyValueTemplateAsync create(CreationalContext<KeyValueTemplateAsync> creationalContext) {
+
+        KeyValueTemplateAsyncProducer producer = getInstance(KeyValueTemplateAsyncProducer.class);
+        BucketManagerAsync manager = getManager();
+        return producer.get(manager);
+    }
+
+    private BucketManagerAsync getManager() {
+        Bean<BucketManagerAsync> bean = (Bean<BucketManagerAsync>) getBeanManager().getBeans(BucketManagerAsync.class,
+                DatabaseQualifier.ofKeyValue(provider)).iterator().next();
+        CreationalContext<BucketManagerAsync> ctx = getBeanManager().createCreationalContext(bean);
+        return (BucketManagerAsync) getBeanManager().getReference(bean, BucketManagerAsync.class, ctx);
+    }
+
+    @Override
+    public Set<Type> getTypes() {
+        return types;
+    }
+
+    @Override
+    public Set<Annotation> getQualifiers() {
+        return qualifiers;
+    }
+
+    @Override
+    public String getId() {
+        return KeyValueTemplateAsync.class.getName() + DatabaseType.KEY_VALUE + "-" + provider;
+    }
+
+}
@@ -19,6 +19,7 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.User;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.BucketManagerAsync;
 import org.mockito.Mockito;
 
 import javax.enterprise.inject.Produces;
@@ -51,5 +52,15 @@ public class MockProducer {
         return bucketManager;
     }
 
+    @Produces
+    public BucketManagerAsync getBucketManagerAsync() {
+        return BucketManagerAsync.of(getBucketManager(), Runnable::run);
+    }
+
+    @Produces
+    @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
+    public BucketManagerAsync getBucketManagerAsyncMock() {
+        return BucketManagerAsync.of(getBucketManagerMock(), Runnable::run);
+    }
 
 }
@@ -17,6 +17,7 @@ package org.jnosql.artemis.key;
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 import org.jnosql.diana.api.key.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -25,9 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +61,18 @@ public class DefaultKeyValueEventPersistManagerTest {
     @Mock
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Mock
+    private BeanManager beanManager;
+
+    @Mock
+    private ObserverMethod<Object> observer;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(Collections.singleton(observer)).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+    }
+
     @Test
     public void shouldFirePreColumn() {
         KeyValueEntity entity = KeyValueEntity.of("key", "value");
@@ -121,8 +140,15 @@ public class DefaultKeyValueEventPersistManagerTest {
         assertEquals(actor, value.getValue());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNotObserver() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        subject.firePreKeyValue(KeyValueEntity.of("key", "value"));
+        verifyZeroInteractions(keyValueEntityPrePersistEvent);
+    }
+
     class Actor {
         private String name;
     }
-
-}
\ No newline at end of file
+}
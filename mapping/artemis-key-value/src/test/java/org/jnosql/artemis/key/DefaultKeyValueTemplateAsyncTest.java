@@ -0,0 +1,221 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.model.User;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManagerAsync;
+import org.jnosql.diana.api.key.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(CDIExtension.class)
+@ExtendWith(MockitoExtension.class)
+public class DefaultKeyValueTemplateAsyncTest {
+
+    private static final String KEY = "otaviojava";
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
+    @Mock
+    private BucketManagerAsync manager;
+
+    @Captor
+    private ArgumentCaptor<KeyValueEntity> captor;
+
+    private KeyValueTemplateAsync subject;
+
+    @BeforeEach
+    public void setUp() {
+        Instance<BucketManagerAsync> instance = Mockito.mock(Instance.class);
+        Mockito.lenient().when(instance.get()).thenReturn(manager);
+        this.subject = new DefaultKeyValueTemplateAsync(converter, instance, classMappings, converters);
+    }
+
+    @Test
+    public void shouldPut() {
+        User user = new User(KEY, "otavio", 27);
+        when(manager.put(Mockito.any(KeyValueEntity.class))).thenReturn(completedFuture(null));
+
+        assertEquals(user, join(subject.put(user)));
+        Mockito.verify(manager).put(captor.capture());
+        KeyValueEntity entity = captor.getValue();
+        assertEquals(KEY, entity.getKey());
+        assertEquals(user, entity.getValue().get());
+    }
+
+    @Test
+    public void shouldPutTTL() {
+        Duration duration = Duration.ofSeconds(2L);
+        User user = new User(KEY, "otavio", 27);
+        when(manager.put(Mockito.any(KeyValueEntity.class), Mockito.eq(duration))).thenReturn(completedFuture(null));
+
+        assertEquals(singletonList(user), join(subject.put(singletonList(user), duration)));
+        Mockito.verify(manager).put(captor.capture(), Mockito.eq(duration));
+        assertEquals(KEY, captor.getValue().getKey());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> subject.put((Object) null));
+        assertThrows(NullPointerException.class, () -> subject.get((Object) null, User.class));
+        assertThrows(NullPointerException.class, () -> subject.get(KEY, null));
+        assertThrows(NullPointerException.class, () -> subject.remove((Object) null));
+        assertThrows(NullPointerException.class, () -> subject.query(null));
+    }
+
+    @Test
+    public void shouldGet() {
+        User user = new User(KEY, "otavio", 27);
+        when(manager.get(KEY)).thenReturn(completedFuture(Optional.of(Value.of(user))));
+
+        assertEquals(Optional.of(user), join(subject.get(KEY, User.class)));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenGetIsNotFound() {
+        when(manager.get(KEY)).thenReturn(completedFuture(Optional.empty()));
+
+        assertFalse(join(subject.get(KEY, User.class)).isPresent());
+    }
+
+    @Test
+    public void shouldGetIterable() {
+        User ada = new User("ada", "Ada", 10);
+        User poliana = new User("poliana", "Poliana", 20);
+        when(manager.get(asList("ada", "poliana", "missing"))).thenReturn(completedFuture(
+                asList(Value.of(poliana), Value.of(ada))));
+
+        assertEquals(asList(ada, poliana), join(subject.get(asList("ada", "poliana", "missing"), User.class)));
+    }
+
+    @Test
+    public void shouldGetIterableInChunks() {
+        List<User> users = Arrays.asList(new User("a", "A", 1), new User("b", "B", 2), new User("c", "C", 3));
+        KeyValueTemplateAsync chunked = new DefaultKeyValueTemplateAsync(converter, null, classMappings, converters) {
+            @Override
+            protected BucketManagerAsync getManager() {
+                return manager;
+            }
+
+            @Override
+            protected int getChunkSize() {
+                return 2;
+            }
+        };
+        CompletableFuture<Iterable<Value>> first = new CompletableFuture<>();
+        when(manager.get(asList("a", "b"))).thenReturn(first);
+        when(manager.get(singletonList("c"))).thenReturn(completedFuture(singletonList(Value.of(users.get(2)))));
+
+        CompletionStage<List<User>> result = chunked.get(asList("a", "b", "c"), User.class);
+        assertFalse(result.toCompletableFuture().isDone());
+        first.complete(asList(Value.of(users.get(1)), Value.of(users.get(0))));
+
+        assertEquals(users, join(result));
+    }
+
+    @Test
+    public void shouldRemove() {
+        when(manager.remove(KEY)).thenReturn(completedFuture(null));
+        join(subject.remove(KEY));
+        Mockito.verify(manager).remove(KEY);
+    }
+
+    @Test
+    public void shouldRemoveIterable() {
+        when(manager.remove(singletonList(KEY))).thenReturn(completedFuture(null));
+        join(subject.remove(singletonList(KEY)));
+        Mockito.verify(manager).remove(singletonList(KEY));
+    }
+
+    @Test
+    public void shouldQuery() {
+        User user = new User(KEY, "otavio", 27);
+        when(manager.query("get \"otaviojava\"")).thenReturn(completedFuture(singletonList(Value.of(user))));
+
+        List<User> users = join(subject.query("get \"otaviojava\"", User.class));
+        assertEquals(singletonList(user), users.stream().collect(toList()));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenQueryIsPut() {
+        when(manager.query("remove \"otaviojava\"")).thenReturn(completedFuture(emptyList()));
+
+        assertTrue(join(subject.query("remove \"otaviojava\"", User.class)).isEmpty());
+    }
+
+    @Test
+    public void shouldGetSingleResult() {
+        User user = new User(KEY, "otavio", 27);
+        when(manager.query("get \"otaviojava\"")).thenReturn(completedFuture(singletonList(Value.of(user))));
+
+        assertEquals(Optional.of(user), join(subject.getSingleResult("get \"otaviojava\"", User.class)));
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenThereIsMoreThanOneResult() {
+        when(manager.query("get \"otaviojava\"")).thenReturn(completedFuture(
+                asList(Value.of(new User(KEY, "otavio", 27)), Value.of(new User(KEY, "otavio", 28)))));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> join(subject.getSingleResult("get \"otaviojava\"", User.class)));
+        assertTrue(exception.getCause() instanceof NonUniqueResultException);
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+}
@@ -17,8 +17,10 @@ package org.jnosql.artemis.key;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.artemis.model.User;
+import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
@@ -40,7 +42,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
@@ -62,6 +67,12 @@ public class DefaultKeyValueTemplateTest {
     @Inject
     private KeyValueWorkflow flow;
 
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
     @Mock
     private BucketManager manager;
 
@@ -70,12 +81,14 @@ public class DefaultKeyValueTemplateTest {
 
     private KeyValueTemplate subject;
 
+    private Instance<BucketManager> instance;
+
 
     @BeforeEach
     public void setUp() {
-        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(manager);
-        this.subject = new DefaultKeyValueTemplate(converter, instance, flow);
+        this.subject = new DefaultKeyValueTemplate(converter, instance, flow, classMappings, converters);
     }
 
     @Test
@@ -140,7 +153,7 @@ public class DefaultKeyValueTemplateTest {
     public void shouldGetIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.get(singletonList(KEY))).thenReturn(singletonList(Value.of(user)));
         List<User> userOptional = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
@@ -152,13 +165,68 @@ public class DefaultKeyValueTemplateTest {
     public void shouldReturnEmptyIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.empty());
+        when(manager.get(singletonList(KEY))).thenReturn(Collections.emptyList());
         List<User> userOptional = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
         assertTrue(userOptional.isEmpty());
     }
 
+    @Test
+    public void shouldGetIterableInChunks() {
+        AtomicInteger executions = new AtomicInteger();
+        KeyValueTemplate template = new DefaultKeyValueTemplate(converter, instance, flow, classMappings, converters) {
+            @Override
+            protected int getChunkSize() {
+                return 2;
+            }
+
+            @Override
+            protected boolean isParallelChunks() {
+                return true;
+            }
+
+            @Override
+            protected Executor getExecutor() {
+                return command -> {
+                    executions.incrementAndGet();
+                    command.run();
+                };
+            }
+        };
+        List<String> keys = asList("a", "b", "c", "d", "e");
+        when(manager.get(Mockito.anyList())).thenAnswer(invocation -> {
+            List<String> chunk = invocation.getArgument(0);
+            return chunk.stream().filter(k -> !"c".equals(k))
+                    .map(k -> Value.of(new User(k, k, 20)))
+                    .collect(toList());
+        });
+
+        List<String> nicknames = stream(template.get(keys, User.class).spliterator(), false)
+                .map(User::getNickname).collect(toList());
+
+        assertEquals(asList("a", "b", "d", "e"), nicknames);
+        Mockito.verify(manager).get(asList("a", "b"));
+        Mockito.verify(manager).get(asList("c", "d"));
+        Mockito.verify(manager).get(singletonList("e"));
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    public void shouldPairTheValuesWithTheKeysById() {
+        User ada = new User("ada", "Ada", 10);
+        User poliana = new User("poliana", "Poliana", 20);
+        User otavio = new User(KEY, "otavio", 27);
+        when(manager.get(asList("ada", "poliana", "missing")))
+                .thenReturn(asList(Value.of(otavio), Value.of(poliana), Value.of(ada)));
+
+        List<User> users = stream(subject.get(asList("ada", "poliana", "missing"), User.class).spliterator(), false)
+                .collect(toList());
+
+        assertEquals(asList(ada, poliana), users);
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
     @Test
     public void shouldRemove() {
         subject.remove(KEY);
@@ -0,0 +1,181 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Param;
+import org.jnosql.artemis.Query;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.model.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class KeyValueRepositoryAsyncProxyTest {
+
+    @Mock
+    private KeyValueTemplateAsync template;
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        KeyValueRepositoryAsyncProxy handler = new KeyValueRepositoryAsyncProxy(UserRepository.class, template);
+        userRepository = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class[]{UserRepository.class},
+                handler);
+    }
+
+    @Test
+    public void shouldSave() {
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        User user = new User("ada", "Ada", 10);
+        userRepository.save(user);
+        verify(template).put(captor.capture());
+        assertEquals(user, captor.getValue());
+    }
+
+    @Test
+    public void shouldSaveIterable() {
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        User user = new User("ada", "Ada", 10);
+        userRepository.save(Collections.singleton(user));
+        verify(template).put(captor.capture());
+        assertEquals(user, captor.getValue().iterator().next());
+    }
+
+    @Test
+    public void shouldDelete() {
+        userRepository.deleteById("key");
+        verify(template).remove("key");
+    }
+
+    @Test
+    public void shouldFindById() {
+        User user = new User("ada", "Ada", 10);
+        when(template.get("key", User.class)).thenReturn(completedFuture(Optional.of(user)));
+
+        AtomicReference<Optional<User>> reference = new AtomicReference<>();
+        userRepository.findById("key", reference::set);
+        assertEquals(Optional.of(user), reference.get());
+    }
+
+    @Test
+    public void shouldFindByIdStage() {
+        User user = new User("ada", "Ada", 10);
+        when(template.get("key", User.class)).thenReturn(completedFuture(Optional.of(user)));
+
+        assertEquals(Optional.of(user), userRepository.findByIdStage("key").toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldExistsById() {
+        when(template.get("key", User.class)).thenReturn(completedFuture(Optional.empty()));
+
+        AtomicReference<Boolean> reference = new AtomicReference<>();
+        userRepository.existsById("key", reference::set);
+        assertFalse(reference.get());
+    }
+
+    @Test
+    public void shouldReturnErrorOnCount() {
+        assertThrows(UnsupportedOperationException.class, () -> userRepository.count(c -> {
+        }));
+    }
+
+    @Test
+    public void shouldFindByQuery() {
+        User user = new User("12", "Ada", 10);
+        when(template.query("get \"12\"", User.class)).thenReturn(completedFuture(Collections.singletonList(user)));
+
+        AtomicReference<List<User>> reference = new AtomicReference<>();
+        userRepository.findByQuery(reference::set);
+        assertEquals(Collections.singletonList(user), reference.get());
+    }
+
+    @Test
+    public void shouldFindByQueryAsCompletionStage() {
+        User user = new User("12", "Ada", 10);
+        when(template.query("get \"12\"", User.class)).thenReturn(completedFuture(Collections.singletonList(user)));
+
+        assertEquals(Collections.singletonList(user), userRepository.findByQuery().toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryHasParameters() {
+        CompletionStage<List<User>> stage = userRepository.findByQuery("12");
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> stage.toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof DynamicQueryException);
+        Mockito.verifyZeroInteractions(template);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenExecuteMethodQuery() {
+        Assertions.assertThrows(DynamicQueryException.class, () -> userRepository.findByName("name"));
+    }
+
+    @Test
+    public void shouldReturnToString() {
+        assertNotNull(userRepository.toString());
+    }
+
+    @Test
+    public void shouldReturnEquals() {
+        assertNotNull(userRepository.equals(userRepository));
+    }
+
+    interface UserRepository extends RepositoryAsync<User, String> {
+
+        void findByName(String name);
+
+        @Query("get \"12\"")
+        void findByQuery(Consumer<List<User>> callback);
+
+        @Query("get \"12\"")
+        CompletionStage<List<User>> findByQuery();
+
+        @Query("get @id")
+        CompletionStage<List<User>> findByQuery(@Param("id") String id);
+    }
+
+}
@@ -17,8 +17,10 @@ package org.jnosql.artemis.key.spi;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Database;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.PersonRepositoryAsync;
 import org.jnosql.artemis.UserRepository;
 import org.jnosql.artemis.key.KeyValueTemplate;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.User;
 import org.junit.jupiter.api.Test;
@@ -38,6 +40,16 @@ public class BucketManagerProducerExtensionTest {
     @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
     private KeyValueTemplate repositoryMock;
 
+    @Inject
+    private KeyValueTemplateAsync templateAsync;
+
+    @Inject
+    @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
+    private KeyValueTemplateAsync templateAsyncMock;
+
+    @Inject
+    private PersonRepositoryAsync personRepositoryAsync;
+
     @Inject
     private UserRepository userRepository;
 
@@ -71,4 +83,14 @@ public class BucketManagerProducerExtensionTest {
         assertEquals("keyvalueMock", userMock.getName());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldUseAsync() {
+        Person person = templateAsync.get(10L, Person.class).toCompletableFuture().join().get();
+        Person personMock = templateAsyncMock.get(10L, Person.class).toCompletableFuture().join().get();
+        Person personRepository = personRepositoryAsync.findByIdStage(10L).toCompletableFuture().join().get();
+        assertEquals("Default", person.getName());
+        assertEquals("keyvalueMock", personMock.getName());
+        assertEquals("Default", personRepository.getName());
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.InstanceSupplier;
+
+import java.util.Optional;
+
+/**
+ * The accessors of an entity generated at compile time by {@link EntityProcessor}. The implementations are
+ * registered as services, so {@link ProcessorClassOperation} loads them with {@link java.util.ServiceLoader}.
+ */
+public interface EntityAccessors {
+
+    /**
+     * Returns the class whose accessors were generated
+     *
+     * @return the entity class
+     */
+    Class<?> getEntity();
+
+    /**
+     * Returns the {@link InstanceSupplier} that calls the no-arg constructor of the entity
+     *
+     * @return the {@link InstanceSupplier} or {@link Optional#empty()} when there is no accessible no-arg constructor
+     */
+    Optional<InstanceSupplier> getInstanceSupplier();
+
+    /**
+     * Returns the {@link FieldReader} to the field, either reading the field or calling its getter
+     *
+     * @param field the java field name
+     * @return the {@link FieldReader} or {@link Optional#empty()} when the field is not accessible
+     * @throws NullPointerException when field is null
+     */
+    Optional<FieldReader> getReader(String field);
+
+    /**
+     * Returns the {@link FieldWriter} to the field, either writing the field or calling its setter
+     *
+     * @param field the java field name
+     * @return the {@link FieldWriter} or {@link Optional#empty()} when the field is not accessible
+     * @throws NullPointerException when field is null
+     */
+    Optional<FieldWriter> getWriter(String field);
+}
@@ -0,0 +1,205 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Id;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Renders the Java source of the {@link EntityAccessors} to a class. It follows the rules of the accessors compiled
+ * at runtime: a field is read and written through its public getter and setter, found as
+ * {@link java.beans.PropertyDescriptor} does, and the fields without them are left to reflection.
+ */
+final class EntityAccessorsSource {
+
+    private static final String SUFFIX = "_Accessors";
+
+    private final TypeElement type;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    private final String entity;
+
+    EntityAccessorsSource(TypeElement type, Elements elements, Types types) {
+        this.type = type;
+        this.elements = elements;
+        this.types = types;
+        this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        this.simpleName = localName.replace('$', '_') + SUFFIX;
+        this.entity = type.getQualifiedName().toString();
+    }
+
+    String getName() {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    String getJavaSource() {
+        List<VariableElement> fields = getFields();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * The accessors to ").append(entity).append(", generated by ")
+                .append(EntityProcessor.class.getName()).append(". Do not edit.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ")
+                .append(EntityAccessors.class.getName()).append(" {\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Class<?> getEntity() {\n")
+                .append("        return ").append(entity).append(".class;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.InstanceSupplier> getInstanceSupplier() {\n");
+        if (hasNoArgConstructor()) {
+            source.append("        return java.util.Optional.of(() -> new ").append(entity).append("());\n");
+        } else {
+            source.append("        return java.util.Optional.empty();\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.FieldReader> getReader(String field) {\n")
+                .append("        switch (field) {\n");
+        for (VariableElement field : fields) {
+            getReader(field).ifPresent(reader -> appendCase(source, field, "bean -> " + reader));
+        }
+        source.append("            default:\n")
+                .append("                return java.util.Optional.empty();\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.FieldWriter> getWriter(String field) {\n")
+                .append("        switch (field) {\n");
+        for (VariableElement field : fields) {
+            getWriter(field).ifPresent(writer -> appendCase(source, field, "(bean, value) -> " + writer));
+        }
+        source.append("            default:\n")
+                .append("                return java.util.Optional.empty();\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void appendCase(StringBuilder source, VariableElement field, String lambda) {
+        source.append("            case \"").append(field.getSimpleName()).append("\":\n")
+                .append("                return java.util.Optional.of(").append(lambda).append(");\n");
+    }
+
+    private List<VariableElement> getFields() {
+        List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements());
+        fields.removeIf(f -> f.getModifiers().contains(Modifier.STATIC)
+                || (f.getAnnotation(Column.class) == null && f.getAnnotation(Id.class) == null));
+        return fields;
+    }
+
+    private boolean hasNoArgConstructor() {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private Optional<String> getReader(VariableElement field) {
+        String bean = cast("bean");
+        return getReadMethod(field)
+                .filter(getter -> getWriteMethod(field, getter).isPresent())
+                .map(getter -> bean + '.' + getter.getSimpleName() + "()");
+    }
+
+    private Optional<String> getWriter(VariableElement field) {
+        String bean = cast("bean");
+        return getReadMethod(field)
+                .flatMap(getter -> getWriteMethod(field, getter))
+                .map(setter -> bean + '.' + setter.getSimpleName() + "(("
+                        + erasure(setter.getParameters().get(0).asType()) + ") value)");
+    }
+
+    private Optional<ExecutableElement> getReadMethod(VariableElement field) {
+        String name = capitalize(field.getSimpleName().toString());
+        Optional<ExecutableElement> getter = findMethod("is" + name, 0);
+        if (!getter.isPresent()) {
+            getter = findMethod("get" + name, 0);
+        }
+        return getter.filter(m -> m.getReturnType().getKind() != TypeKind.VOID);
+    }
+
+    private Optional<ExecutableElement> getWriteMethod(VariableElement field, ExecutableElement getter) {
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        return findMethod(name, 1, m -> types.isSameType(types.erasure(m.getParameters().get(0).asType()),
+                types.erasure(getter.getReturnType())));
+    }
+
+    private Optional<ExecutableElement> findMethod(String name, int parameters) {
+        return findMethod(name, parameters, m -> true);
+    }
+
+    private Optional<ExecutableElement> findMethod(String name, int parameters, Predicate<ExecutableElement> filter) {
+        for (Element member : elements.getAllMembers(type)) {
+            if (member instanceof ExecutableElement && member.getSimpleName().contentEquals(name)) {
+                ExecutableElement method = (ExecutableElement) member;
+                if (method.getParameters().size() == parameters
+                        && method.getModifiers().contains(Modifier.PUBLIC)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && filter.test(method)) {
+                    return Optional.of(method);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String cast(String bean) {
+        return "((" + entity + ") " + bean + ')';
+    }
+
+    private String erasure(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The annotation processor that generates an {@link EntityAccessors} to each class annotated with
+ * {@link org.jnosql.artemis.Entity}, {@link org.jnosql.artemis.Embeddable} or
+ * {@link org.jnosql.artemis.MappedSuperclass}, and registers them as services to {@link ProcessorClassOperation}.
+ * Classes that cannot be reached from their package, such as private nested classes, are skipped and use reflection.
+ * On an incremental compilation the service file keeps the accessors registered by the previous ones whose classes still exist.
+ */
+@SupportedAnnotationTypes({"org.jnosql.artemis.Entity", "org.jnosql.artemis.Embeddable",
+        "org.jnosql.artemis.MappedSuperclass"})
+public class EntityProcessor extends AbstractProcessor {
+
+    static final String SERVICE = "META-INF/services/" + EntityAccessors.class.getName();
+
+    private final Set<String> accessors = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        if (!isAccessible(type)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The class " + type.getQualifiedName()
+                    + " is not accessible from its package, it will use reflection", type);
+            return;
+        }
+        EntityAccessorsSource source = new EntityAccessorsSource(type, processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils());
+        if (accessors.contains(source.getName())) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(source.getName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.getJavaSource());
+            }
+            accessors.add(source.getName());
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error when generating the accessors to " + type.getQualifiedName() + ": "
+                            + exception.getMessage(), type);
+        }
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            TypeElement current = (TypeElement) element;
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            NestingKind nesting = current.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (nesting == NestingKind.MEMBER && !current.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void writeServices() {
+        if (accessors.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> services = readServices(filer);
+        services.addAll(accessors);
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error when registering the entities accessors: " + exception.getMessage());
+        }
+    }
+
+    private Set<String> readServices(Filer filer) {
+        Set<String> services = new TreeSet<>();
+        try {
+            FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim)
+                        .filter(service -> !service.isEmpty() && !service.startsWith("#"))
+                        .filter(service -> processingEnv.getElementUtils().getTypeElement(service) != null)
+                        .forEach(services::add);
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            return services;
+        }
+        return services;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.ClassOperation;
+import org.jnosql.artemis.reflection.DefaultReflections;
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldReaderFactory;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.FieldWriterFactory;
+import org.jnosql.artemis.reflection.InstanceSupplier;
+import org.jnosql.artemis.reflection.InstanceSupplierFactory;
+import org.jnosql.artemis.reflection.Reflections;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link ClassOperation} that uses the {@link EntityAccessors} generated by {@link EntityProcessor}, loaded with
+ * {@link ServiceLoader}, so there is no compilation at runtime. It is itself a service of {@link ClassOperation},
+ * thus it is used as soon as this module is in the classpath. The classes and fields without generated accessors
+ * use reflection.
+ */
+public final class ProcessorClassOperation implements ClassOperation {
+
+    private static final Logger LOGGER = Logger.getLogger(ProcessorClassOperation.class.getName());
+
+    private final Map<Class<?>, EntityAccessors> accessors;
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private final InstanceSupplierFactory instanceSupplierFactory = this::getInstanceSupplier;
+
+    private final FieldWriterFactory fieldWriterFactory = this::getWriter;
+
+    private final FieldReaderFactory fieldReaderFactory = this::getReader;
+
+    public ProcessorClassOperation() {
+        this(ServiceLoader.load(EntityAccessors.class));
+    }
+
+    ProcessorClassOperation(Iterable<EntityAccessors> services) {
+        Objects.requireNonNull(services, "services is required");
+        this.accessors = new HashMap<>();
+        Iterator<EntityAccessors> iterator = services.iterator();
+        while (iterator.hasNext()) {
+            try {
+                EntityAccessors accessor = iterator.next();
+                accessors.put(accessor.getEntity(), accessor);
+            } catch (ServiceConfigurationError error) {
+                LOGGER.log(Level.WARNING, "Ignoring an entity accessor that could not be loaded", error);
+            }
+        }
+        LOGGER.info(String.format("Loaded the generated accessors to %d classes", accessors.size()));
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+
+    private InstanceSupplier getInstanceSupplier(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        Optional<InstanceSupplier> supplier = Optional.empty();
+        if (constructor.getParameterCount() == 0) {
+            supplier = getAccessors(constructor.getDeclaringClass())
+                    .flatMap(EntityAccessors::getInstanceSupplier);
+        }
+        return supplier.orElseGet(() -> () -> reflections.newInstance(constructor));
+    }
+
+    private FieldReader getReader(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        return getAccessors(field.getDeclaringClass())
+                .flatMap(a -> a.getReader(field.getName()))
+                .orElseGet(() -> bean -> reflections.getValue(bean, field));
+    }
+
+    private FieldWriter getWriter(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        return getAccessors(field.getDeclaringClass())
+                .flatMap(a -> a.getWriter(field.getName()))
+                .orElseGet(() -> (bean, value) -> reflections.setValue(bean, field, value));
+    }
+
+    private Optional<EntityAccessors> getAccessors(Class<?> entity) {
+        return Optional.ofNullable(accessors.get(entity));
+    }
+}
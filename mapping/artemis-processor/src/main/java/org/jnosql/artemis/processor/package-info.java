@@ -0,0 +1,23 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+/**
+ * This package has an annotation processor that generates, at compile time, the accessors of the classes annotated
+ * with {@link org.jnosql.artemis.Entity}, {@link org.jnosql.artemis.Embeddable} and
+ * {@link org.jnosql.artemis.MappedSuperclass}, and the {@link org.jnosql.artemis.reflection.ClassOperation}
+ * that uses them instead of compiling the accessors at runtime.
+ */
+package org.jnosql.artemis.processor;
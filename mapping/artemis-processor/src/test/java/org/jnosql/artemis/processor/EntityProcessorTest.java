@@ -0,0 +1,80 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EntityProcessorTest {
+
+    @Test
+    public void shouldKeepTheAccessorsOfThePreviousCompilation(@TempDir Path directory) throws IOException {
+        Path output = Files.createDirectory(directory.resolve("classes"));
+        Files.createDirectory(directory.resolve("generated"));
+        compile(output, entity(directory, "Book"));
+        compile(output, entity(directory, "Car"));
+
+        List<String> services = Files.readAllLines(output.resolve(EntityProcessor.SERVICE), StandardCharsets.UTF_8);
+        assertThat(services, contains("sample.Book_Accessors", "sample.Car_Accessors"));
+    }
+
+    @Test
+    public void shouldRemoveTheAccessorsWhoseClassesDoNotExist(@TempDir Path directory) throws IOException {
+        Path output = Files.createDirectory(directory.resolve("classes"));
+        Files.createDirectory(directory.resolve("generated"));
+        compile(output, entity(directory, "Book"));
+        Files.delete(output.resolve("sample/Book.class"));
+        Files.delete(output.resolve("sample/Book_Accessors.class"));
+        compile(output, entity(directory, "Car"));
+
+        List<String> services = Files.readAllLines(output.resolve(EntityProcessor.SERVICE), StandardCharsets.UTF_8);
+        assertThat(services, contains("sample.Car_Accessors"));
+    }
+
+    private Path entity(Path directory, String name) throws IOException {
+        Path source = directory.resolve(name + ".java");
+        String code = "package sample;\n"
+                + "@org.jnosql.artemis.Entity\n"
+                + "public class " + name + " {\n"
+                + "    @org.jnosql.artemis.Id\n"
+                + "    private String name;\n"
+                + "}\n";
+        return Files.write(source, code.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void compile(Path output, Path source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classPath = System.getProperty("java.class.path") + File.pathSeparator + output;
+        Path generated = output.resolveSibling("generated");
+        int result = compiler.run(null, null, null, "-classpath", classPath, "-d", output.toString(),
+                "-s", generated.toString(), "-processor", EntityProcessor.class.getName(), source.toString());
+        assertEquals(0, result);
+    }
+}
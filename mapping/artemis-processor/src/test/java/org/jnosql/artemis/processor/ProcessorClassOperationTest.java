@@ -0,0 +1,161 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.ClassOperation;
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.InstanceSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProcessorClassOperationTest {
+
+    private final ClassOperation operation = new ProcessorClassOperation();
+
+    @Test
+    public void shouldGenerateAccessors() {
+        List<Class<?>> entities = StreamSupport.stream(ServiceLoader.load(EntityAccessors.class).spliterator(), false)
+                .map(EntityAccessors::getEntity)
+                .collect(Collectors.toList());
+        assertThat(entities, containsInAnyOrder(Person.class, Person.Address.class, Animal.class));
+    }
+
+    @Test
+    public void shouldBeLoadedAsClassOperation() {
+        ClassOperation classOperation = ServiceLoader.load(ClassOperation.class).iterator().next();
+        assertTrue(classOperation instanceof ProcessorClassOperation);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> operation.getFieldReaderFactory().apply(null));
+        assertThrows(NullPointerException.class, () -> operation.getFieldWriterFactory().apply(null));
+        assertThrows(NullPointerException.class, () -> operation.getInstanceSupplierFactory().apply(null));
+        assertThrows(NullPointerException.class, () -> new ProcessorClassOperation(null));
+    }
+
+    @Test
+    public void shouldCreateInstance() throws NoSuchMethodException {
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(Person.class.getConstructor());
+        assertTrue(isGenerated(supplier, Person.class));
+        assertTrue(supplier.get() instanceof Person);
+    }
+
+    @Test
+    public void shouldCreateInstanceWithReflectionWhenConstructorIsPrivate() throws NoSuchMethodException {
+        Constructor<Animal> constructor = Animal.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        InstanceSupplier supplier = operation.getInstanceSupplierFactory().apply(constructor);
+        assertFalse(isGenerated(supplier, Animal.class));
+        assertTrue(supplier.get() instanceof Animal);
+    }
+
+    @Test
+    public void shouldUseGetterAndSetter() throws NoSuchFieldException {
+        Field field = Person.class.getDeclaredField("name");
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        assertTrue(isGenerated(reader, Person.class));
+        assertTrue(isGenerated(writer, Person.class));
+
+        Person person = new Person();
+        writer.write(person, "Ada");
+        assertEquals("Ada", person.getName());
+        assertEquals("Ada", reader.read(person));
+    }
+
+    @Test
+    public void shouldUseBooleanGetterAndGenericSetter() throws NoSuchFieldException {
+        Person person = new Person();
+        Field active = Person.class.getDeclaredField("active");
+        Field phones = Person.class.getDeclaredField("phones");
+        operation.getFieldWriterFactory().apply(active).write(person, true);
+        operation.getFieldWriterFactory().apply(phones).write(person, Arrays.asList("123", "456"));
+
+        assertEquals(true, operation.getFieldReaderFactory().apply(active).read(person));
+        assertEquals(Arrays.asList("123", "456"), operation.getFieldReaderFactory().apply(phones).read(person));
+    }
+
+    @Test
+    public void shouldUseReflectionWhenFieldIsNotPrivate() throws ReflectiveOperationException {
+        Field field = accessible(Animal.class.getDeclaredField("age"));
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        assertFalse(isGenerated(reader, Animal.class));
+        assertFalse(isGenerated(writer, Animal.class));
+
+        Animal animal = (Animal) operation.getInstanceSupplierFactory()
+                .apply(accessible(Animal.class.getDeclaredConstructor())).get();
+        writer.write(animal, 10);
+        assertEquals(10, animal.age);
+        assertEquals(10, reader.read(animal));
+    }
+
+    @Test
+    public void shouldAccessNestedClass() throws NoSuchFieldException {
+        Field city = Person.Address.class.getDeclaredField("city");
+        Field country = accessible(Person.Address.class.getDeclaredField("country"));
+        assertTrue(isGenerated(operation.getFieldWriterFactory().apply(city), Person.Address.class));
+        assertTrue(isGenerated(operation.getFieldReaderFactory().apply(city), Person.Address.class));
+        assertFalse(isGenerated(operation.getFieldReaderFactory().apply(country), Person.Address.class));
+
+        Person.Address address = new Person.Address();
+        operation.getFieldWriterFactory().apply(city).write(address, "Salvador");
+        assertEquals("Salvador", address.getCity());
+        assertEquals("Salvador", operation.getFieldReaderFactory().apply(city).read(address));
+        assertEquals("Brazil", operation.getFieldReaderFactory().apply(country).read(address));
+    }
+
+    @Test
+    public void shouldUseReflectionWhenThereIsNotAccessor() throws NoSuchFieldException {
+        Field field = accessible(Person.class.getDeclaredField("secret"));
+        FieldReader reader = operation.getFieldReaderFactory().apply(field);
+        FieldWriter writer = operation.getFieldWriterFactory().apply(field);
+        assertFalse(isGenerated(reader, Person.class));
+        assertFalse(isGenerated(writer, Person.class));
+
+        Person person = new Person();
+        writer.write(person, "secret");
+        assertEquals("secret", reader.read(person));
+    }
+
+    private static boolean isGenerated(Object accessor, Class<?> entity) {
+        String accessors = entity.getName().replace('$', '_') + "_Accessors";
+        return accessor.getClass().getName().startsWith(accessors);
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+        member.setAccessible(true);
+        return member;
+    }
+}